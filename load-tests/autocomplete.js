@@ -0,0 +1,43 @@
+// Simula o kiosk digitando nomes de produtos: uma requisição de autocomplete por tecla.
+//
+//   make load-test SCRIPT=autocomplete BASE_URL=http://localhost:8081
+//
+// Falha se o p99 passar de P99_MS (padrão 50 ms).
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const P99_MS = __ENV.P99_MS || '50';
+const WORDS = ['pão de queijo', 'x-burger', 'açaí', 'refrigerante', 'batata frita', 'sundae', 'café com leite', 'suco de laranja'];
+
+export const options = {
+    scenarios: {
+        keystrokes: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 50 },
+                { duration: '2m', target: 200 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:autocomplete}': [`p(99)<${P99_MS}`],
+        'http_req_failed{endpoint:autocomplete}': ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const word = WORDS[Math.floor(Math.random() * WORDS.length)];
+    for (let i = 1; i <= word.length; i++) {
+        const prefix = encodeURIComponent(word.substring(0, i));
+        const res = http.get(`${BASE_URL}/api/products/autocomplete?prefix=${prefix}`, {
+            tags: { endpoint: 'autocomplete' },
+        });
+        check(res, { 'status 200': (r) => r.status === 200 || (r.status === 400 && word[i - 1] === ' ') });
+        // Intervalo entre teclas de quem digita rápido
+        sleep(0.08 + Math.random() * 0.12);
+    }
+    sleep(1);
+}
@@ -0,0 +1,98 @@
+// Pico do almoço: centenas de kiosks pedindo ao mesmo tempo os mesmos poucos produtos e a categoria LANCHE,
+// enquanto o preço de um deles muda a cada segundo (o que derruba o cache de respostas). Para o efeito aparecer,
+// rode com o MongoDB lento, uma vez com e outra sem o agrupamento de consultas, e compare p99 e vazão:
+//
+//   PRODUCT_COALESCING_ENABLED=false docker compose -f docker-compose.yml -f docker-compose.slow-mongo.yml up -d --build
+//   make load-test SCRIPT=coalescing BASE_URL=http://localhost:8081
+//   PRODUCT_COALESCING_ENABLED=true docker compose -f docker-compose.yml -f docker-compose.slow-mongo.yml up -d
+//   make load-test SCRIPT=coalescing BASE_URL=http://localhost:8081
+//
+// No fim, o teardown imprime quantas consultas foram ao MongoDB e quantas pegaram carona numa idêntica em
+// andamento (products.coalescing.executed / products.coalescing.collapsed).
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '500', 10);
+const DURATION = __ENV.DURATION || '2m';
+const HOT_PRODUCTS = parseInt(__ENV.HOT_PRODUCTS || '5', 10);
+const THINK_MS = parseInt(__ENV.THINK_MS || '50', 10);
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        kiosks: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            exec: 'read',
+        },
+        priceChanges: {
+            executor: 'constant-arrival-rate',
+            rate: 1,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 2,
+            exec: 'write',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{endpoint:byId}': ['p(99)<1000'],
+        'http_req_duration{endpoint:category}': ['p(99)<1000'],
+        'http_req_failed{scenario:kiosks}': ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const batch = [];
+    for (let i = 0; i < HOT_PRODUCTS; i++) {
+        batch.push({
+            name: `Pico do almoço k6 ${i} ${Date.now()}`,
+            description: 'Produto criado pelo teste de carga de agrupamento de consultas',
+            price: 2590,
+            priceForClient: 2290,
+            category: 'LANCHE',
+            quantity: 1000,
+        });
+    }
+    const res = http.post(`${BASE_URL}/api/products/batch`, JSON.stringify(batch), { headers: JSON_HEADERS });
+    check(res, { 'produtos criados': (r) => r.status === 201 });
+    return { ids: res.json('items').map((item) => item.id) };
+}
+
+export function read(data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const byId = http.get(`${BASE_URL}/api/products/${id}`, { tags: { endpoint: 'byId' } });
+    check(byId, { 'produto encontrado': (r) => r.status === 200 });
+    const category = http.get(`${BASE_URL}/api/products/category/LANCHE`, { tags: { endpoint: 'category' } });
+    check(category, { 'categoria listada': (r) => r.status === 200 });
+    if (THINK_MS > 0) {
+        sleep(THINK_MS / 1000);
+    }
+}
+
+export function write(data) {
+    const id = data.ids[0];
+    const current = http.get(`${BASE_URL}/api/products/${id}`, { tags: { endpoint: 'writer' } });
+    if (current.status !== 200) {
+        return;
+    }
+    http.patch(`${BASE_URL}/api/products/${id}`, JSON.stringify({ price: 2500 + Math.floor(Math.random() * 200) }),
+        { headers: { ...JSON_HEADERS, 'If-Match': current.headers['Etag'] }, tags: { endpoint: 'writer' } });
+}
+
+export function teardown(data) {
+    for (const query of ['findById', 'findPageByCategory']) {
+        const executed = counter('products.coalescing.executed', query);
+        const collapsed = counter('products.coalescing.collapsed', query);
+        console.log(`${query}: ${executed} consultas ao MongoDB, ${collapsed} agrupadas`);
+    }
+    http.del(`${BASE_URL}/api/products?ids=${data.ids.join(',')}`);
+}
+
+// Sem o agrupamento ligado a métrica não existe e conta como zero.
+function counter(name, query) {
+    const res = http.get(`${BASE_URL}/actuator/metrics/${name}?tag=query:${query}`);
+    return res.status === 200 ? res.json('measurements.0.value') : 0;
+}
@@ -0,0 +1,103 @@
+// Leituras com 1k e 5k conexões simultâneas, para comparar a stack servlet (padrão) com a reativa (profile
+// reactive, WebFlux + driver reativo do MongoDB). Rode uma vez com cada stack, a servlet primeiro (ela cria os
+// produtos que as duas leem), e compare o resumo:
+//
+//   SPRING_PROFILES_ACTIVE=default docker compose up -d --build
+//   make load-test SCRIPT=reactive-read BASE_URL=http://localhost:8081
+//   SPRING_PROFILES_ACTIVE=reactive docker compose up -d
+//   make load-test SCRIPT=reactive-read BASE_URL=http://localhost:8081
+//
+// Cada VU mantém a própria conexão keep-alive e faz requisições sem pausa (THINK_MS para simular kiosks),
+// então `vus` é o número de conexões abertas. O resumo traz, por cenário (c1k, c5k), p50/p95/p99 e a vazão
+// (`http_reqs`). Só usa endpoints que respondem igual nas duas stacks: busca por id, por nome e faixa de preço.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const DURATION = __ENV.DURATION || '1m';
+const THINK_MS = parseInt(__ENV.THINK_MS || '0', 10);
+const P99_MS = __ENV.P99_MS || '1000';
+const PRODUCTS = 200;
+const NAME = 'Leitura reativa k6';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+    scenarios: {
+        c1k: {
+            executor: 'constant-vus',
+            vus: 1000,
+            duration: DURATION,
+        },
+        c5k: {
+            executor: 'constant-vus',
+            vus: 5000,
+            duration: DURATION,
+            // Depois do c1k, com folga para as conexões anteriores fecharem.
+            startTime: `${parseDuration(DURATION) + 15}s`,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        // Os limites também fazem o resumo separar as métricas por cenário.
+        'http_req_duration{scenario:c1k}': [`p(99)<${P99_MS}`],
+        'http_req_duration{scenario:c5k}': [`p(99)<${P99_MS}`],
+        'http_reqs{scenario:c1k}': ['count>0'],
+        'http_reqs{scenario:c5k}': ['count>0'],
+        'http_req_failed{scenario:c1k}': ['rate<0.01'],
+        'http_req_failed{scenario:c5k}': ['rate<0.01'],
+    },
+};
+
+// Os produtos ficam no catálogo entre as execuções: a stack reativa só tem leitura, então a rodada com ela
+// reaproveita o que a rodada servlet criou.
+export function setup() {
+    const existing = http.get(`${BASE_URL}/api/products/search?name=${encodeURIComponent(NAME)}`);
+    if (existing.status === 200 && existing.json().length >= PRODUCTS) {
+        return { ids: existing.json().map((product) => product.id) };
+    }
+    const batch = [];
+    for (let i = 0; i < PRODUCTS; i++) {
+        batch.push({
+            name: `${NAME} ${i}`,
+            description: 'Produto criado pelo teste de carga de leitura',
+            price: 1000 + i * 10,
+            priceForClient: 900 + i * 10,
+            category: 'LANCHE',
+            quantity: 100,
+        });
+    }
+    const res = http.post(`${BASE_URL}/api/products/batch`, JSON.stringify(batch), { headers: JSON_HEADERS });
+    check(res, { 'produtos criados (rode primeiro com a stack servlet)': (r) => r.status === 201 });
+    return { ids: res.json('items').map((item) => item.id) };
+}
+
+export default function (data) {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.6) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        res = http.get(`${BASE_URL}/api/products/${id}`, { tags: { endpoint: 'byId' } });
+    } else if (roll < 0.8) {
+        res = http.get(`${BASE_URL}/api/products/search?name=${encodeURIComponent(`${NAME} 1`)}`,
+            { tags: { endpoint: 'search' } });
+    } else {
+        const min = 1000 + Math.floor(Math.random() * 1500);
+        res = http.get(`${BASE_URL}/api/products/category/LANCHE/price-range?minPrice=${min}&maxPrice=${min + 500}`,
+            { tags: { endpoint: 'priceRange' } });
+    }
+    check(res, { 'status 200': (r) => r.status === 200 });
+    if (THINK_MS > 0) {
+        sleep(THINK_MS / 1000);
+    }
+}
+
+function parseDuration(value) {
+    const amount = parseFloat(value);
+    if (value.endsWith('m')) {
+        return amount * 60;
+    }
+    if (value.endsWith('h')) {
+        return amount * 3600;
+    }
+    return amount;
+}
@@ -0,0 +1,72 @@
+// Disputa pelo estoque de um único produto: muitas reservas concorrentes de 1 unidade cada.
+//
+//   make load-test SCRIPT=reservations BASE_URL=http://localhost:8081
+//
+// Com STOCK unidades e STOCK + EXTRA tentativas, exatamente STOCK reservas devem passar (200), EXTRA devem
+// ser recusadas (409) e o estoque final deve ser zero. Falha também se o p99 passar de P99_MS (padrão 100 ms).
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const STOCK = parseInt(__ENV.STOCK || '2000', 10);
+const EXTRA = parseInt(__ENV.EXTRA || '500', 10);
+const P99_MS = __ENV.P99_MS || '100';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const reserved = new Counter('reservations_accepted');
+const rejected = new Counter('reservations_rejected');
+
+http.setResponseCallback(http.expectedStatuses(200, 409));
+
+export const options = {
+    scenarios: {
+        contention: {
+            executor: 'shared-iterations',
+            vus: 200,
+            iterations: STOCK + EXTRA,
+            maxDuration: '2m',
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:reserve}': [`p(99)<${P99_MS}`],
+        'http_req_failed{endpoint:reserve}': ['rate==0'],
+        reservations_accepted: [`count==${STOCK}`],
+        reservations_rejected: [`count==${EXTRA}`],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/products`, JSON.stringify({
+        name: `Reserva k6 ${Date.now()}`,
+        description: 'Produto criado pelo teste de carga de reservas',
+        price: 1000,
+        priceForClient: 900,
+        category: 'LANCHE',
+        quantity: STOCK,
+    }), { headers: JSON_HEADERS });
+    check(res, { 'produto criado': (r) => r.status === 201 });
+    return { id: res.json('id') };
+}
+
+export default function (data) {
+    const res = http.post(`${BASE_URL}/api/products/${data.id}/reservations`, JSON.stringify({ quantity: 1 }), {
+        headers: JSON_HEADERS,
+        tags: { endpoint: 'reserve' },
+    });
+    if (res.status === 200) {
+        reserved.add(1);
+    } else if (res.status === 409) {
+        rejected.add(1);
+    }
+    check(res, {
+        'reservado ou sem estoque': (r) => r.status === 200 || r.status === 409,
+        'estoque nunca negativo': (r) => r.status !== 200 || r.json('remaining') >= 0,
+    });
+}
+
+export function teardown(data) {
+    const res = http.get(`${BASE_URL}/api/products/${data.id}`);
+    check(res, { 'estoque final zerado': (r) => r.status === 200 && r.json('quantity') === 0 });
+    http.del(`${BASE_URL}/api/products/${data.id}`);
+}
@@ -0,0 +1,88 @@
+// Maior vazão sustentável com threads de plataforma contra virtual threads, com o MongoDB atrás de um proxy
+// que atrasa cada resposta (docker-compose.slow-mongo.yml). Rode uma vez em cada modo e compare:
+//
+//   PRODUCT_VIRTUAL_THREADS=false docker compose -f docker-compose.yml -f docker-compose.slow-mongo.yml up -d --build
+//   make load-test SCRIPT=virtual-threads BASE_URL=http://localhost:8081
+//   PRODUCT_VIRTUAL_THREADS=true docker compose -f docker-compose.yml -f docker-compose.slow-mongo.yml up -d
+//   make load-test SCRIPT=virtual-threads BASE_URL=http://localhost:8081
+//
+// A taxa de GET /api/products/{id} sobe de START_RPS até MAX_RPS em DURATION. O teste é interrompido quando o
+// p99 passa de P99_MS (padrão 500 ms) ou mais de 1% das requisições falham; `offered_rate` no resumo é a taxa
+// que estava sendo oferecida nesse momento, e o máximo de `vus` é a concorrência em voo que ela exigiu.
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+import { Gauge } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const START_RPS = parseInt(__ENV.START_RPS || '100', 10);
+const MAX_RPS = parseInt(__ENV.MAX_RPS || '5000', 10);
+const DURATION = __ENV.DURATION || '5m';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '5000', 10);
+const P99_MS = __ENV.P99_MS || '500';
+const PRODUCTS = 200;
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const offeredRate = new Gauge('offered_rate');
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-arrival-rate',
+            startRate: START_RPS,
+            timeUnit: '1s',
+            preAllocatedVUs: 500,
+            maxVUs: MAX_VUS,
+            stages: [{ target: MAX_RPS, duration: DURATION }],
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:byId}': [{ threshold: `p(99)<${P99_MS}`, abortOnFail: true, delayAbortEval: '10s' }],
+        'http_req_failed{endpoint:byId}': [{ threshold: 'rate<0.01', abortOnFail: true, delayAbortEval: '10s' }],
+    },
+};
+
+export function setup() {
+    const batch = [];
+    for (let i = 0; i < PRODUCTS; i++) {
+        batch.push({
+            name: `Virtual threads k6 ${i} ${Date.now()}`,
+            description: 'Produto criado pelo teste de carga de virtual threads',
+            price: 1000,
+            priceForClient: 900,
+            category: 'LANCHE',
+            quantity: 100,
+        });
+    }
+    const res = http.post(`${BASE_URL}/api/products/batch`, JSON.stringify(batch), { headers: JSON_HEADERS });
+    check(res, { 'produtos criados': (r) => r.status === 201 });
+    return { ids: res.json('items').map((item) => item.id) };
+}
+
+export default function (data) {
+    const elapsed = exec.instance.currentTestRunDuration / 1000;
+    const total = parseDuration(DURATION);
+    offeredRate.add(Math.round(START_RPS + (MAX_RPS - START_RPS) * Math.min(elapsed / total, 1)));
+
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/api/products/${id}`, { tags: { endpoint: 'byId' } });
+    check(res, { 'produto encontrado': (r) => r.status === 200 });
+}
+
+export function teardown(data) {
+    http.del(`${BASE_URL}/api/products?ids=${data.ids.join(',')}`);
+}
+
+function parseDuration(value) {
+    const amount = parseFloat(value);
+    if (value.endsWith('ms')) {
+        return amount / 1000;
+    }
+    if (value.endsWith('m')) {
+        return amount * 60;
+    }
+    if (value.endsWith('h')) {
+        return amount * 3600;
+    }
+    return amount;
+}
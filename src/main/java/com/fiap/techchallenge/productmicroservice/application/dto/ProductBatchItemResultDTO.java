@@ -0,0 +1,69 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.util.Map;
+
+public class ProductBatchItemResultDTO {
+    public enum Status {
+        CREATED, INVALID, FAILED
+    }
+
+    private int index;
+    private Status status;
+    private String id;
+    private Map<String, String> errors;
+    private Integer code;
+
+    public ProductBatchItemResultDTO() {}
+
+    public ProductBatchItemResultDTO(int index, Status status, String id, Map<String, String> errors) {
+        this(index, status, id, errors, null);
+    }
+
+    public ProductBatchItemResultDTO(int index, Status status, String id, Map<String, String> errors, Integer code) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+        this.code = code;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public void setCode(Integer code) {
+        this.code = code;
+    }
+}
@@ -0,0 +1,46 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.util.List;
+
+public class ProductBatchResponseDTO {
+    private int created;
+    private int rejected;
+    private List<ProductBatchItemResultDTO> items;
+
+    public ProductBatchResponseDTO() {}
+
+    public ProductBatchResponseDTO(List<ProductBatchItemResultDTO> items) {
+        this.items = items;
+        for (ProductBatchItemResultDTO item : items) {
+            if (item.getStatus() == ProductBatchItemResultDTO.Status.CREATED) {
+                created++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ProductBatchItemResultDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductBatchItemResultDTO> items) {
+        this.items = items;
+    }
+}
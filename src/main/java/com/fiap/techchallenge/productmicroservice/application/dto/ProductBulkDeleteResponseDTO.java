@@ -0,0 +1,19 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+public class ProductBulkDeleteResponseDTO {
+    private long deleted;
+
+    public ProductBulkDeleteResponseDTO() {}
+
+    public ProductBulkDeleteResponseDTO(long deleted) {
+        this.deleted = deleted;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(long deleted) {
+        this.deleted = deleted;
+    }
+}
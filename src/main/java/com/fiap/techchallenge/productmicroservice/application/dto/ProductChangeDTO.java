@@ -0,0 +1,56 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.time.LocalDateTime;
+
+public class ProductChangeDTO {
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    private String id;
+    private Type type;
+    private LocalDateTime changedAt;
+    private ProductResponseDTO product;
+
+    public ProductChangeDTO() {}
+
+    public ProductChangeDTO(String id, Type type, LocalDateTime changedAt, ProductResponseDTO product) {
+        this.id = id;
+        this.type = type;
+        this.changedAt = changedAt;
+        this.product = product;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public ProductResponseDTO getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponseDTO product) {
+        this.product = product;
+    }
+}
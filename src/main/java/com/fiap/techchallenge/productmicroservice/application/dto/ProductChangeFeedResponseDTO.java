@@ -0,0 +1,41 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.util.List;
+
+public class ProductChangeFeedResponseDTO {
+    private List<ProductChangeDTO> changes;
+    private String nextToken;
+    private boolean hasMore;
+
+    public ProductChangeFeedResponseDTO() {}
+
+    public ProductChangeFeedResponseDTO(List<ProductChangeDTO> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<ProductChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ProductChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
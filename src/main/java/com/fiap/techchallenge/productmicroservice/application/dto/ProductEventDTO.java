@@ -0,0 +1,62 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+public class ProductEventDTO {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        STOCK,
+        CATALOG
+    }
+
+    private Type type;
+    private String id;
+    private ProductResponseDTO product;
+    private String catalogVersion;
+
+    public ProductEventDTO() {}
+
+    public ProductEventDTO(Type type, String id, ProductResponseDTO product) {
+        this.type = type;
+        this.id = id;
+        this.product = product;
+    }
+
+    public static ProductEventDTO catalog(String catalogVersion) {
+        ProductEventDTO event = new ProductEventDTO(Type.CATALOG, null, null);
+        event.setCatalogVersion(catalogVersion);
+        return event;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public ProductResponseDTO getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponseDTO product) {
+        this.product = product;
+    }
+
+    public String getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public void setCatalogVersion(String catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class ProductLookupRequestDTO {
+    @NotEmpty(message = "Informe ao menos um ID de produto")
+    private List<String> ids;
+
+    public ProductLookupRequestDTO() {}
+
+    public ProductLookupRequestDTO(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.util.List;
+
+public class ProductLookupResponseDTO {
+    private List<ProductResponseDTO> items;
+    private List<String> missingIds;
+
+    public ProductLookupResponseDTO() {}
+
+    public ProductLookupResponseDTO(List<ProductResponseDTO> items, List<String> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    public List<ProductResponseDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponseDTO> items) {
+        this.items = items;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<String> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import java.util.List;
+
+public class ProductPageResponseDTO {
+    private List<ProductResponseDTO> items;
+    private String nextCursor;
+
+    public ProductPageResponseDTO() {}
+
+    public ProductPageResponseDTO(List<ProductResponseDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ProductResponseDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponseDTO> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -15,6 +15,7 @@ public class ProductResponseDTO {
     private Long quantity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public ProductResponseDTO() {}
 
@@ -112,4 +113,12 @@ public class ProductResponseDTO {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+
+public class ProductSuggestionDTO {
+    private String id;
+    private String name;
+    private CategoryEnum category;
+    private Long priceForClient;
+
+    public ProductSuggestionDTO() {}
+
+    public ProductSuggestionDTO(String id, String name, CategoryEnum category, Long priceForClient) {
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.priceForClient = priceForClient;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CategoryEnum getCategory() {
+        return category;
+    }
+
+    public void setCategory(CategoryEnum category) {
+        this.category = category;
+    }
+
+    public Long getPriceForClient() {
+        return priceForClient;
+    }
+
+    public void setPriceForClient(Long priceForClient) {
+        this.priceForClient = priceForClient;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class StockReservationRequestDTO {
+    @NotNull(message = "Quantidade é obrigatória")
+    @Min(value = 1, message = "Quantidade deve ser maior que zero")
+    private Long quantity;
+
+    public StockReservationRequestDTO() {}
+
+    public StockReservationRequestDTO(Long quantity) {
+        this.quantity = quantity;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Long quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fiap.techchallenge.productmicroservice.application.dto;
+
+public class StockReservationResponseDTO {
+    private String productId;
+    private long quantity;
+    private long remaining;
+
+    public StockReservationResponseDTO() {}
+
+    public StockReservationResponseDTO(String productId, long quantity, long remaining) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.remaining = remaining;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public void setProductId(String productId) {
+        this.productId = productId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(long remaining) {
+        this.remaining = remaining;
+    }
+}
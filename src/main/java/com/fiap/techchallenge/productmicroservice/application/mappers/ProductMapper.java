@@ -0,0 +1,102 @@
+package com.fiap.techchallenge.productmicroservice.application.mappers;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeFeedResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.UpdateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChange;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductLookup;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProductMapper {
+
+    private ProductMapper() {
+    }
+
+    public static Product toDomain(CreateProductRequestDTO request) {
+        return new Product(
+                request.getName(),
+                request.getDescription(),
+                request.getImage(),
+                request.getPrice(),
+                request.getPriceForClient(),
+                request.getCategory(),
+                request.getQuantity()
+        );
+    }
+
+    public static ProductPatch toPatch(UpdateProductRequestDTO request) {
+        return new ProductPatch(
+                request.getName(),
+                request.getDescription(),
+                request.getImage(),
+                request.getPrice(),
+                request.getPriceForClient(),
+                request.getCategory(),
+                request.getQuantity()
+        );
+    }
+
+    public static ProductResponseDTO toResponse(Product product) {
+        ProductResponseDTO response = new ProductResponseDTO(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getImage(),
+                product.getPrice(),
+                product.getPriceForClient(),
+                product.getCategory(),
+                product.getQuantity(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+        response.setVersion(product.getVersion());
+        return response;
+    }
+
+    public static ProductSuggestionDTO toSuggestion(Product product) {
+        return new ProductSuggestionDTO(
+                product.getId(),
+                product.getName(),
+                product.getCategory(),
+                product.getPriceForClient()
+        );
+    }
+
+    public static ProductLookupResponseDTO toLookupResponse(ProductLookup lookup) {
+        List<ProductResponseDTO> items = new ArrayList<>(lookup.getItems().size());
+        for (Product product : lookup.getItems()) {
+            items.add(toResponse(product));
+        }
+        return new ProductLookupResponseDTO(items, lookup.getMissingIds());
+    }
+
+    public static ProductPageResponseDTO toPageResponse(ProductPage page) {
+        List<ProductResponseDTO> items = new ArrayList<>(page.getItems().size());
+        for (Product product : page.getItems()) {
+            items.add(toResponse(product));
+        }
+        return new ProductPageResponseDTO(items, page.getNextCursor());
+    }
+
+    public static ProductChangeFeedResponseDTO toChangeFeedResponse(ProductChangePage page) {
+        List<ProductChangeDTO> changes = new ArrayList<>(page.getChanges().size());
+        for (ProductChange change : page.getChanges()) {
+            changes.add(change.isDeleted()
+                    ? new ProductChangeDTO(change.getProductId(), ProductChangeDTO.Type.DELETE, change.getChangedAt(), null)
+                    : new ProductChangeDTO(change.getProductId(), ProductChangeDTO.Type.UPSERT, change.getChangedAt(),
+                            toResponse(change.getProduct())));
+        }
+        return new ProductChangeFeedResponseDTO(changes, page.getNextToken(), page.hasMore());
+    }
+}
@@ -1,100 +1,218 @@
 package com.fiap.techchallenge.productmicroservice.application.services;
 
 import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchItemResultDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBulkDeleteResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeFeedResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
 import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.UpdateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.mappers.ProductMapper;
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.usecases.*;
-import org.modelmapper.ModelMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
     private final CreateProductUseCase createProductUseCase;
+    private final CreateProductsUseCase createProductsUseCase;
     private final FindProductByIdUseCase findProductByIdUseCase;
+    private final FindProductsByIdsUseCase findProductsByIdsUseCase;
     private final FindAllProductsUseCase findAllProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
     private final DeleteProductByIdUseCase deleteProductByIdUseCase;
+    private final DeleteProductsByIdsUseCase deleteProductsByIdsUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final ReleaseStockUseCase releaseStockUseCase;
+    private final UpdateProductUseCase updateProductUseCase;
+    private final FindProductChangesUseCase findProductChangesUseCase;
     private final FindProductsByCategoryUseCase findProductsByCategoryUseCase;
     private final FindProductsByNameUseCase findProductsByNameUseCase;
+    private final AutocompleteProductsUseCase autocompleteProductsUseCase;
     private final FindProductsByCategoryAndPriceRangeUseCase findProductsByCategoryAndPriceRangeUseCase;
     private final FindProductsByCategoryAndPriceRangeManualUseCase findProductsByCategoryAndPriceRangeManualUseCase;
-    private final ModelMapper modelMapper;
+    private final Validator validator;
 
     public ProductService(CreateProductUseCase createProductUseCase,
                          FindProductByIdUseCase findProductByIdUseCase,
                          FindAllProductsUseCase findAllProductsUseCase,
+                         ExportProductsUseCase exportProductsUseCase,
                          DeleteProductByIdUseCase deleteProductByIdUseCase,
                          FindProductsByCategoryUseCase findProductsByCategoryUseCase,
                          FindProductsByNameUseCase findProductsByNameUseCase,
+                         AutocompleteProductsUseCase autocompleteProductsUseCase,
                          FindProductsByCategoryAndPriceRangeUseCase findProductsByCategoryAndPriceRangeUseCase,
                          FindProductsByCategoryAndPriceRangeManualUseCase findProductsByCategoryAndPriceRangeManualUseCase,
-                         ModelMapper modelMapper) {
+                         CreateProductsUseCase createProductsUseCase,
+                         Validator validator,
+                         FindProductsByIdsUseCase findProductsByIdsUseCase,
+                         DeleteProductsByIdsUseCase deleteProductsByIdsUseCase,
+                         ReserveStockUseCase reserveStockUseCase,
+                         ReleaseStockUseCase releaseStockUseCase,
+                         UpdateProductUseCase updateProductUseCase,
+                         FindProductChangesUseCase findProductChangesUseCase) {
+        this.findProductChangesUseCase = findProductChangesUseCase;
+        this.updateProductUseCase = updateProductUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
+        this.releaseStockUseCase = releaseStockUseCase;
+        this.deleteProductsByIdsUseCase = deleteProductsByIdsUseCase;
+        this.findProductsByIdsUseCase = findProductsByIdsUseCase;
         this.createProductUseCase = createProductUseCase;
+        this.createProductsUseCase = createProductsUseCase;
+        this.validator = validator;
         this.findProductByIdUseCase = findProductByIdUseCase;
         this.findAllProductsUseCase = findAllProductsUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
         this.deleteProductByIdUseCase = deleteProductByIdUseCase;
         this.findProductsByCategoryUseCase = findProductsByCategoryUseCase;
         this.findProductsByNameUseCase = findProductsByNameUseCase;
+        this.autocompleteProductsUseCase = autocompleteProductsUseCase;
         this.findProductsByCategoryAndPriceRangeUseCase = findProductsByCategoryAndPriceRangeUseCase;
         this.findProductsByCategoryAndPriceRangeManualUseCase = findProductsByCategoryAndPriceRangeManualUseCase;
-        this.modelMapper = modelMapper;
     }
 
     public ProductResponseDTO createProduct(CreateProductRequestDTO request) {
-        Product product = modelMapper.map(request, Product.class);
+        Product product = ProductMapper.toDomain(request);
         Product savedProduct = createProductUseCase.execute(product);
-        return convertToResponseDTO(savedProduct);
+        return ProductMapper.toResponse(savedProduct);
+    }
+
+    public ProductBatchResponseDTO createProducts(List<CreateProductRequestDTO> requests) {
+        List<ProductBatchItemResultDTO> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        List<Product> products = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Map<String, String> errors = validate(requests.get(i));
+            if (errors.isEmpty()) {
+                try {
+                    products.add(ProductMapper.toDomain(requests.get(i)));
+                    positions.add(i);
+                    continue;
+                } catch (ProductValidationException e) {
+                    errors = Map.of("product", e.getMessage());
+                }
+            }
+            results.set(i, new ProductBatchItemResultDTO(i, ProductBatchItemResultDTO.Status.INVALID, null, errors));
+        }
+        ProductBatch saved = createProductsUseCase.execute(products);
+        for (int j = 0; j < saved.getItems().size(); j++) {
+            int index = positions.get(j);
+            Optional<ProductWriteError> error = saved.getError(j);
+            results.set(index, error.isEmpty()
+                    ? new ProductBatchItemResultDTO(index, ProductBatchItemResultDTO.Status.CREATED,
+                            saved.getItems().get(j).getId(), null)
+                    : new ProductBatchItemResultDTO(index, ProductBatchItemResultDTO.Status.FAILED, null,
+                            Map.of("product", error.get().getMessage()), error.get().getCode()));
+        }
+        return new ProductBatchResponseDTO(results);
     }
 
     public Optional<ProductResponseDTO> findById(String id) {
         return findProductByIdUseCase.execute(id)
-                .map(this::convertToResponseDTO);
+                .map(ProductMapper::toResponse);
     }
 
-    public List<ProductResponseDTO> findAll() {
-        return findAllProductsUseCase.execute()
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+    public boolean exists(String id) {
+        return findProductByIdUseCase.exists(id);
+    }
+
+    public ProductLookupResponseDTO findByIds(List<String> ids) {
+        return ProductMapper.toLookupResponse(findProductsByIdsUseCase.execute(ids));
+    }
+
+    public ProductPageResponseDTO findAll(String cursor, int limit) {
+        return ProductMapper.toPageResponse(findAllProductsUseCase.execute(cursor, limit));
+    }
+
+    public ProductChangeFeedResponseDTO findChanges(String since, int limit) {
+        return ProductMapper.toChangeFeedResponse(findProductChangesUseCase.execute(since, limit));
+    }
+
+    public void exportAll(Consumer<ProductResponseDTO> consumer) {
+        exportProductsUseCase.execute(product -> consumer.accept(ProductMapper.toResponse(product)));
     }
 
     public void deleteById(String id) {
         deleteProductByIdUseCase.execute(id);
     }
 
-    public List<ProductResponseDTO> findByCategory(CategoryEnum category) {
-        return findProductsByCategoryUseCase.execute(category)
-                .stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+    public ProductBulkDeleteResponseDTO deleteByIds(List<String> ids) {
+        return new ProductBulkDeleteResponseDTO(deleteProductsByIdsUseCase.execute(ids));
+    }
+
+    public StockReservationResponseDTO reserveStock(String id, long quantity) {
+        return new StockReservationResponseDTO(id, quantity, reserveStockUseCase.execute(id, quantity));
+    }
+
+    public StockReservationResponseDTO releaseStock(String id, long quantity) {
+        return new StockReservationResponseDTO(id, quantity, releaseStockUseCase.execute(id, quantity));
+    }
+
+    public ProductResponseDTO updateProduct(String id, VersionPrecondition expected, UpdateProductRequestDTO request) {
+        Product updated = updateProductUseCase.execute(id, expected, ProductMapper.toPatch(request));
+        return ProductMapper.toResponse(updated);
+    }
+
+    public ProductPageResponseDTO findByCategory(CategoryEnum category, String cursor, int limit) {
+        return ProductMapper.toPageResponse(findProductsByCategoryUseCase.execute(category, cursor, limit));
     }
 
     public List<ProductResponseDTO> findByName(String name) {
         return findProductsByNameUseCase.execute(name)
                 .stream()
-                .map(this::convertToResponseDTO)
+                .map(ProductMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public List<ProductSuggestionDTO> autocomplete(String prefix, int limit) {
+        return autocompleteProductsUseCase.execute(prefix, limit)
+                .stream()
+                .map(ProductMapper::toSuggestion)
                 .collect(Collectors.toList());
     }
 
     public List<ProductResponseDTO> findByCategoryAndPriceRange(CategoryEnum category, Long minPrice, Long maxPrice) {
         return findProductsByCategoryAndPriceRangeUseCase.execute(category, minPrice, maxPrice)
                 .stream()
-                .map(this::convertToResponseDTO)
+                .map(ProductMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     public List<ProductResponseDTO> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
         return findProductsByCategoryAndPriceRangeManualUseCase.execute(category, minPrice, maxPrice)
                 .stream()
-                .map(this::convertToResponseDTO)
+                .map(ProductMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
-    private ProductResponseDTO convertToResponseDTO(Product product) {
-        return modelMapper.map(product, ProductResponseDTO.class);
+    private Map<String, String> validate(CreateProductRequestDTO request) {
+        if (request == null) {
+            return Map.of("product", "Produto é obrigatório");
+        }
+        Map<String, String> errors = new TreeMap<>();
+        for (ConstraintViolation<CreateProductRequestDTO> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.productmicroservice.application.services;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.mappers.ProductMapper;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.usecases.StreamProductsUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveProductService {
+    private final StreamProductsUseCase streamProductsUseCase;
+
+    public ReactiveProductService(StreamProductsUseCase streamProductsUseCase) {
+        this.streamProductsUseCase = streamProductsUseCase;
+    }
+
+    public Mono<ProductResponseDTO> findById(String id) {
+        return streamProductsUseCase.findById(id).map(ProductMapper::toResponse);
+    }
+
+    public Flux<ProductResponseDTO> findAll() {
+        return streamProductsUseCase.findAll().map(ProductMapper::toResponse);
+    }
+
+    public Flux<ProductResponseDTO> findByCategory(CategoryEnum category) {
+        return streamProductsUseCase.findByCategory(category).map(ProductMapper::toResponse);
+    }
+
+    public Flux<ProductResponseDTO> findByName(String name) {
+        return streamProductsUseCase.findByName(name).map(ProductMapper::toResponse);
+    }
+
+    public Flux<ProductResponseDTO> findByCategoryAndPriceRange(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return streamProductsUseCase.findByCategoryAndPriceRange(category, minPrice, maxPrice)
+                .map(ProductMapper::toResponse);
+    }
+}
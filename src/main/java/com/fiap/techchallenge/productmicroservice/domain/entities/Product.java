@@ -1,5 +1,7 @@
 package com.fiap.techchallenge.productmicroservice.domain.entities;
 
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -19,6 +21,7 @@ public class Product {
     private Long quantity;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public Product() {
     }
@@ -44,6 +47,23 @@ public class Product {
         this.id = id;
     }
 
+    public static Product restore(String id, String name, String description, String image,
+                                  Long price, Long priceForClient, CategoryEnum category, Long quantity,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Product product = new Product();
+        product.id = id;
+        product.name = name;
+        product.description = description;
+        product.image = image;
+        product.price = price;
+        product.priceForClient = priceForClient;
+        product.category = category;
+        product.quantity = quantity;
+        product.createdAt = createdAt;
+        product.updatedAt = updatedAt;
+        return product;
+    }
+
     public void updatePrice(Long newPrice) {
         validatePrice(newPrice);
         this.price = newPrice;
@@ -58,23 +78,23 @@ public class Product {
 
     private void validateRequiredFields(String name, Long price, CategoryEnum category) {
         if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException(REQUIRED_NAME_MESSAGE);
+            throw new ProductValidationException(REQUIRED_NAME_MESSAGE);
         }
         validatePrice(price);
         if (category == null) {
-            throw new IllegalArgumentException(REQUIRED_CATEGORY_MESSAGE);
+            throw new ProductValidationException(REQUIRED_CATEGORY_MESSAGE);
         }
     }
 
     private void validatePrice(Long price) {
         if (price == null || price <= 0) {
-            throw new IllegalArgumentException(INVALID_PRICE_MESSAGE);
+            throw new ProductValidationException(INVALID_PRICE_MESSAGE);
         }
     }
 
     private void validateQuantity(Long quantity) {
         if (quantity != null && quantity < 0) {
-            throw new IllegalArgumentException(INVALID_QUANTITY_MESSAGE);
+            throw new ProductValidationException(INVALID_QUANTITY_MESSAGE);
         }
     }
 
@@ -96,7 +116,7 @@ public class Product {
 
     public void setName(String name) {
         if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException(REQUIRED_NAME_MESSAGE);
+            throw new ProductValidationException(REQUIRED_NAME_MESSAGE);
         }
         this.name = name.trim();
         updateTimestamp();
@@ -143,7 +163,7 @@ public class Product {
 
     public void setCategory(CategoryEnum category) {
         if (category == null) {
-            throw new IllegalArgumentException(REQUIRED_CATEGORY_MESSAGE);
+            throw new ProductValidationException(REQUIRED_CATEGORY_MESSAGE);
         }
         this.category = category;
         updateTimestamp();
@@ -173,6 +193,14 @@ public class Product {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
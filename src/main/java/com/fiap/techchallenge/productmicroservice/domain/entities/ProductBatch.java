@@ -0,0 +1,38 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ProductBatch {
+    private final List<Product> items;
+    private final Map<Integer, ProductWriteError> errors;
+
+    public ProductBatch(List<Product> items, Map<Integer, ProductWriteError> errors) {
+        this.items = items;
+        this.errors = errors;
+    }
+
+    public static ProductBatch of(List<Product> items) {
+        return new ProductBatch(items, Map.of());
+    }
+
+    public List<Product> getItems() {
+        return items;
+    }
+
+    public Optional<ProductWriteError> getError(int index) {
+        return Optional.ofNullable(errors.get(index));
+    }
+
+    public List<Product> getCreated() {
+        List<Product> created = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (!errors.containsKey(i)) {
+                created.add(items.get(i));
+            }
+        }
+        return created;
+    }
+}
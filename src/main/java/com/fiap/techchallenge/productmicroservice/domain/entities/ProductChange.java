@@ -0,0 +1,39 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.time.LocalDateTime;
+
+public class ProductChange {
+    private final String productId;
+    private final Product product;
+    private final LocalDateTime changedAt;
+
+    private ProductChange(String productId, Product product, LocalDateTime changedAt) {
+        this.productId = productId;
+        this.product = product;
+        this.changedAt = changedAt;
+    }
+
+    public static ProductChange upsert(Product product) {
+        return new ProductChange(product.getId(), product, product.getUpdatedAt());
+    }
+
+    public static ProductChange delete(String productId, LocalDateTime deletedAt) {
+        return new ProductChange(productId, null, deletedAt);
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.util.List;
+
+public class ProductChangePage {
+    private final List<ProductChange> changes;
+    private final String nextToken;
+    private final boolean hasMore;
+
+    public ProductChangePage(List<ProductChange> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<ProductChange> getChanges() {
+        return changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+}
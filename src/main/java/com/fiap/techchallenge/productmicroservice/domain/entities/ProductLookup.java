@@ -0,0 +1,21 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.util.List;
+
+public class ProductLookup {
+    private final List<Product> items;
+    private final List<String> missingIds;
+
+    public ProductLookup(List<Product> items, List<String> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    public List<Product> getItems() {
+        return items;
+    }
+
+    public List<String> getMissingIds() {
+        return missingIds;
+    }
+}
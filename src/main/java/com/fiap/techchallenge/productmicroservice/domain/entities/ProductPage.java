@@ -0,0 +1,25 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.util.List;
+
+public class ProductPage {
+    private final List<Product> items;
+    private final String nextCursor;
+
+    public ProductPage(List<Product> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Product> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
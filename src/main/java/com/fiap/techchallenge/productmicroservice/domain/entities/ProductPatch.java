@@ -0,0 +1,65 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+
+public class ProductPatch {
+    private final String name;
+    private final String description;
+    private final String image;
+    private final Long price;
+    private final Long priceForClient;
+    private final CategoryEnum category;
+    private final Long quantity;
+
+    public ProductPatch(String name, String description, String image, Long price,
+                        Long priceForClient, CategoryEnum category, Long quantity) {
+        if (name == null && description == null && image == null && price == null
+                && priceForClient == null && category == null && quantity == null) {
+            throw new ProductValidationException("Informe ao menos um campo para atualizar");
+        }
+        if (name != null && name.trim().isEmpty()) {
+            throw new ProductValidationException("Nome do produto é obrigatório");
+        }
+        if (price != null && price <= 0) {
+            throw new ProductValidationException("Preço deve ser maior que zero");
+        }
+        if (quantity != null && quantity < 0) {
+            throw new ProductValidationException("Quantidade não pode ser negativa");
+        }
+        this.name = name != null ? name.trim() : null;
+        this.description = description != null ? description.trim() : null;
+        this.image = image;
+        this.price = price;
+        this.priceForClient = priceForClient;
+        this.category = category;
+        this.quantity = quantity;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public Long getPrice() {
+        return price;
+    }
+
+    public Long getPriceForClient() {
+        return priceForClient;
+    }
+
+    public CategoryEnum getCategory() {
+        return category;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+public class ProductWriteError {
+    private final String message;
+    private final int code;
+
+    public ProductWriteError(String message, int code) {
+        this.message = message;
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getCode() {
+        return code;
+    }
+}
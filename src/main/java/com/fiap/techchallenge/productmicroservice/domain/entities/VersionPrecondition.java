@@ -0,0 +1,55 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+public final class VersionPrecondition {
+    private static final VersionPrecondition ANY = new VersionPrecondition(null);
+
+    private final Set<Long> versions;
+
+    private VersionPrecondition(Set<Long> versions) {
+        this.versions = versions;
+    }
+
+    public static VersionPrecondition any() {
+        return ANY;
+    }
+
+    public static VersionPrecondition of(long version) {
+        return new VersionPrecondition(Set.of(version));
+    }
+
+    public static VersionPrecondition anyOf(Collection<Long> versions) {
+        return new VersionPrecondition(new TreeSet<>(versions));
+    }
+
+    public boolean matches(long version) {
+        return versions == null || versions.contains(version);
+    }
+
+    public OptionalLong single() {
+        return versions != null && versions.size() == 1
+                ? OptionalLong.of(versions.iterator().next())
+                : OptionalLong.empty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof VersionPrecondition other && Objects.equals(versions, other.versions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(versions);
+    }
+
+    @Override
+    public String toString() {
+        return versions == null ? "*" : versions.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,9 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+public class ChangeTokenExpiredException extends DomainException {
+    private static final String MESSAGE = "Token de sincronização expirado; refaça a carga completa do catálogo";
+
+    public ChangeTokenExpiredException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+public class InsufficientStockException extends DomainException {
+    private static final String MESSAGE = "Estoque insuficiente";
+
+    private final String productId;
+    private final long requested;
+    private final long available;
+
+    public InsufficientStockException(String productId, long requested, long available) {
+        super(MESSAGE);
+        this.productId = productId;
+        this.requested = requested;
+        this.available = available;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public long getRequested() {
+        return requested;
+    }
+
+    public long getAvailable() {
+        return available;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+public class ProductNotFoundException extends DomainException {
+    private static final String MESSAGE = "Produto não encontrado";
+
+    private final String productId;
+
+    public ProductNotFoundException(String productId) {
+        super(MESSAGE);
+        this.productId = productId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+}
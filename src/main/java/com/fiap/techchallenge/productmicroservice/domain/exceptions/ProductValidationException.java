@@ -0,0 +1,8 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+public class ProductValidationException extends DomainException {
+
+    public ProductValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+
+public class ProductVersionConflictException extends DomainException {
+    private static final String MESSAGE = "Produto foi alterado por outra requisição";
+
+    private final String productId;
+    private final VersionPrecondition expected;
+    private final Long currentVersion;
+
+    public ProductVersionConflictException(String productId, long expectedVersion, Long currentVersion) {
+        this(productId, VersionPrecondition.of(expectedVersion), currentVersion);
+    }
+
+    public ProductVersionConflictException(String productId, VersionPrecondition expected, Long currentVersion) {
+        super(MESSAGE);
+        this.productId = productId;
+        this.expected = expected;
+        this.currentVersion = currentVersion;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public VersionPrecondition getExpected() {
+        return expected;
+    }
+
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
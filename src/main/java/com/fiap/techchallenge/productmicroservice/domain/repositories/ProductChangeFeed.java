@@ -0,0 +1,7 @@
+package com.fiap.techchallenge.productmicroservice.domain.repositories;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+
+public interface ProductChangeFeed {
+    ProductChangePage findChanges(String token, int limit);
+}
@@ -2,16 +2,33 @@ package com.fiap.techchallenge.productmicroservice.domain.repositories;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository {
     Product save(Product product);
+    ProductBatch saveAll(List<Product> products);
     Optional<Product> findById(String id);
+    boolean exists(String id);
+    List<Product> findAllById(Collection<String> ids);
     List<Product> findAll();
-    void deleteById(String id);
+    ProductPage findPage(String cursor, int limit);
+    Stream<Product> streamAll();
+    boolean deleteById(String id);
+    long deleteAllById(Collection<String> ids);
+    Optional<Product> reserveStock(String id, long quantity);
+    Optional<Product> releaseStock(String id, long quantity);
+    List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas);
+    Optional<Product> update(String id, long expectedVersion, ProductPatch patch);
     List<Product> findByCategory(CategoryEnum category);
+    ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit);
     List<Product> findByNameContaining(String name);
     List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice);
     List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice);
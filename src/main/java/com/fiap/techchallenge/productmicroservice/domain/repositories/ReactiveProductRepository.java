@@ -0,0 +1,14 @@
+package com.fiap.techchallenge.productmicroservice.domain.repositories;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductRepository {
+    Mono<Product> findById(String id);
+    Flux<Product> findAll();
+    Flux<Product> findByCategory(CategoryEnum category);
+    Flux<Product> findByNameContaining(String name);
+    Flux<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice);
+}
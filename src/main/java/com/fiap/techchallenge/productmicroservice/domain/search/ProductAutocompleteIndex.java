@@ -0,0 +1,9 @@
+package com.fiap.techchallenge.productmicroservice.domain.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+
+import java.util.List;
+
+public interface ProductAutocompleteIndex {
+    List<Product> complete(String prefix, int limit);
+}
@@ -0,0 +1,11 @@
+package com.fiap.techchallenge.productmicroservice.domain.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+
+import java.util.List;
+
+public interface ProductPriceIndex {
+    boolean isReady();
+    List<Product> findByCategoryAndPriceRange(CategoryEnum category, long minPrice, long maxPrice, boolean inclusive);
+}
@@ -0,0 +1,10 @@
+package com.fiap.techchallenge.productmicroservice.domain.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+
+import java.util.List;
+
+public interface ProductSearchIndex {
+    boolean isReady();
+    List<Product> search(String term);
+}
@@ -0,0 +1,38 @@
+package com.fiap.techchallenge.productmicroservice.domain.search;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class SearchTextNormalizer {
+    public static final int GRAM_SIZE = 3;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchTextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutMarks).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> grams(String normalized) {
+        if (normalized.length() < GRAM_SIZE) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
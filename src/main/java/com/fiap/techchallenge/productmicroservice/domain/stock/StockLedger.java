@@ -0,0 +1,9 @@
+package com.fiap.techchallenge.productmicroservice.domain.stock;
+
+import java.util.OptionalLong;
+
+public interface StockLedger {
+    OptionalLong reserve(String productId, long quantity);
+    OptionalLong release(String productId, long quantity);
+    void evict(String productId);
+}
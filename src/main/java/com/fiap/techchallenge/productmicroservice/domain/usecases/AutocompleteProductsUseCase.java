@@ -0,0 +1,38 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductAutocompleteIndex;
+
+import java.util.List;
+
+public class AutocompleteProductsUseCase {
+    private final ProductRepository productRepository;
+    private final ProductAutocompleteIndex autocompleteIndex;
+
+    public AutocompleteProductsUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public AutocompleteProductsUseCase(ProductRepository productRepository,
+                                       ProductAutocompleteIndex autocompleteIndex) {
+        this.productRepository = productRepository;
+        this.autocompleteIndex = autocompleteIndex;
+    }
+
+    public List<Product> execute(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new ProductValidationException("Prefixo é obrigatório");
+        }
+        if (limit < 1) {
+            throw new ProductValidationException("Limite deve ser maior que zero");
+        }
+        if (autocompleteIndex != null) {
+            return autocompleteIndex.complete(prefix, limit);
+        }
+        return productRepository.findByNameContaining(prefix.trim()).stream()
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+
+import java.util.List;
+
+public class CreateProductsUseCase {
+    private final ProductRepository productRepository;
+
+    public CreateProductsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public ProductBatch execute(List<Product> products) {
+        if (products.isEmpty()) {
+            return ProductBatch.of(List.of());
+        }
+        return productRepository.saveAll(products);
+    }
+}
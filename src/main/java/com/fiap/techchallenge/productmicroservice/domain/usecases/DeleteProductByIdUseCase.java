@@ -1,23 +1,33 @@
 package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
 
 public class DeleteProductByIdUseCase {
     private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
 
     public DeleteProductByIdUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public DeleteProductByIdUseCase(ProductRepository productRepository, StockLedger stockLedger) {
         this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
     }
 
     public void execute(String id) {
         if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID do produto é obrigatório");
+            throw new ProductValidationException("ID do produto é obrigatório");
+        }
+
+        if (!productRepository.deleteById(id)) {
+            throw new ProductNotFoundException(id);
         }
-        
-        if (productRepository.findById(id).isEmpty()) {
-            throw new IllegalArgumentException("Produto não encontrado");
+        if (stockLedger != null) {
+            stockLedger.evict(id);
         }
-        
-        productRepository.deleteById(id);
     }
-}
\ No newline at end of file
+}
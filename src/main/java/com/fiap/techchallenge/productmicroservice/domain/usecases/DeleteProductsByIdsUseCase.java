@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+
+import java.util.List;
+import java.util.Set;
+
+public class DeleteProductsByIdsUseCase {
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+
+    public DeleteProductsByIdsUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public DeleteProductsByIdsUseCase(ProductRepository productRepository, StockLedger stockLedger) {
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+    }
+
+    public long execute(List<String> ids) {
+        Set<String> normalized = ProductIds.normalize(ids);
+        long deleted = productRepository.deleteAllById(normalized);
+        if (stockLedger != null && deleted > 0) {
+            normalized.forEach(stockLedger::evict);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class ExportProductsUseCase {
+    private final ProductRepository productRepository;
+
+    public ExportProductsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public void execute(Consumer<Product> consumer) {
+        try (Stream<Product> products = productRepository.streamAll()) {
+            products.forEach(consumer);
+        }
+    }
+}
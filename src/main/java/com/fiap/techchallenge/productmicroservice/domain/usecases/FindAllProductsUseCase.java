@@ -1,6 +1,8 @@
 package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 
 import java.util.List;
@@ -15,4 +17,11 @@ public class FindAllProductsUseCase {
     public List<Product> execute() {
         return productRepository.findAll();
     }
+
+    public ProductPage execute(String cursor, int limit) {
+        if (limit < 1) {
+            throw new ProductValidationException("Limite deve ser maior que zero");
+        }
+        return productRepository.findPage(cursor, limit);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 
 import java.util.Optional;
@@ -13,9 +14,18 @@ public class FindProductByIdUseCase {
     }
 
     public Optional<Product> execute(String id) {
+        validate(id);
+        return productRepository.findById(id);
+    }
+
+    public boolean exists(String id) {
+        validate(id);
+        return productRepository.exists(id);
+    }
+
+    private static void validate(String id) {
         if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID do produto é obrigatório");
+            throw new ProductValidationException("ID do produto é obrigatório");
         }
-        return productRepository.findById(id);
     }
-}
\ No newline at end of file
+}
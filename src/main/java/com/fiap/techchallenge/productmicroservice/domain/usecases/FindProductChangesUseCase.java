@@ -0,0 +1,20 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductChangeFeed;
+
+public class FindProductChangesUseCase {
+    private final ProductChangeFeed productChangeFeed;
+
+    public FindProductChangesUseCase(ProductChangeFeed productChangeFeed) {
+        this.productChangeFeed = productChangeFeed;
+    }
+
+    public ProductChangePage execute(String token, int limit) {
+        if (limit < 1) {
+            throw new ProductValidationException("Limite deve ser maior que zero");
+        }
+        return productChangeFeed.findChanges(token, limit);
+    }
+}
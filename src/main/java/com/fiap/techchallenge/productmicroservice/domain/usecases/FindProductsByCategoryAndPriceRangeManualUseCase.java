@@ -2,34 +2,45 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductPriceIndex;
 
 import java.util.List;
 
 public class FindProductsByCategoryAndPriceRangeManualUseCase {
     private final ProductRepository productRepository;
+    private final ProductPriceIndex priceIndex;
 
     public FindProductsByCategoryAndPriceRangeManualUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public FindProductsByCategoryAndPriceRangeManualUseCase(ProductRepository productRepository, ProductPriceIndex priceIndex) {
         this.productRepository = productRepository;
+        this.priceIndex = priceIndex;
     }
 
     public List<Product> execute(CategoryEnum category, Long minPrice, Long maxPrice) {
         validateParameters(category, minPrice, maxPrice);
+        if (priceIndex != null && priceIndex.isReady()) {
+            return priceIndex.findByCategoryAndPriceRange(category, minPrice, maxPrice, true);
+        }
         return productRepository.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
     }
 
     private void validateParameters(CategoryEnum category, Long minPrice, Long maxPrice) {
         if (category == null) {
-            throw new IllegalArgumentException("Categoria é obrigatória");
+            throw new ProductValidationException("Categoria é obrigatória");
         }
         if (minPrice == null || minPrice < 0) {
-            throw new IllegalArgumentException("Preço mínimo deve ser maior ou igual a zero");
+            throw new ProductValidationException("Preço mínimo deve ser maior ou igual a zero");
         }
         if (maxPrice == null || maxPrice <= 0) {
-            throw new IllegalArgumentException("Preço máximo deve ser maior que zero");
+            throw new ProductValidationException("Preço máximo deve ser maior que zero");
         }
         if (minPrice > maxPrice) {
-            throw new IllegalArgumentException("Preço mínimo não pode ser maior que o preço máximo");
+            throw new ProductValidationException("Preço mínimo não pode ser maior que o preço máximo");
         }
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 
 import java.util.List;
@@ -15,8 +17,18 @@ public class FindProductsByCategoryUseCase {
 
     public List<Product> execute(CategoryEnum category) {
         if (category == null) {
-            throw new IllegalArgumentException("Categoria é obrigatória");
+            throw new ProductValidationException("Categoria é obrigatória");
         }
         return productRepository.findByCategory(category);
     }
+
+    public ProductPage execute(CategoryEnum category, String cursor, int limit) {
+        if (category == null) {
+            throw new ProductValidationException("Categoria é obrigatória");
+        }
+        if (limit < 1) {
+            throw new ProductValidationException("Limite deve ser maior que zero");
+        }
+        return productRepository.findPageByCategory(category, cursor, limit);
+    }
 }
\ No newline at end of file
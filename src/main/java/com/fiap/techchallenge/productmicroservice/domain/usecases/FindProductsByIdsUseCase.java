@@ -0,0 +1,38 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductLookup;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class FindProductsByIdsUseCase {
+    private final ProductRepository productRepository;
+
+    public FindProductsByIdsUseCase(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public ProductLookup execute(List<String> ids) {
+        Set<String> requested = ProductIds.normalize(ids);
+        Map<String, Product> found = new HashMap<>();
+        for (Product product : productRepository.findAllById(requested)) {
+            found.put(product.getId(), product);
+        }
+        List<Product> items = new ArrayList<>(requested.size());
+        List<String> missingIds = new ArrayList<>();
+        for (String id : requested) {
+            Product product = found.get(id);
+            if (product != null) {
+                items.add(product);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ProductLookup(items, missingIds);
+    }
+}
@@ -1,20 +1,31 @@
 package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductSearchIndex;
 
 import java.util.List;
 
 public class FindProductsByNameUseCase {
     private final ProductRepository productRepository;
+    private final ProductSearchIndex searchIndex;
 
     public FindProductsByNameUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public FindProductsByNameUseCase(ProductRepository productRepository, ProductSearchIndex searchIndex) {
         this.productRepository = productRepository;
+        this.searchIndex = searchIndex;
     }
 
     public List<Product> execute(String name) {
         if (name == null || name.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome é obrigatório");
+            throw new ProductValidationException("Nome é obrigatório");
+        }
+        if (searchIndex != null && searchIndex.isReady()) {
+            return searchIndex.search(name);
         }
         return productRepository.findByNameContaining(name);
     }
@@ -0,0 +1,29 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+final class ProductIds {
+    static final String REQUIRED_IDS_MESSAGE = "Informe ao menos um ID de produto";
+
+    private ProductIds() {
+    }
+
+    static Set<String> normalize(Collection<String> ids) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (ids != null) {
+            for (String id : ids) {
+                if (id != null && !id.trim().isEmpty()) {
+                    normalized.add(id.trim());
+                }
+            }
+        }
+        if (normalized.isEmpty()) {
+            throw new ProductValidationException(REQUIRED_IDS_MESSAGE);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+
+public class ReleaseStockUseCase {
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+
+    public ReleaseStockUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public ReleaseStockUseCase(ProductRepository productRepository, StockLedger stockLedger) {
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+    }
+
+    public long execute(String id, long quantity) {
+        StockQuantities.validate(id, quantity);
+        if (stockLedger != null) {
+            return stockLedger.release(id, quantity)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+        }
+        return productRepository.releaseStock(id, quantity)
+                .orElseThrow(() -> new ProductNotFoundException(id))
+                .getQuantity();
+    }
+}
@@ -0,0 +1,39 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+
+import java.util.Optional;
+
+public class ReserveStockUseCase {
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+
+    public ReserveStockUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public ReserveStockUseCase(ProductRepository productRepository, StockLedger stockLedger) {
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+    }
+
+    public long execute(String id, long quantity) {
+        StockQuantities.validate(id, quantity);
+        if (stockLedger != null) {
+            return stockLedger.reserve(id, quantity)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+        }
+        Optional<Product> reserved = productRepository.reserveStock(id, quantity);
+        if (reserved.isPresent()) {
+            return reserved.get().getQuantity();
+        }
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        long available = product.getQuantity() != null ? product.getQuantity() : 0L;
+        throw new InsufficientStockException(id, quantity, available);
+    }
+}
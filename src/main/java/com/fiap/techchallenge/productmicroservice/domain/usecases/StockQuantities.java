@@ -0,0 +1,18 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+
+final class StockQuantities {
+
+    private StockQuantities() {
+    }
+
+    static void validate(String id, long quantity) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new ProductValidationException("ID do produto é obrigatório");
+        }
+        if (quantity <= 0) {
+            throw new ProductValidationException("Quantidade deve ser maior que zero");
+        }
+    }
+}
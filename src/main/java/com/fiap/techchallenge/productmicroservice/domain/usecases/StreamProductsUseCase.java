@@ -0,0 +1,54 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ReactiveProductRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class StreamProductsUseCase {
+    private final ReactiveProductRepository productRepository;
+
+    public StreamProductsUseCase(ReactiveProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    public Mono<Product> findById(String id) {
+        return Mono.defer(() -> {
+            if (id == null || id.trim().isEmpty()) {
+                throw new ProductValidationException("ID do produto é obrigatório");
+            }
+            return productRepository.findById(id);
+        });
+    }
+
+    public Flux<Product> findAll() {
+        return productRepository.findAll();
+    }
+
+    public Flux<Product> findByCategory(CategoryEnum category) {
+        return Flux.defer(() -> {
+            if (category == null) {
+                throw new ProductValidationException("Categoria é obrigatória");
+            }
+            return productRepository.findByCategory(category);
+        });
+    }
+
+    public Flux<Product> findByName(String name) {
+        return Flux.defer(() -> {
+            if (name == null || name.trim().isEmpty()) {
+                throw new ProductValidationException("Nome é obrigatório");
+            }
+            return productRepository.findByNameContaining(name);
+        });
+    }
+
+    public Flux<Product> findByCategoryAndPriceRange(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return Flux.defer(() -> {
+            FindProductsByCategoryAndPriceRangeUseCase.validateParameters(category, minPrice, maxPrice);
+            return productRepository.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductVersionConflictException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public class UpdateProductUseCase {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final StockLedger stockLedger;
+
+    public UpdateProductUseCase(ProductRepository productRepository) {
+        this(productRepository, null);
+    }
+
+    public UpdateProductUseCase(ProductRepository productRepository, StockLedger stockLedger) {
+        this.productRepository = productRepository;
+        this.stockLedger = stockLedger;
+    }
+
+    public Product execute(String id, long expectedVersion, ProductPatch patch) {
+        return execute(id, VersionPrecondition.of(expectedVersion), patch);
+    }
+
+    public Product execute(String id, VersionPrecondition expected, ProductPatch patch) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new ProductValidationException("ID do produto é obrigatório");
+        }
+        if (stockLedger != null && patch.getQuantity() != null) {
+            throw new ProductValidationException(
+                    "Com o ledger de estoque ligado, a quantidade só muda por reserva e devolução");
+        }
+        OptionalLong single = expected.single();
+        if (single.isPresent()) {
+            Optional<Product> updated = productRepository.update(id, single.getAsLong(), patch);
+            if (updated.isPresent()) {
+                return updated.get();
+            }
+            Product current = productRepository.findById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            throw new ProductVersionConflictException(id, expected, current.getVersion());
+        }
+        Long currentVersion = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Product current = productRepository.findById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            currentVersion = current.getVersion() != null ? current.getVersion() : 0L;
+            if (!expected.matches(currentVersion)) {
+                break;
+            }
+            Optional<Product> updated = productRepository.update(id, currentVersion, patch);
+            if (updated.isPresent()) {
+                return updated.get();
+            }
+        }
+        throw new ProductVersionConflictException(id, expected, currentVersion);
+    }
+}
@@ -0,0 +1,155 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class BloomFilterProductRepository implements ProductRepository {
+    static final String SHORT_CIRCUITED_METRIC = "products.bloom.absent";
+
+    private final ProductRepository delegate;
+    private final ProductIdFilter filter;
+    private final Counter shortCircuited;
+
+    public BloomFilterProductRepository(ProductRepository delegate, ProductIdFilter filter,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.filter = filter;
+        this.shortCircuited = Counter.builder(SHORT_CIRCUITED_METRIC)
+                .description("Operações por id respondidas pelo filtro de Bloom sem ir ao MongoDB")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return absent(id) ? Optional.empty() : delegate.findById(id);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return !absent(id) && delegate.exists(id);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        List<String> candidates = candidates(ids);
+        return candidates.isEmpty() ? new ArrayList<>() : delegate.findAllById(candidates);
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return !absent(id) && delegate.deleteById(id);
+    }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        List<String> candidates = candidates(ids);
+        return candidates.isEmpty() ? 0 : delegate.deleteAllById(candidates);
+    }
+
+    @Override
+    public Optional<Product> reserveStock(String id, long quantity) {
+        return absent(id) ? Optional.empty() : delegate.reserveStock(id, quantity);
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return absent(id) ? Optional.empty() : delegate.releaseStock(id, quantity);
+    }
+
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        return delegate.applyStockDeltas(sequence, deltas);
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        return absent(id) ? Optional.empty() : delegate.update(id, expectedVersion, patch);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        filter.add(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        ProductBatch saved = delegate.saveAll(products);
+        for (Product product : saved.getCreated()) {
+            filter.add(product.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        return delegate.findPage(cursor, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Product> findByCategory(CategoryEnum category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        return delegate.findPageByCategory(category, cursor, limit);
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
+    }
+
+    private boolean absent(String id) {
+        if (filter.definitelyAbsent(id)) {
+            shortCircuited.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private List<String> candidates(Collection<String> ids) {
+        List<String> candidates = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            if (!absent(id)) {
+                candidates.add(id);
+            }
+        }
+        return candidates;
+    }
+}
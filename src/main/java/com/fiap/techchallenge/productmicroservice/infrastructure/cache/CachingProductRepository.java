@@ -0,0 +1,275 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class CachingProductRepository implements ProductRepository {
+    static final String BY_ID_CACHE = "products.byId";
+    static final String BY_CATEGORY_CACHE = "products.byCategory";
+    static final String ALL_CACHE = "products.all";
+    static final String PAGES_CACHE = "products.pages";
+    private static final String ALL_KEY = "all";
+    private static final Set<CategoryEnum> ALL_CATEGORIES = EnumSet.allOf(CategoryEnum.class);
+
+    private final ProductRepository delegate;
+    private final Cache<String, Product> byId;
+    private final Cache<CategoryEnum, List<Product>> byCategory;
+    private final Cache<String, List<Product>> all;
+    private final Cache<PageKey, ProductPage> pages;
+    // Uma carga que cruzou com uma escrita é descartada: o invalidate não alcança cargas em andamento.
+    private final AtomicLong byIdWrites = new AtomicLong();
+    private final AtomicLong listWrites = new AtomicLong();
+
+    public CachingProductRepository(ProductRepository delegate, long maximumSize, Duration ttl,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byCategory = Caffeine.newBuilder()
+                .maximumSize(CategoryEnum.values().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.all = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, BY_ID_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, byCategory, BY_CATEGORY_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, all, ALL_CACHE);
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, PAGES_CACHE);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product previous = product.getId() != null ? byId.getIfPresent(product.getId()) : null;
+        Product saved = delegate.save(product);
+        byIdWrites.incrementAndGet();
+        byId.invalidate(saved.getId());
+        if (product.getId() != null && previous == null) {
+            invalidateLists(ALL_CATEGORIES);
+        } else {
+            invalidateLists(categoriesOf(saved, previous));
+        }
+        return saved;
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        ProductBatch saved = delegate.saveAll(products);
+        invalidateLists(categoriesOf(saved.getCreated().toArray(Product[]::new)));
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return Optional.ofNullable(load(byIdWrites, byId, id, () -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return byId.getIfPresent(id) != null || delegate.exists(id);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        Map<String, Product> cached = byId.getAllPresent(ids);
+        if (cached.size() == ids.size()) {
+            return List.copyOf(cached.values());
+        }
+        List<String> missing = new ArrayList<>(ids.size() - cached.size());
+        for (String id : ids) {
+            if (!cached.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        long writes = byIdWrites.get();
+        List<Product> loaded = delegate.findAllById(missing);
+        List<Product> result = new ArrayList<>(cached.size() + loaded.size());
+        result.addAll(cached.values());
+        for (Product product : loaded) {
+            byId.put(product.getId(), product);
+            result.add(product);
+        }
+        if (byIdWrites.get() != writes) {
+            for (Product product : loaded) {
+                byId.asMap().remove(product.getId(), product);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return load(listWrites, all, ALL_KEY, () -> List.copyOf(delegate.findAll()));
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        return load(listWrites, pages, new PageKey(null, cursor, limit), () -> delegate.findPage(cursor, limit));
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        Product previous = byId.getIfPresent(id);
+        boolean deleted = delegate.deleteById(id);
+        byIdWrites.incrementAndGet();
+        byId.invalidate(id);
+        invalidateLists(previous != null ? categoriesOf(previous) : ALL_CATEGORIES);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        long deleted = delegate.deleteAllById(ids);
+        byIdWrites.incrementAndGet();
+        byId.invalidateAll(ids);
+        invalidateLists(ALL_CATEGORIES);
+        return deleted;
+    }
+
+    @Override
+    public Optional<Product> reserveStock(String id, long quantity) {
+        return refresh(id, delegate.reserveStock(id, quantity));
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return refresh(id, delegate.releaseStock(id, quantity));
+    }
+
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        List<Product> updated = delegate.applyStockDeltas(sequence, deltas);
+        byIdWrites.incrementAndGet();
+        byId.invalidateAll(deltas.keySet());
+        for (Product product : updated) {
+            byId.put(product.getId(), product);
+        }
+        invalidateLists(categoriesOf(updated.toArray(Product[]::new)));
+        return updated;
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        Optional<Product> updated = delegate.update(id, expectedVersion, patch);
+        if (updated.isPresent() && patch.getCategory() != null) {
+            invalidateLists(ALL_CATEGORIES);
+        }
+        return refresh(id, updated);
+    }
+
+    @Override
+    public List<Product> findByCategory(CategoryEnum category) {
+        return load(listWrites, byCategory, category, () -> List.copyOf(delegate.findByCategory(category)));
+    }
+
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        return load(listWrites, pages, new PageKey(category, cursor, limit),
+                () -> delegate.findPageByCategory(category, cursor, limit));
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
+    }
+
+    public void invalidateAll() {
+        byIdWrites.incrementAndGet();
+        byId.invalidateAll();
+        invalidateLists(ALL_CATEGORIES);
+    }
+
+    private Optional<Product> refresh(String id, Optional<Product> updated) {
+        byIdWrites.incrementAndGet();
+        if (updated.isPresent()) {
+            Product product = updated.get();
+            byId.put(product.getId(), product);
+            invalidateLists(categoriesOf(product));
+        } else {
+            byId.invalidate(id);
+        }
+        return updated;
+    }
+
+    private static <K, V> V load(AtomicLong counter, Cache<K, V> cache, K key, Supplier<V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long writes = counter.get();
+        V loaded = loader.get();
+        if (loaded != null) {
+            cache.put(key, loaded);
+            if (counter.get() != writes) {
+                cache.asMap().remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateLists(Set<CategoryEnum> categories) {
+        listWrites.incrementAndGet();
+        byCategory.invalidateAll(categories);
+        all.invalidate(ALL_KEY);
+        pages.invalidateAll();
+    }
+
+    private static Set<CategoryEnum> categoriesOf(Product... products) {
+        Set<CategoryEnum> categories = EnumSet.noneOf(CategoryEnum.class);
+        for (Product product : products) {
+            if (product != null && product.getCategory() != null) {
+                categories.add(product.getCategory());
+            }
+        }
+        return categories;
+    }
+
+    private record PageKey(CategoryEnum category, String cursor, int limit) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CatalogVersion {
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicReference<State> state = new AtomicReference<>(new State(instance, 0, 0));
+    private final List<Runnable> externalChangeListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> versionChangeListeners = new CopyOnWriteArrayList<>();
+
+    public String etag() {
+        State current = state.get();
+        long localWrites = current.writes() - current.baseWrites();
+        if (localWrites == 0) {
+            return "\"" + current.base() + "\"";
+        }
+        return "\"" + current.base() + "-" + instance + "-" + localWrites + "\"";
+    }
+
+    public void bump() {
+        state.updateAndGet(current -> new State(current.base(), current.writes() + 1, current.baseWrites()));
+    }
+
+    // Lido antes da marca d'água: as escritas contadas até aqui já estão nela.
+    public long writes() {
+        return state.get().writes();
+    }
+
+    // Os caches são esvaziados antes de a nova versão aparecer, para nada lido antes dela ser servido sob ela.
+    public void externalChange(String watermark, long writesSeen) {
+        for (Runnable listener : externalChangeListeners) {
+            listener.run();
+        }
+        state.updateAndGet(current -> new State(watermark, current.writes(), writesSeen));
+        for (Runnable listener : versionChangeListeners) {
+            listener.run();
+        }
+    }
+
+    public void onExternalChange(Runnable listener) {
+        externalChangeListeners.add(listener);
+    }
+
+    public void afterExternalChange(Runnable listener) {
+        versionChangeListeners.add(listener);
+    }
+
+    private record State(String base, long writes, long baseWrites) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class CoalescingProductRepository implements ProductRepository {
+    static final String EXECUTED_METRIC = "products.coalescing.executed";
+    static final String COLLAPSED_METRIC = "products.coalescing.collapsed";
+    private static final Set<CategoryEnum> ALL_CATEGORIES = EnumSet.allOf(CategoryEnum.class);
+
+    private final ProductRepository delegate;
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Query byId;
+    private final Query byCategory;
+    private final Query pageByCategory;
+
+    public CoalescingProductRepository(ProductRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.byId = new Query("findById", meterRegistry);
+        this.byCategory = new Query("findByCategory", meterRegistry);
+        this.pageByCategory = new Query("findPageByCategory", meterRegistry);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return coalesce(new ByIdKey(id), byId, () -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return delegate.exists(id);
+    }
+
+    @Override
+    public List<Product> findByCategory(CategoryEnum category) {
+        return coalesce(new ByCategoryKey(category), byCategory,
+                () -> List.copyOf(delegate.findByCategory(category)));
+    }
+
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        return coalesce(new PageKey(category, cursor, limit), pageByCategory,
+                () -> delegate.findPageByCategory(category, cursor, limit));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        return delegate.findPage(cursor, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
+    }
+
+    // Um produto que já existia pode ter trocado de categoria, e a anterior não vem no retorno.
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        detach(List.of(saved.getId()), product.getId() != null ? ALL_CATEGORIES : categoriesOf(List.of(saved)));
+        return saved;
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        ProductBatch saved = delegate.saveAll(products);
+        List<Product> created = saved.getCreated();
+        detach(created.stream().map(Product::getId).toList(), categoriesOf(created));
+        return saved;
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        boolean deleted = delegate.deleteById(id);
+        detach(List.of(id), ALL_CATEGORIES);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        long deleted = delegate.deleteAllById(ids);
+        detach(ids, ALL_CATEGORIES);
+        return deleted;
+    }
+
+    @Override
+    public Optional<Product> reserveStock(String id, long quantity) {
+        return detached(id, delegate.reserveStock(id, quantity));
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return detached(id, delegate.releaseStock(id, quantity));
+    }
+
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        List<Product> updated = delegate.applyStockDeltas(sequence, deltas);
+        detach(deltas.keySet(), categoriesOf(updated));
+        return updated;
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        Optional<Product> updated = delegate.update(id, expectedVersion, patch);
+        if (updated.isPresent() && patch.getCategory() != null) {
+            detach(List.of(id), ALL_CATEGORIES);
+            return updated;
+        }
+        return detached(id, updated);
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Object key, Query query, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            query.collapsed.increment();
+            return (T) await(running);
+        }
+        query.executed.increment();
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Optional<Product> detached(String id, Optional<Product> updated) {
+        detach(List.of(id), categoriesOf(updated.stream().toList()));
+        return updated;
+    }
+
+    private void detach(Collection<String> ids, Set<CategoryEnum> categories) {
+        for (String id : ids) {
+            inFlight.remove(new ByIdKey(id));
+        }
+        if (categories.isEmpty()) {
+            return;
+        }
+        inFlight.keySet().removeIf(key -> key instanceof ByCategoryKey list && categories.contains(list.category())
+                || key instanceof PageKey page && categories.contains(page.category()));
+    }
+
+    private static Set<CategoryEnum> categoriesOf(List<Product> products) {
+        Set<CategoryEnum> categories = EnumSet.noneOf(CategoryEnum.class);
+        for (Product product : products) {
+            if (product.getCategory() != null) {
+                categories.add(product.getCategory());
+            }
+        }
+        return categories;
+    }
+
+    private static final class Query {
+        private final Counter executed;
+        private final Counter collapsed;
+
+        private Query(String name, MeterRegistry meterRegistry) {
+            this.executed = Counter.builder(EXECUTED_METRIC)
+                    .description("Consultas que foram de fato ao MongoDB")
+                    .tag("query", name)
+                    .register(meterRegistry);
+            this.collapsed = Counter.builder(COLLAPSED_METRIC)
+                    .description("Consultas atendidas pela chamada idêntica que já estava em andamento")
+                    .tag("query", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private record ByIdKey(String id) {
+    }
+
+    private record ByCategoryKey(CategoryEnum category) {
+    }
+
+    private record PageKey(CategoryEnum category, String cursor, int limit) {
+    }
+}
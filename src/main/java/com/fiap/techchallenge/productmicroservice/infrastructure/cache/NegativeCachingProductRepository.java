@@ -0,0 +1,210 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public class NegativeCachingProductRepository implements ProductRepository {
+    static final String ABSENT_CACHE = "products.absent";
+
+    private final ProductRepository delegate;
+    private final Cache<String, Boolean> absent;
+    // Avança a cada escrita que pode criar um id; uma leitura que cruzou com ela não grava a ausência.
+    private final AtomicLong creations = new AtomicLong();
+
+    public NegativeCachingProductRepository(ProductRepository delegate, long maximumSize, Duration ttl,
+                                            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.absent = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, absent, ABSENT_CACHE);
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        if (absent.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+        long seen = creations.get();
+        Optional<Product> product = delegate.findById(id);
+        if (product.isEmpty()) {
+            markAbsent(List.of(id), seen);
+        }
+        return product;
+    }
+
+    @Override
+    public boolean exists(String id) {
+        if (absent.getIfPresent(id) != null) {
+            return false;
+        }
+        long seen = creations.get();
+        boolean exists = delegate.exists(id);
+        if (!exists) {
+            markAbsent(List.of(id), seen);
+        }
+        return exists;
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        List<String> unknown = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            if (absent.getIfPresent(id) == null) {
+                unknown.add(id);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return new ArrayList<>();
+        }
+        long seen = creations.get();
+        List<Product> products = delegate.findAllById(unknown);
+        if (products.size() < unknown.size()) {
+            Set<String> found = new HashSet<>(products.size() * 2);
+            for (Product product : products) {
+                found.add(product.getId());
+            }
+            unknown.removeIf(found::contains);
+            markAbsent(unknown, seen);
+        }
+        return products;
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        created(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        ProductBatch saved = delegate.saveAll(products);
+        creations.incrementAndGet();
+        for (Product product : saved.getCreated()) {
+            absent.invalidate(product.getId());
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        boolean deleted = delegate.deleteById(id);
+        absent.put(id, Boolean.TRUE);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        long deleted = delegate.deleteAllById(ids);
+        for (String id : ids) {
+            absent.put(id, Boolean.TRUE);
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        return delegate.findPage(cursor, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    // Um retorno vazio aqui também pode ser falta de estoque ou versão divergente; não diz que o id não existe.
+    @Override
+    public Optional<Product> reserveStock(String id, long quantity) {
+        return delegate.reserveStock(id, quantity);
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return delegate.releaseStock(id, quantity);
+    }
+
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        return delegate.applyStockDeltas(sequence, deltas);
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        return delegate.update(id, expectedVersion, patch);
+    }
+
+    @Override
+    public List<Product> findByCategory(CategoryEnum category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        return delegate.findPageByCategory(category, cursor, limit);
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
+    }
+
+    public void invalidateAll() {
+        absent.invalidateAll();
+    }
+
+    private void created(String id) {
+        creations.incrementAndGet();
+        if (id != null) {
+            absent.invalidate(id);
+        }
+    }
+
+    private void markAbsent(List<String> ids, long seen) {
+        if (ids.isEmpty() || creations.get() != seen) {
+            return;
+        }
+        for (String id : ids) {
+            absent.put(id, Boolean.TRUE);
+        }
+        if (creations.get() != seen) {
+            absent.invalidateAll(ids);
+        }
+    }
+}
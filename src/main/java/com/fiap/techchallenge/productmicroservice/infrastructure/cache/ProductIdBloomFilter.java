@@ -0,0 +1,118 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ProductIdBloomFilter {
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - Long.BYTES) * Byte.SIZE / Long.SIZE * Long.SIZE;
+    private static final double LN2 = Math.log(2);
+
+    private final ByteBuffer words;
+    private final long bitCount;
+    private final int hashCount;
+    private final long capacity;
+    private final AtomicLong bitsSet = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    private ProductIdBloomFilter(long bitCount, int hashCount, long capacity) {
+        int bytes = (int) (bitCount / Byte.SIZE);
+        // O VarHandle só faz operações atômicas em endereços alinhados a 8 bytes.
+        this.words = ByteBuffer.allocateDirect(bytes + Long.BYTES - 1).alignedSlice(Long.BYTES);
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    public static ProductIdBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions deve ser positivo: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1: " + falsePositiveRate);
+        }
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2);
+        long bits = Math.min(MAX_BITS, Math.max(Long.SIZE, (long) Math.ceil(optimalBits / Long.SIZE) * Long.SIZE));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+        return new ProductIdBloomFilter(bits, hashes, expectedInsertions);
+    }
+
+    public void put(String id) {
+        long hash = hash(id);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        long added = 0;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << bit;
+            long previous = (long) WORDS.getAndBitwiseOr(words, (int) (bit >>> 6) * Long.BYTES, mask);
+            if ((previous & mask) == 0) {
+                added++;
+            }
+        }
+        if (added > 0) {
+            bitsSet.addAndGet(added);
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String id) {
+        long hash = hash(id);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            long word = (long) WORDS.getAcquire(words, (int) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public double fillRatio() {
+        return (double) bitsSet.get() / bitCount;
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashCount);
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long sizeInBytes() {
+        return bitCount / Byte.SIZE;
+    }
+
+    private static long hash(String id) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,121 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import org.bson.types.ObjectId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+public class ProductIdFilter {
+    private final double falsePositiveRate;
+    private final double headroom;
+    private final long minimumCapacity;
+    private final Duration clockSkew;
+    private final Clock clock;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot current;
+    private volatile ProductIdBloomFilter building;
+
+    public ProductIdFilter(double falsePositiveRate, double headroom, long minimumCapacity, Duration clockSkew) {
+        this(falsePositiveRate, headroom, minimumCapacity, clockSkew, Clock.systemUTC());
+    }
+
+    ProductIdFilter(double falsePositiveRate, double headroom, long minimumCapacity, Duration clockSkew,
+                    Clock clock) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.headroom = headroom;
+        this.minimumCapacity = minimumCapacity;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public boolean definitelyAbsent(String id) {
+        if (id == null || !ObjectId.isValid(id)) {
+            return true;
+        }
+        Snapshot snapshot = current;
+        if (snapshot == null || snapshot.filter().mightContain(id)) {
+            return false;
+        }
+        return new ObjectId(id).getTimestamp() < snapshot.trustedBefore();
+    }
+
+    public void add(String id) {
+        if (id == null) {
+            return;
+        }
+        // O filtro em construção é lido primeiro: a troca publica o novo antes de soltar o outro.
+        ProductIdBloomFilter next = building;
+        Snapshot snapshot = current;
+        if (next != null) {
+            next.put(id);
+        }
+        if (snapshot != null && snapshot.filter() != next) {
+            snapshot.filter().put(id);
+        }
+    }
+
+    public void rebuild(long count, Stream<String> ids) {
+        rebuildLock.lock();
+        try {
+            long capacity = Math.max(minimumCapacity, (long) Math.ceil(count * (1 + headroom)));
+            ProductIdBloomFilter next = ProductIdBloomFilter.create(capacity, falsePositiveRate);
+            // Marcado antes da leitura: um produto criado durante a carga tem ObjectId mais novo que isso.
+            long trustedBefore = clock.instant().minus(clockSkew).getEpochSecond();
+            Instant builtAt = clock.instant();
+            building = next;
+            try {
+                ids.forEach(next::put);
+                current = new Snapshot(next, trustedBefore, builtAt);
+            } finally {
+                building = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isSaturated() {
+        Snapshot snapshot = current;
+        return snapshot != null && snapshot.filter().insertions() > snapshot.filter().capacity();
+    }
+
+    public boolean isOlderThan(Duration age) {
+        Snapshot snapshot = current;
+        return snapshot == null || snapshot.builtAt().plus(age).isBefore(clock.instant());
+    }
+
+    public double fillRatio() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.filter().fillRatio() : 0;
+    }
+
+    public double expectedFalsePositiveRate() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.filter().expectedFalsePositiveRate() : 0;
+    }
+
+    public long sizeInBytes() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.filter().sizeInBytes() : 0;
+    }
+
+    public long insertions() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.filter().insertions() : 0;
+    }
+
+    public long capacity() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot.filter().capacity() : 0;
+    }
+
+    private record Snapshot(ProductIdBloomFilter filter, long trustedBefore, Instant builtAt) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class VersionedProductRepository implements ProductRepository {
+    private final ProductRepository delegate;
+    private final CatalogVersion catalogVersion;
+
+    public VersionedProductRepository(ProductRepository delegate, CatalogVersion catalogVersion) {
+        this.delegate = delegate;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        catalogVersion.bump();
+        return saved;
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        ProductBatch saved = delegate.saveAll(products);
+        catalogVersion.bump();
+        return saved;
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return delegate.exists(id);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        return delegate.findPage(cursor, limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            catalogVersion.bump();
+        }
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        long deleted = delegate.deleteAllById(ids);
+        if (deleted > 0) {
+            catalogVersion.bump();
+        }
+        return deleted;
+    }
+
+    @Override
+    public Optional<Product> reserveStock(String id, long quantity) {
+        return bumpIfPresent(delegate.reserveStock(id, quantity));
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return bumpIfPresent(delegate.releaseStock(id, quantity));
+    }
+
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        List<Product> updated = delegate.applyStockDeltas(sequence, deltas);
+        if (!updated.isEmpty()) {
+            catalogVersion.bump();
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        return bumpIfPresent(delegate.update(id, expectedVersion, patch));
+    }
+
+    @Override
+    public List<Product> findByCategory(CategoryEnum category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        return delegate.findPageByCategory(category, cursor, limit);
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceBetween(category, minPrice, maxPrice);
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return delegate.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
+    }
+
+    private Optional<Product> bumpIfPresent(Optional<Product> updated) {
+        if (updated.isPresent()) {
+            catalogVersion.bump();
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.ProductAutocompleteRefresher;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrieProductAutocomplete;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.autocomplete", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProductAutocompleteProperties.class)
+public class ProductAutocompleteConfig {
+
+    @Bean
+    public TrieProductAutocomplete trieProductAutocomplete(ProductAutocompleteProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(
+                properties.getRanking().comparator(), properties.getTopK());
+        Gauge.builder("products.autocomplete.nodes", autocomplete, TrieProductAutocomplete::nodeCount)
+                .description("Nós da trie de autocomplete")
+                .register(meterRegistry);
+        Gauge.builder("products.autocomplete.overlay", autocomplete, TrieProductAutocomplete::overlaySize)
+                .description("Escritas locais ainda fora da trie, até a próxima recarga")
+                .register(meterRegistry);
+        return autocomplete;
+    }
+
+    @Bean
+    public ProductAutocompleteRefresher productAutocompleteRefresher(TrieProductAutocomplete trieProductAutocomplete,
+                                                                     ProductRepositoryAdapter productRepositoryAdapter) {
+        return new ProductAutocompleteRefresher(trieProductAutocomplete, productRepositoryAdapter);
+    }
+}
@@ -0,0 +1,46 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.AutocompleteRanking;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product.autocomplete")
+public class ProductAutocompleteProperties {
+    private boolean enabled = false;
+    private int topK = 10;
+    private AutocompleteRanking ranking = AutocompleteRanking.STOCK;
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+
+    public AutocompleteRanking getRanking() {
+        return ranking;
+    }
+
+    public void setRanking(AutocompleteRanking ranking) {
+        this.ranking = ranking;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
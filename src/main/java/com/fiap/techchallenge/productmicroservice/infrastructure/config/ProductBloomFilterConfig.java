@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductIdFilterRefresher;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.bloom-filter", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProductBloomFilterProperties.class)
+public class ProductBloomFilterConfig {
+
+    @Bean
+    public ProductIdFilter productIdFilter(ProductBloomFilterProperties properties, MeterRegistry meterRegistry) {
+        ProductIdFilter filter = new ProductIdFilter(properties.getFalsePositiveRate(), properties.getHeadroom(),
+                properties.getMinimumCapacity(), properties.getClockSkew());
+        Gauge.builder("products.bloom.fill.ratio", filter, ProductIdFilter::fillRatio)
+                .description("Fração dos bits ligados no filtro de Bloom de ids")
+                .register(meterRegistry);
+        Gauge.builder("products.bloom.fpp", filter, ProductIdFilter::expectedFalsePositiveRate)
+                .description("Taxa de falso positivo estimada pelo preenchimento atual do filtro de Bloom")
+                .register(meterRegistry);
+        Gauge.builder("products.bloom.size", filter, ProductIdFilter::sizeInBytes)
+                .description("Memória fora do heap ocupada pelo filtro de Bloom")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("products.bloom.insertions", filter, ProductIdFilter::insertions)
+                .description("Ids inseridos no filtro de Bloom desde a última carga")
+                .register(meterRegistry);
+        Gauge.builder("products.bloom.capacity", filter, ProductIdFilter::capacity)
+                .description("Ids que o filtro de Bloom comporta na taxa de falso positivo configurada")
+                .register(meterRegistry);
+        return filter;
+    }
+
+    @Bean
+    public ProductIdFilterRefresher productIdFilterRefresher(ProductRepositoryAdapter productRepositoryAdapter,
+                                                             ProductIdFilter productIdFilter,
+                                                             ProductBloomFilterProperties properties) {
+        return new ProductIdFilterRefresher(productRepositoryAdapter, productIdFilter,
+                properties.getRebuildInterval());
+    }
+}
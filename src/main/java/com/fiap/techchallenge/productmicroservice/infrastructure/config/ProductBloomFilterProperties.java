@@ -0,0 +1,63 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product.bloom-filter")
+public class ProductBloomFilterProperties {
+    private boolean enabled = false;
+    private double falsePositiveRate = 0.01;
+    private double headroom = 0.5;
+    private long minimumCapacity = 10_000;
+    private Duration clockSkew = Duration.ofMinutes(1);
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public double getHeadroom() {
+        return headroom;
+    }
+
+    public void setHeadroom(double headroom) {
+        this.headroom = headroom;
+    }
+
+    public long getMinimumCapacity() {
+        return minimumCapacity;
+    }
+
+    public void setMinimumCapacity(long minimumCapacity) {
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    public Duration getClockSkew() {
+        return clockSkew;
+    }
+
+    public void setClockSkew(Duration clockSkew) {
+        this.clockSkew = clockSkew;
+    }
+
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    public void setRebuildInterval(Duration rebuildInterval) {
+        this.rebuildInterval = rebuildInterval;
+    }
+}
@@ -0,0 +1,16 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "product.coalescing")
+public class ProductCoalescingProperties {
+    private boolean enabled = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
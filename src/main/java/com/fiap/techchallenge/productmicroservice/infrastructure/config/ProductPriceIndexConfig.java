@@ -0,0 +1,22 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.PriceRangeIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.price-index", name = "enabled", havingValue = "true")
+public class ProductPriceIndexConfig {
+
+    @Bean
+    public PriceRangeIndex priceRangeIndex(MeterRegistry meterRegistry) {
+        PriceRangeIndex index = new PriceRangeIndex();
+        Gauge.builder("products.price.index.size", index, PriceRangeIndex::size)
+                .description("Produtos no índice de faixa de preço")
+                .register(meterRegistry);
+        return index;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.BloomFilterProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CachingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CoalescingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.NegativeCachingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.VersionedProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.CatalogVersionRefresher;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.IndexingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.ProductIndex;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.ProductIndexRefresher;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrieProductAutocomplete;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.BroadcastingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.ProductEventBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties({ProductCacheProperties.class, ProductCoalescingProperties.class,
+        ProductNegativeCacheProperties.class})
+public class ProductRepositoryConfig {
+
+    @Bean
+    @Primary
+    public ProductRepository productRepository(ProductRepositoryAdapter productRepositoryAdapter,
+                                               ProductCacheProperties cacheProperties,
+                                               ProductCoalescingProperties coalescingProperties,
+                                               ProductNegativeCacheProperties negativeCacheProperties,
+                                               ObjectProvider<ProductIndex> productIndexes,
+                                               ObjectProvider<ProductIdFilter> productIdFilter,
+                                               MeterRegistry meterRegistry,
+                                               CatalogVersion catalogVersion,
+                                               ObjectProvider<ProductEventBroadcaster> broadcaster) {
+        ProductRepository repository = productRepositoryAdapter;
+        if (coalescingProperties.isEnabled()) {
+            repository = new CoalescingProductRepository(repository, meterRegistry);
+        }
+        List<ProductIndex> indexes = productIndexes.orderedStream().toList();
+        if (!indexes.isEmpty()) {
+            repository = new IndexingProductRepository(repository, indexes);
+        }
+        if (cacheProperties.isEnabled()) {
+            CachingProductRepository caching = new CachingProductRepository(repository,
+                    cacheProperties.getMaximumSize(), cacheProperties.getTtl(), meterRegistry);
+            catalogVersion.onExternalChange(caching::invalidateAll);
+            repository = caching;
+        }
+        if (negativeCacheProperties.isEnabled()) {
+            NegativeCachingProductRepository negative = new NegativeCachingProductRepository(repository,
+                    negativeCacheProperties.getMaximumSize(), negativeCacheProperties.getTtl(), meterRegistry);
+            catalogVersion.onExternalChange(negative::invalidateAll);
+            repository = negative;
+        }
+        ProductIdFilter idFilter = productIdFilter.getIfAvailable();
+        if (idFilter != null) {
+            repository = new BloomFilterProductRepository(repository, idFilter, meterRegistry);
+        }
+        repository = new VersionedProductRepository(repository, catalogVersion);
+        ProductEventBroadcaster events = broadcaster.getIfAvailable();
+        return events != null ? new BroadcastingProductRepository(repository, events) : repository;
+    }
+
+    @Bean
+    public CatalogVersion catalogVersion() {
+        return new CatalogVersion();
+    }
+
+    @Bean
+    public CatalogVersionRefresher catalogVersionRefresher(MongoTemplate mongoTemplate,
+                                                           CatalogVersion catalogVersion) {
+        return new CatalogVersionRefresher(mongoTemplate, catalogVersion);
+    }
+
+    @Bean
+    public ProductIndexRefresher productIndexRefresher(ObjectProvider<ProductIndex> productIndexes,
+                                                       ProductRepositoryAdapter productRepositoryAdapter) {
+        List<ProductIndex> indexes = productIndexes.orderedStream()
+                .filter(index -> !(index instanceof TrieProductAutocomplete))
+                .toList();
+        return new ProductIndexRefresher(indexes, productRepositoryAdapter);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.web.ProductController;
+import com.fiap.techchallenge.productmicroservice.infrastructure.web.SerializedPageCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.response-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProductResponseCacheProperties.class)
+public class ProductResponseCacheConfig {
+
+    @Bean
+    public SerializedPageCache serializedPageCache(ProductResponseCacheProperties properties,
+                                                   CatalogVersion catalogVersion,
+                                                   ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry) {
+        return new SerializedPageCache(catalogVersion, ProductController.pageWriter(objectMapper),
+                properties.getMaximumSize().toBytes(), properties.isGzip(), meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "product.response-cache")
+public class ProductResponseCacheProperties {
+    private boolean enabled = false;
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+    private boolean gzip = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrigramProductIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.search-index", name = "enabled", havingValue = "true")
+public class ProductSearchIndexConfig {
+
+    @Bean
+    public TrigramProductIndex trigramProductIndex(MeterRegistry meterRegistry) {
+        TrigramProductIndex index = new TrigramProductIndex();
+        Gauge.builder("products.search.index.memory", index, TrigramProductIndex::estimatedMemoryBytes)
+                .description("Memória estimada do índice de trigramas")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("products.search.index.size", index, TrigramProductIndex::size)
+                .description("Produtos no índice de trigramas")
+                .register(meterRegistry);
+        return index;
+    }
+}
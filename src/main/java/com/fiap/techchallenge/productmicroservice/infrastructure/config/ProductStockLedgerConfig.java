@@ -0,0 +1,43 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.MongoStockLedgerLease;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stock.InMemoryStockLedger;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stock.StockJournal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.stock-ledger", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProductStockLedgerProperties.class)
+public class ProductStockLedgerConfig {
+
+    @Bean(initMethod = "recover", destroyMethod = "close")
+    public InMemoryStockLedger stockLedger(ProductRepositoryAdapter productRepositoryAdapter,
+                                           ProductRepository productRepository,
+                                           MongoTemplate mongoTemplate,
+                                           ProductStockLedgerProperties properties,
+                                           MeterRegistry meterRegistry) {
+        InMemoryStockLedger ledger = new InMemoryStockLedger(productRepositoryAdapter,
+                productRepository::applyStockDeltas,
+                new StockJournal(properties.getJournalDir(), properties.isFsync()),
+                new MongoStockLedgerLease(mongoTemplate, properties.getLeaseTtl()));
+        Gauge.builder("products.stock.ledger.products", ledger, InMemoryStockLedger::size)
+                .description("Produtos com estoque mantido no ledger")
+                .register(meterRegistry);
+        Gauge.builder("products.stock.ledger.pending", ledger, InMemoryStockLedger::pendingDelta)
+                .description("Unidades reservadas ou devolvidas que ainda não chegaram ao MongoDB")
+                .register(meterRegistry);
+        Gauge.builder("products.stock.ledger.flush.lag", ledger, InMemoryStockLedger::flushLagSeconds)
+                .description("Segundos desde o último flush do ledger para o MongoDB")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return ledger;
+    }
+}
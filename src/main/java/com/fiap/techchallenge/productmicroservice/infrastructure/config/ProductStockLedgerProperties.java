@@ -0,0 +1,55 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "product.stock-ledger")
+public class ProductStockLedgerProperties {
+    private boolean enabled = false;
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private Path journalDir = Path.of("data", "stock-ledger");
+    private boolean fsync = false;
+    private Duration leaseTtl = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Path getJournalDir() {
+        return journalDir;
+    }
+
+    public void setJournalDir(Path journalDir) {
+        this.journalDir = journalDir;
+    }
+
+    public boolean isFsync() {
+        return fsync;
+    }
+
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    public Duration getLeaseTtl() {
+        return leaseTtl;
+    }
+
+    public void setLeaseTtl(Duration leaseTtl) {
+        this.leaseTtl = leaseTtl;
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductEventDTO;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.ProductEventBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product.stream", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProductStreamProperties.class)
+public class ProductStreamConfig {
+
+    @Bean(destroyMethod = "close")
+    public ProductEventBroadcaster productEventBroadcaster(ProductStreamProperties properties,
+                                                           ObjectMapper objectMapper,
+                                                           CatalogVersion catalogVersion,
+                                                           MeterRegistry meterRegistry,
+                                                           Environment environment) {
+        ProductEventBroadcaster broadcaster = new ProductEventBroadcaster(objectMapper,
+                dispatcher(properties, environment),
+                properties.getMaxClients(), properties.getBufferSize(), properties.getTimeout(),
+                properties.getSendTimeout(), meterRegistry);
+        catalogVersion.afterExternalChange(() -> broadcaster.publish(ProductEventDTO.catalog(catalogVersion.etag())));
+        return broadcaster;
+    }
+
+    static Executor dispatcher(ProductStreamProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("product-stream-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        return Executors.newFixedThreadPool(properties.getDispatchThreads(),
+                new CustomizableThreadFactory("product-stream-"));
+    }
+}
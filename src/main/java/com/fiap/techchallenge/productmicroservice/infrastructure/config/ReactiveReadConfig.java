@@ -0,0 +1,60 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.application.services.ReactiveProductService;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ReactiveProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.usecases.StreamProductsUseCase;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ReactiveProductRepositoryAdapter;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.mongo.MongoConnectionDetails;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadConfig {
+
+    // O Tomcat também está no classpath (stack servlet); sem esta fábrica o WebFlux subiria sobre ele.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public MongoClient reactiveMongoClient(MongoConnectionDetails connectionDetails) {
+        return MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(connectionDetails.getConnectionString())
+                .build());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient,
+                                                       MongoDatabaseFactory databaseFactory,
+                                                       MappingMongoConverter converter) {
+        String database = databaseFactory.getMongoDatabase().getName();
+        return new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, database),
+                converter);
+    }
+
+    @Bean
+    public ReactiveProductRepository reactiveProductRepository(ReactiveMongoTemplate reactiveMongoTemplate) {
+        return new ReactiveProductRepositoryAdapter(reactiveMongoTemplate);
+    }
+
+    @Bean
+    public StreamProductsUseCase streamProductsUseCase(ReactiveProductRepository reactiveProductRepository) {
+        return new StreamProductsUseCase(reactiveProductRepository);
+    }
+
+    @Bean
+    public ReactiveProductService reactiveProductService(StreamProductsUseCase streamProductsUseCase) {
+        return new ReactiveProductService(streamProductsUseCase);
+    }
+}
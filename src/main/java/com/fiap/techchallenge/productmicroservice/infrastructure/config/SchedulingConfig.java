@@ -0,0 +1,23 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // O @Scheduled só aceita milissegundos ou ISO-8601; os intervalos do application.yml (2s, 10m) passam por aqui.
+    @Bean
+    public ScheduleIntervals scheduleIntervals() {
+        return new ScheduleIntervals();
+    }
+
+    public static class ScheduleIntervals {
+        public long millis(String interval) {
+            return DurationStyle.detectAndParse(interval).toMillis();
+        }
+    }
+}
@@ -1,22 +1,28 @@
 package com.fiap.techchallenge.productmicroservice.infrastructure.config;
 
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductChangeFeed;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductAutocompleteIndex;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductPriceIndex;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductSearchIndex;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
 import com.fiap.techchallenge.productmicroservice.domain.usecases.*;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Optional;
+
 @Configuration
 public class UseCaseConfig {
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public CreateProductUseCase createProductUseCase(ProductRepository productRepository) {
+        return new CreateProductUseCase(productRepository);
     }
 
     @Bean
-    public CreateProductUseCase createProductUseCase(ProductRepository productRepository) {
-        return new CreateProductUseCase(productRepository);
+    public CreateProductsUseCase createProductsUseCase(ProductRepository productRepository) {
+        return new CreateProductsUseCase(productRepository);
     }
 
     @Bean
@@ -24,14 +30,54 @@ public class UseCaseConfig {
         return new FindProductByIdUseCase(productRepository);
     }
 
+    @Bean
+    public FindProductsByIdsUseCase findProductsByIdsUseCase(ProductRepository productRepository) {
+        return new FindProductsByIdsUseCase(productRepository);
+    }
+
     @Bean
     public FindAllProductsUseCase findAllProductsUseCase(ProductRepository productRepository) {
         return new FindAllProductsUseCase(productRepository);
     }
 
     @Bean
-    public DeleteProductByIdUseCase deleteProductByIdUseCase(ProductRepository productRepository) {
-        return new DeleteProductByIdUseCase(productRepository);
+    public FindProductChangesUseCase findProductChangesUseCase(ProductChangeFeed productChangeFeed) {
+        return new FindProductChangesUseCase(productChangeFeed);
+    }
+
+    @Bean
+    public ExportProductsUseCase exportProductsUseCase(ProductRepository productRepository) {
+        return new ExportProductsUseCase(productRepository);
+    }
+
+    @Bean
+    public DeleteProductByIdUseCase deleteProductByIdUseCase(ProductRepository productRepository,
+                                                             Optional<StockLedger> stockLedger) {
+        return new DeleteProductByIdUseCase(productRepository, stockLedger.orElse(null));
+    }
+
+    @Bean
+    public DeleteProductsByIdsUseCase deleteProductsByIdsUseCase(ProductRepository productRepository,
+                                                                 Optional<StockLedger> stockLedger) {
+        return new DeleteProductsByIdsUseCase(productRepository, stockLedger.orElse(null));
+    }
+
+    @Bean
+    public ReserveStockUseCase reserveStockUseCase(ProductRepository productRepository,
+                                                   Optional<StockLedger> stockLedger) {
+        return new ReserveStockUseCase(productRepository, stockLedger.orElse(null));
+    }
+
+    @Bean
+    public ReleaseStockUseCase releaseStockUseCase(ProductRepository productRepository,
+                                                   Optional<StockLedger> stockLedger) {
+        return new ReleaseStockUseCase(productRepository, stockLedger.orElse(null));
+    }
+
+    @Bean
+    public UpdateProductUseCase updateProductUseCase(ProductRepository productRepository,
+                                                     Optional<StockLedger> stockLedger) {
+        return new UpdateProductUseCase(productRepository, stockLedger.orElse(null));
     }
 
     @Bean
@@ -40,17 +86,26 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public FindProductsByNameUseCase findProductsByNameUseCase(ProductRepository productRepository) {
-        return new FindProductsByNameUseCase(productRepository);
+    public FindProductsByNameUseCase findProductsByNameUseCase(ProductRepository productRepository,
+                                                               Optional<ProductSearchIndex> searchIndex) {
+        return new FindProductsByNameUseCase(productRepository, searchIndex.orElse(null));
+    }
+
+    @Bean
+    public AutocompleteProductsUseCase autocompleteProductsUseCase(ProductRepository productRepository,
+                                                                   Optional<ProductAutocompleteIndex> autocompleteIndex) {
+        return new AutocompleteProductsUseCase(productRepository, autocompleteIndex.orElse(null));
     }
 
     @Bean
-    public FindProductsByCategoryAndPriceRangeUseCase findProductsByCategoryAndPriceRangeUseCase(ProductRepository productRepository) {
-        return new FindProductsByCategoryAndPriceRangeUseCase(productRepository);
+    public FindProductsByCategoryAndPriceRangeUseCase findProductsByCategoryAndPriceRangeUseCase(ProductRepository productRepository,
+                                                                                                 Optional<ProductPriceIndex> priceIndex) {
+        return new FindProductsByCategoryAndPriceRangeUseCase(productRepository, priceIndex.orElse(null));
     }
 
     @Bean
-    public FindProductsByCategoryAndPriceRangeManualUseCase findProductsByCategoryAndPriceRangeManualUseCase(ProductRepository productRepository) {
-        return new FindProductsByCategoryAndPriceRangeManualUseCase(productRepository);
+    public FindProductsByCategoryAndPriceRangeManualUseCase findProductsByCategoryAndPriceRangeManualUseCase(ProductRepository productRepository,
+                                                                                                             Optional<ProductPriceIndex> priceIndex) {
+        return new FindProductsByCategoryAndPriceRangeManualUseCase(productRepository, priceIndex.orElse(null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.runtime.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${product.virtual-threads.pinned-threshold:20ms}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class CatalogVersionRefresher {
+    private static final Logger log = LoggerFactory.getLogger(CatalogVersionRefresher.class);
+    static final Sort LATEST_UPDATE_SORT = Sort.by(Sort.Direction.DESC, "updatedAt", "_id");
+
+    private final MongoTemplate mongoTemplate;
+    private final CatalogVersion catalogVersion;
+    // Lock em vez de synchronized: a consulta ao MongoDB dentro de um monitor prenderia a carrier thread.
+    private final ReentrantLock lock = new ReentrantLock();
+    private Watermark last;
+
+    public CatalogVersionRefresher(MongoTemplate mongoTemplate, CatalogVersion catalogVersion) {
+        this.mongoTemplate = mongoTemplate;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Scheduled(fixedDelayString = "#{@scheduleIntervals.millis('${product.catalog-version.poll-interval:2s}')}")
+    public void refresh() {
+        lock.lock();
+        try {
+            long writesSeen = catalogVersion.writes();
+            Watermark current;
+            try {
+                current = read();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao verificar alterações no catálogo: {}", e.getMessage());
+                return;
+            }
+            if (!current.equals(last)) {
+                catalogVersion.externalChange(current.hash(), writesSeen);
+            }
+            last = current;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static Query latestUpdate() {
+        Query query = new Query().with(LATEST_UPDATE_SORT).limit(1);
+        query.fields().include("updatedAt").include("version");
+        return query;
+    }
+
+    private Watermark read() {
+        long count = mongoTemplate.estimatedCount(ProductDocument.class);
+        ProductDocument latest = mongoTemplate.findOne(latestUpdate(), ProductDocument.class);
+        if (latest == null) {
+            return new Watermark(count, null, null, null);
+        }
+        return new Watermark(count, latest.getId(), latest.getUpdatedAt(), latest.getVersion());
+    }
+
+    private record Watermark(long count, String id, LocalDateTime updatedAt, Long version) {
+
+        String hash() {
+            UUID digest = UUID.nameUUIDFromBytes(toString().getBytes(StandardCharsets.UTF_8));
+            return Long.toString(digest.getMostSignificantBits() & Long.MAX_VALUE, 36);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+final class ChangeToken {
+    private static final String INVALID_TOKEN_MESSAGE = "Token de sincronização inválido";
+    private static final char SEPARATOR = '|';
+    static final ObjectId MIN_ID = new ObjectId("000000000000000000000000");
+
+    private final LocalDateTime changedAt;
+    private final Object id;
+
+    ChangeToken(LocalDateTime changedAt, ObjectId id) {
+        this.changedAt = changedAt;
+        this.id = id;
+    }
+
+    private ChangeToken(LocalDateTime changedAt, Object id) {
+        this.changedAt = changedAt;
+        this.id = id;
+    }
+
+    static ChangeToken after(LocalDateTime changedAt, String id) {
+        return new ChangeToken(changedAt, storedId(id));
+    }
+
+    static Object storedId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    String encode() {
+        String raw = changedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ProductValidationException(INVALID_TOKEN_MESSAGE);
+            }
+            String id = raw.substring(separator + 1);
+            if (id.isEmpty()) {
+                throw new ProductValidationException(INVALID_TOKEN_MESSAGE);
+            }
+            return after(LocalDateTime.parse(raw.substring(0, separator)), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ProductValidationException(INVALID_TOKEN_MESSAGE);
+        }
+    }
+
+    LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    Object getId() {
+        return id;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.stock.StockLedgerLease;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+public class MongoStockLedgerLease implements StockLedgerLease {
+    static final String COLLECTION = "stock_ledger_lease";
+    static final String LEASE_ID = "stock-ledger";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public MongoStockLedgerLease(MongoTemplate mongoTemplate, Duration ttl) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        Date now = new Date();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", new Date(now.getTime() + ttl.toMillis()));
+        try {
+            mongoTemplate.upsert(query, update, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release() {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(LEASE_ID).and("owner").is(owner)), COLLECTION);
+    }
+}
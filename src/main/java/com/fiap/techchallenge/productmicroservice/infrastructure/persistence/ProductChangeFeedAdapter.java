@@ -0,0 +1,127 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChange;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ChangeTokenExpiredException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductChangeFeed;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ProductChangeFeedAdapter implements ProductChangeFeed, ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeFeedAdapter.class);
+    static final String UPDATED_AT = "updatedAt";
+    static final String TTL_INDEX = "deletedAt_ttl";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration settleTime;
+    private final Duration retention;
+
+    public ProductChangeFeedAdapter(MongoTemplate mongoTemplate,
+                                    @Value("${product.changes.settle-time:2s}") Duration settleTime,
+                                    @Value("${product.changes.retention:7d}") Duration retention) {
+        this.mongoTemplate = mongoTemplate;
+        this.settleTime = settleTime;
+        this.retention = retention;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            mongoTemplate.indexOps(ProductTombstoneDocument.class).ensureIndex(new Index()
+                    .on(ProductTombstoneDocument.DELETED_AT, Sort.Direction.ASC)
+                    .named(TTL_INDEX)
+                    .expire(retention));
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível criar o índice TTL das remoções: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public ProductChangePage findChanges(String token, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        ChangeToken after = token != null ? ChangeToken.decode(token) : null;
+        if (after != null && after.getChangedAt().isBefore(now.minus(retention))) {
+            throw new ChangeTokenExpiredException();
+        }
+        LocalDateTime until = now.minus(settleTime);
+        List<ProductDocument> updated = mongoTemplate.find(
+                changesQuery(UPDATED_AT, after, until, limit), ProductDocument.class);
+        List<ProductTombstoneDocument> deleted = after == null ? List.of() : mongoTemplate.find(
+                changesQuery(ProductTombstoneDocument.DELETED_AT, after, until, limit),
+                ProductTombstoneDocument.class);
+
+        List<ProductChange> changes = merge(updated, deleted, limit);
+        boolean hasMore = updated.size() + deleted.size() > limit;
+        if (hasMore) {
+            ProductChange last = changes.get(changes.size() - 1);
+            return new ProductChangePage(changes,
+                    ChangeToken.after(last.getChangedAt(), last.getProductId()).encode(),
+                    true);
+        }
+        return new ProductChangePage(changes, new ChangeToken(until, ChangeToken.MIN_ID).encode(), false);
+    }
+
+    static Query changesQuery(String field, ChangeToken after, LocalDateTime until, int limit) {
+        Criteria criteria = Criteria.where(field).lt(until);
+        if (after != null) {
+            // Strings ordenam antes dos ObjectIds: depois de uma, os ObjectIds do mesmo instante ainda faltam.
+            criteria = after.getId() instanceof ObjectId
+                    ? criteria.gte(after.getChangedAt()).orOperator(
+                            Criteria.where(field).gt(after.getChangedAt()),
+                            Criteria.where("_id").gt(after.getId()))
+                    : criteria.gte(after.getChangedAt()).orOperator(
+                            Criteria.where(field).gt(after.getChangedAt()),
+                            Criteria.where("_id").gt(after.getId()),
+                            Criteria.where("_id").type(JsonSchemaObject.Type.objectIdType()));
+        }
+        return Query.query(criteria)
+                .with(Sort.by(field, "_id"))
+                .limit(limit + 1);
+    }
+
+    private static List<ProductChange> merge(List<ProductDocument> updated, List<ProductTombstoneDocument> deleted,
+                                             int limit) {
+        List<ProductChange> changes = new ArrayList<>(Math.min(limit, updated.size() + deleted.size()));
+        int u = 0;
+        int d = 0;
+        while (changes.size() < limit && (u < updated.size() || d < deleted.size())) {
+            if (d >= deleted.size() || (u < updated.size() && compare(updated.get(u), deleted.get(d)) < 0)) {
+                changes.add(ProductChange.upsert(ProductDocumentMapper.toDomain(updated.get(u++))));
+            } else {
+                ProductTombstoneDocument tombstone = deleted.get(d++);
+                changes.add(ProductChange.delete(tombstone.getId(), tombstone.getDeletedAt()));
+            }
+        }
+        return changes;
+    }
+
+    private static int compare(ProductDocument product, ProductTombstoneDocument tombstone) {
+        int byTime = product.getUpdatedAt().compareTo(tombstone.getDeletedAt());
+        if (byTime != 0) {
+            return byTime;
+        }
+        boolean productObjectId = ObjectId.isValid(product.getId());
+        boolean tombstoneObjectId = ObjectId.isValid(tombstone.getId());
+        if (productObjectId != tombstoneObjectId) {
+            return productObjectId ? 1 : -1;
+        }
+        return product.getId().compareTo(tombstone.getId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+final class ProductCursor {
+    private static final String INVALID_CURSOR_MESSAGE = "Cursor de paginação inválido";
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final ObjectId id;
+
+    private ProductCursor(LocalDateTime createdAt, ObjectId id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    static String encode(ProductDocument document) {
+        String raw = document.getCreatedAt().toString() + SEPARATOR + document.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ProductValidationException(INVALID_CURSOR_MESSAGE);
+            }
+            return new ProductCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    new ObjectId(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ProductValidationException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    ObjectId getId() {
+        return id;
+    }
+}
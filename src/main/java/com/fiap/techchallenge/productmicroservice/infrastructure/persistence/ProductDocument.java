@@ -2,38 +2,56 @@ package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.time.LocalDateTime;
-
-@Document(collection = "products")
+import java.util.List;
+
+@Document(collection = ProductDocument.COLLECTION)
+@CompoundIndexes({
+        @CompoundIndex(name = "createdAt_id", def = "{ 'createdAt': 1, '_id': 1 }"),
+        @CompoundIndex(name = "category_createdAt_id", def = "{ 'category': 1, 'createdAt': 1, '_id': 1 }"),
+        @CompoundIndex(name = "category_price_id", def = "{ 'category': 1, 'price': 1, '_id': 1 }"),
+        @CompoundIndex(name = "updatedAt_id", def = "{ 'updatedAt': 1, '_id': 1 }")
+})
 public class ProductDocument {
+    public static final String COLLECTION = "products";
+
     @Id
     private String id;
     
     @Indexed
     private String name;
+
+    @Indexed
+    private String searchName;
+
+    @Indexed
+    private List<String> searchGrams;
     
     private String description;
     
     private String image;
     
-    @Indexed
     private Long price;
     
     private Long priceForClient;
     
-    @Indexed
     private CategoryEnum category;
     
     private Long quantity;
     
-    @Indexed
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     public ProductDocument() {}
 
     public ProductDocument(String name, String description, String image, Long price, 
@@ -66,6 +84,22 @@ public class ProductDocument {
         this.name = name;
     }
 
+    public String getSearchName() {
+        return searchName;
+    }
+
+    public void setSearchName(String searchName) {
+        this.searchName = searchName;
+    }
+
+    public List<String> getSearchGrams() {
+        return searchGrams;
+    }
+
+    public void setSearchGrams(List<String> searchGrams) {
+        this.searchGrams = searchGrams;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -129,4 +163,12 @@ public class ProductDocument {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.bson.Document;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+@Component
+public class ProductDocumentBackfillRunner implements ApplicationRunner {
+    static final int BATCH_SIZE = 500;
+    private static final Logger log = LoggerFactory.getLogger(ProductDocumentBackfillRunner.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public ProductDocumentBackfillRunner(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfillCreatedAt();
+        backfillUpdatedAt();
+        backfillSearchKeys();
+        backfillVersion();
+    }
+
+    int backfillCreatedAt() {
+        Query query = Query.query(Criteria.where("createdAt").is(null));
+        query.fields().include("_id");
+        int updated = updateEach(query, (document, bulk) -> {
+            if (document.get("_id") instanceof ObjectId id) {
+                bulk.updateOne(
+                        Query.query(Criteria.where("_id").is(id).and("createdAt").is(null)),
+                        Update.update("createdAt",
+                                LocalDateTime.ofInstant(id.getDate().toInstant(), ZoneId.systemDefault())));
+                return true;
+            }
+            return false;
+        });
+        if (updated > 0) {
+            log.info("createdAt preenchido em {} produtos", updated);
+        }
+        return updated;
+    }
+
+    long backfillUpdatedAt() {
+        long updated = mongoTemplate.updateMulti(
+                Query.query(Criteria.where(ProductChangeFeedAdapter.UPDATED_AT).is(null)),
+                AggregationUpdate.update().set(ProductChangeFeedAdapter.UPDATED_AT).toValueOf(Fields.field("createdAt")),
+                ProductDocument.COLLECTION).getModifiedCount();
+        if (updated > 0) {
+            log.info("updatedAt preenchido em {} produtos", updated);
+        }
+        return updated;
+    }
+
+    int backfillSearchKeys() {
+        Query query = Query.query(Criteria.where(ProductSearchCriteria.SEARCH_NAME).exists(false));
+        query.fields().include("_id").include("name");
+        int updated = updateEach(query, (document, bulk) -> {
+            String searchName = SearchTextNormalizer.normalize(document.getString("name"));
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(document.get("_id"))),
+                    new Update()
+                            .set(ProductSearchCriteria.SEARCH_NAME, searchName)
+                            .set(ProductSearchCriteria.SEARCH_GRAMS,
+                                    new ArrayList<>(SearchTextNormalizer.grams(searchName))));
+            return true;
+        });
+        if (updated > 0) {
+            log.info("Chaves de busca preenchidas em {} produtos", updated);
+        }
+        return updated;
+    }
+
+    long backfillVersion() {
+        long updated = mongoTemplate.updateMulti(
+                Query.query(Criteria.where(ProductRepositoryAdapter.VERSION).exists(false)),
+                Update.update(ProductRepositoryAdapter.VERSION, 0L),
+                ProductDocument.COLLECTION).getModifiedCount();
+        if (updated > 0) {
+            log.info("Versão inicial preenchida em {} produtos", updated);
+        }
+        return updated;
+    }
+
+    private int updateEach(Query query, BiPredicate<Document, BulkOperations> update) {
+        query.cursorBatchSize(BATCH_SIZE);
+        int updated = 0;
+        BulkOperations bulk = null;
+        int pending = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, ProductDocument.COLLECTION)) {
+            Iterator<Document> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                if (bulk == null) {
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.COLLECTION);
+                }
+                if (update.test(iterator.next(), bulk) && ++pending == BATCH_SIZE) {
+                    updated += bulk.execute().getModifiedCount();
+                    bulk = null;
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            updated += bulk.execute().getModifiedCount();
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+
+import java.util.ArrayList;
+
+public final class ProductDocumentMapper {
+
+    private ProductDocumentMapper() {
+    }
+
+    public static Product toDomain(ProductDocument document) {
+        Product product = Product.restore(
+                document.getId(),
+                document.getName(),
+                document.getDescription(),
+                document.getImage(),
+                document.getPrice(),
+                document.getPriceForClient(),
+                document.getCategory(),
+                document.getQuantity(),
+                document.getCreatedAt(),
+                document.getUpdatedAt()
+        );
+        product.setVersion(document.getVersion());
+        return product;
+    }
+
+    public static ProductDocument toDocument(Product product) {
+        ProductDocument document = new ProductDocument(
+                product.getName(),
+                product.getDescription(),
+                product.getImage(),
+                product.getPrice(),
+                product.getPriceForClient(),
+                product.getCategory(),
+                product.getQuantity(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+        document.setId(product.getId());
+        document.setVersion(product.getVersion());
+        String searchName = SearchTextNormalizer.normalize(product.getName());
+        document.setSearchName(searchName);
+        document.setSearchGrams(new ArrayList<>(SearchTextNormalizer.grams(searchName)));
+        return document;
+    }
+}
@@ -0,0 +1,52 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+public class ProductIdFilterRefresher implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductIdFilterRefresher.class);
+
+    private final ProductRepositoryAdapter source;
+    private final ProductIdFilter filter;
+    private final Duration rebuildInterval;
+
+    public ProductIdFilterRefresher(ProductRepositoryAdapter source, ProductIdFilter filter,
+                                    Duration rebuildInterval) {
+        this.source = source;
+        this.filter = filter;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "#{@scheduleIntervals.millis('${product.bloom-filter.check-interval:1m}')}",
+               fixedDelayString = "#{@scheduleIntervals.millis('${product.bloom-filter.check-interval:1m}')}")
+    public void refresh() {
+        if (filter.isSaturated() || filter.isOlderThan(rebuildInterval)) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try (Stream<String> ids = source.streamIds()) {
+            filter.rebuild(source.estimatedCount(), ids);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o filtro de Bloom de ids de produto", e);
+            return;
+        }
+        log.info("Filtro de Bloom de ids carregado com {} ids ({} KiB, capacidade {}) em {} ms",
+                filter.insertions(), filter.sizeInBytes() / 1024, filter.capacity(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
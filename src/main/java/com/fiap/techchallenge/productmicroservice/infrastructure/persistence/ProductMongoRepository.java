@@ -1,18 +1,39 @@
 package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ProductMongoRepository extends MongoRepository<ProductDocument, String> {
+    String KEYSET_SORT = "{ 'createdAt': 1, '_id': 1 }";
+    String PRICE_SORT = "{ 'price': 1, '_id': 1 }";
+
     List<ProductDocument> findByCategory(CategoryEnum category);
-    List<ProductDocument> findByNameContainingIgnoreCase(String name);
-    List<ProductDocument> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice);
+    List<ProductDocument> findByCategoryAndPriceBetweenOrderByPriceAscIdAsc(CategoryEnum category, Long minPrice,
+                                                                            Long maxPrice);
     
-    @Query("{ 'category': ?0, 'price': { $gte: ?1, $lte: ?2 } }")
+    @Query(value = "{ 'category': ?0, 'price': { $gte: ?1, $lte: ?2 } }", sort = PRICE_SORT)
     List<ProductDocument> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice);
-}
\ No newline at end of file
+
+    @Query(value = "{}", sort = KEYSET_SORT)
+    List<ProductDocument> findPage(Pageable pageable);
+
+    @Query(value = "{ 'createdAt': { $gte: ?0 }, $or: [ { 'createdAt': { $gt: ?0 } }, { '_id': { $gt: ?1 } } ] }",
+            sort = KEYSET_SORT)
+    List<ProductDocument> findPageAfter(LocalDateTime createdAt, ObjectId id, Pageable pageable);
+
+    @Query(value = "{ 'category': ?0 }", sort = KEYSET_SORT)
+    List<ProductDocument> findPageByCategory(CategoryEnum category, Pageable pageable);
+
+    @Query(value = "{ 'category': ?0, 'createdAt': { $gte: ?1 }, $or: [ { 'createdAt': { $gt: ?1 } }, { '_id': { $gt: ?2 } } ] }",
+            sort = KEYSET_SORT)
+    List<ProductDocument> findPageByCategoryAfter(CategoryEnum category, LocalDateTime createdAt, ObjectId id,
+                                                  Pageable pageable);
+}
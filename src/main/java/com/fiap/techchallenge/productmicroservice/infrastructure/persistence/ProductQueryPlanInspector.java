@@ -0,0 +1,112 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ProductQueryPlanInspector implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductQueryPlanInspector.class);
+    private static final Sort KEYSET_SORT = Sort.by("createdAt", "_id");
+    private static final Sort PRICE_SORT = Sort.by("price", "_id");
+    private static final int SAMPLE_LIMIT = 101;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean verifyOnStartup;
+
+    public ProductQueryPlanInspector(MongoTemplate mongoTemplate,
+                                     @Value("${product.query-plans.verify-on-startup:false}") boolean verifyOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.verifyOnStartup = verifyOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!verifyOnStartup) {
+            return;
+        }
+        try {
+            for (QueryPlanReport report : inspect()) {
+                if (report.collectionScan()) {
+                    log.warn("Consulta {} faz COLLSCAN: plano={} docsExamined={} nReturned={}",
+                            report.query(), report.stages(), report.docsExamined(), report.returned());
+                } else {
+                    log.info("Consulta {} usa o índice {}: docsExamined={} keysExamined={} nReturned={}",
+                            report.query(), report.indexName(), report.docsExamined(), report.keysExamined(),
+                            report.returned());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível verificar os planos de consulta: {}", e.getMessage());
+        }
+    }
+
+    public List<QueryPlanReport> inspect() {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(ProductDocument.class);
+        QueryMapper mapper = new QueryMapper(mongoTemplate.getConverter());
+        List<QueryPlanReport> reports = new ArrayList<>();
+        for (HotQuery hotQuery : hotQueries()) {
+            Query query = hotQuery.query();
+            FindIterable<Document> find = mongoTemplate.getCollection(ProductDocument.COLLECTION)
+                    .find(mapper.getMappedObject(query.getQueryObject(), entity))
+                    .sort(mapper.getMappedSort(query.getSortObject(), entity));
+            if (query.getLimit() > 0) {
+                find = find.limit(query.getLimit());
+            }
+            reports.add(QueryPlanReport.from(hotQuery.name(), find.explain(ExplainVerbosity.EXECUTION_STATS)));
+        }
+        return reports;
+    }
+
+    static List<HotQuery> hotQueries() {
+        CategoryEnum category = CategoryEnum.LANCHE;
+        LocalDateTime createdAt = LocalDateTime.now();
+        ObjectId id = new ObjectId();
+        return List.of(
+                new HotQuery("findByCategory", Query.query(Criteria.where("category").is(category))),
+                new HotQuery("findByCategoryAndPriceBetween", Query.query(Criteria.where("category").is(category)
+                        .and("price").gt(0L).lt(Long.MAX_VALUE)).with(PRICE_SORT)),
+                new HotQuery("findByCategoryAndPriceRangeManual", Query.query(Criteria.where("category").is(category)
+                        .and("price").gte(0L).lte(Long.MAX_VALUE)).with(PRICE_SORT)),
+                new HotQuery("findByNameContaining", Query.query(ProductSearchCriteria.nameContains("pão de queijo"))),
+                new HotQuery("findPage", new Query().with(KEYSET_SORT).limit(SAMPLE_LIMIT)),
+                new HotQuery("findPageAfter", Query.query(keysetAfter(Criteria.where("createdAt"), createdAt, id))
+                        .with(KEYSET_SORT).limit(SAMPLE_LIMIT)),
+                new HotQuery("findPageByCategory", Query.query(Criteria.where("category").is(category))
+                        .with(KEYSET_SORT).limit(SAMPLE_LIMIT)),
+                new HotQuery("findPageByCategoryAfter", Query.query(keysetAfter(
+                                Criteria.where("category").is(category).and("createdAt"), createdAt, id))
+                        .with(KEYSET_SORT).limit(SAMPLE_LIMIT)),
+                new HotQuery("latestUpdate", CatalogVersionRefresher.latestUpdate()),
+                new HotQuery("findChanges", ProductChangeFeedAdapter.changesQuery(ProductChangeFeedAdapter.UPDATED_AT,
+                        new ChangeToken(createdAt.minusMinutes(1), id), createdAt, SAMPLE_LIMIT - 1)));
+    }
+
+    private static Criteria keysetAfter(Criteria createdAtField, LocalDateTime createdAt, ObjectId id) {
+        return createdAtField.gte(createdAt).orOperator(
+                Criteria.where("createdAt").gt(createdAt),
+                Criteria.where("_id").gt(id));
+    }
+
+    record HotQuery(String name, Query query) {
+    }
+}
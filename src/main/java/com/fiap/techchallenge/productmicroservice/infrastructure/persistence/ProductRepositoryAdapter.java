@@ -2,71 +2,279 @@ package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
-import org.modelmapper.ModelMapper;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class ProductRepositoryAdapter implements ProductRepository {
+    static final int STREAM_BATCH_SIZE = 500;
+    private static final String QUANTITY = "quantity";
+    static final String VERSION = "version";
+    static final String LEDGER_SEQUENCE = "stockLedgerSequence";
+
     private final ProductMongoRepository productMongoRepository;
-    private final ModelMapper modelMapper;
+    private final MongoTemplate mongoTemplate;
 
-    public ProductRepositoryAdapter(ProductMongoRepository productMongoRepository, ModelMapper modelMapper) {
+    public ProductRepositoryAdapter(ProductMongoRepository productMongoRepository, MongoTemplate mongoTemplate) {
         this.productMongoRepository = productMongoRepository;
-        this.modelMapper = modelMapper;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
     public Product save(Product product) {
-        ProductDocument document = modelMapper.map(product, ProductDocument.class);
+        ProductDocument document = ProductDocumentMapper.toDocument(product);
         ProductDocument savedDocument = productMongoRepository.save(document);
-        return modelMapper.map(savedDocument, Product.class);
+        return ProductDocumentMapper.toDomain(savedDocument);
+    }
+
+    @Override
+    public ProductBatch saveAll(List<Product> products) {
+        List<ProductDocument> documents = new ArrayList<>(products.size());
+        for (Product product : products) {
+            ProductDocument document = ProductDocumentMapper.toDocument(product);
+            if (document.getId() == null) {
+                document.setId(new ObjectId().toHexString());
+            }
+            if (document.getVersion() == null) {
+                document.setVersion(0L);
+            }
+            documents.add(document);
+        }
+        Map<Integer, ProductWriteError> rejected = new HashMap<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                rejected.put(error.getIndex(), new ProductWriteError(error.getMessage(), error.getCode()));
+            }
+        }
+        List<Product> saved = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            ProductDocument document = documents.get(i);
+            if (rejected.containsKey(i)) {
+                document.setId(null);
+            }
+            saved.add(ProductDocumentMapper.toDomain(document));
+        }
+        return new ProductBatch(saved, rejected);
     }
 
     @Override
     public Optional<Product> findById(String id) {
+        if (!isObjectId(id)) {
+            return Optional.empty();
+        }
         return productMongoRepository.findById(id)
-                .map(document -> modelMapper.map(document, Product.class));
+                .map(ProductDocumentMapper::toDomain);
+    }
+
+    @Override
+    public boolean exists(String id) {
+        return isObjectId(id) && productMongoRepository.existsById(id);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        List<String> valid = ids.stream().filter(ProductRepositoryAdapter::isObjectId).toList();
+        if (valid.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return productMongoRepository.findAllById(valid)
+                .stream()
+                .map(ProductDocumentMapper::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
     public List<Product> findAll() {
         return productMongoRepository.findAll()
                 .stream()
-                .map(document -> modelMapper.map(document, Product.class))
+                .map(ProductDocumentMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ProductPage findPage(String cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        if (cursor == null) {
+            return toPage(productMongoRepository.findPage(pageable), limit);
+        }
+        ProductCursor after = ProductCursor.decode(cursor);
+        return toPage(productMongoRepository.findPageAfter(after.getCreatedAt(), after.getId(), pageable), limit);
+    }
+
+    @Override
+    public Stream<Product> streamAll() {
+        Query query = new Query()
+                .with(Sort.by("createdAt", "_id"))
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        return mongoTemplate.stream(query, ProductDocument.class)
+                .map(ProductDocumentMapper::toDomain);
+    }
+
+    public Stream<String> streamIds() {
+        Query query = new Query()
+                .withHint("_id_")
+                .cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("_id");
+        return mongoTemplate.stream(query, Document.class, mongoTemplate.getCollectionName(ProductDocument.class))
+                .map(document -> document.get("_id").toString());
+    }
+
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(ProductDocument.class);
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        if (!isObjectId(id)) {
+            return false;
+        }
+        Query query = Query.query(Criteria.where("_id").is(id));
+        boolean deleted = mongoTemplate.remove(query, ProductDocument.class).getDeletedCount() > 0;
+        if (deleted) {
+            tombstone(List.of(id));
+        }
+        return deleted;
+    }
+
+    // Só recebe tombstone quem existia: um id inexistente no feed seria uma remoção que nunca aconteceu.
+    @Override
+    public long deleteAllById(Collection<String> ids) {
+        List<String> valid = ids.stream().filter(ProductRepositoryAdapter::isObjectId).collect(Collectors.toList());
+        if (valid.isEmpty()) {
+            return 0;
+        }
+        Query existing = Query.query(Criteria.where("_id").in(valid));
+        existing.fields().include("_id");
+        List<String> found = mongoTemplate.find(existing, Document.class, ProductDocument.COLLECTION).stream()
+                .map(document -> document.getObjectId("_id").toHexString())
                 .collect(Collectors.toList());
+        if (found.isEmpty()) {
+            return 0;
+        }
+        long deleted = mongoTemplate.remove(Query.query(Criteria.where("_id").in(found)), ProductDocument.class)
+                .getDeletedCount();
+        if (deleted > 0) {
+            tombstone(found);
+        }
+        return deleted;
     }
 
     @Override
-    public void deleteById(String id) {
-        productMongoRepository.deleteById(id);
+    public Optional<Product> reserveStock(String id, long quantity) {
+        Query query = Query.query(Criteria.where("_id").is(id).and(QUANTITY).gte(quantity));
+        return adjustStock(query, -quantity);
+    }
+
+    @Override
+    public Optional<Product> releaseStock(String id, long quantity) {
+        return adjustStock(Query.query(Criteria.where("_id").is(id)), quantity);
+    }
+
+    // Cada documento guarda o último lote aplicado: reaplicar um lote depois de uma queda não conta duas vezes.
+    @Override
+    public List<Product> applyStockDeltas(long sequence, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return new ArrayList<>();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class);
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((id, delta) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(id).and(LEDGER_SEQUENCE).not().gte(sequence)),
+                new Update()
+                        .inc(QUANTITY, delta)
+                        .inc(VERSION, 1)
+                        .set(LEDGER_SEQUENCE, sequence)
+                        .set("updatedAt", now)));
+        bulk.execute();
+        return findAllById(deltas.keySet());
+    }
+
+    @Override
+    public Optional<Product> update(String id, long expectedVersion, ProductPatch patch) {
+        Query query = Query.query(Criteria.where("_id").is(id).and(VERSION).is(expectedVersion));
+        Update update = new Update();
+        if (patch.getName() != null) {
+            String searchName = SearchTextNormalizer.normalize(patch.getName());
+            update.set("name", patch.getName())
+                    .set(ProductSearchCriteria.SEARCH_NAME, searchName)
+                    .set(ProductSearchCriteria.SEARCH_GRAMS, new ArrayList<>(SearchTextNormalizer.grams(searchName)));
+        }
+        setIfPresent(update, "description", patch.getDescription());
+        setIfPresent(update, "image", patch.getImage());
+        setIfPresent(update, "price", patch.getPrice());
+        setIfPresent(update, "priceForClient", patch.getPriceForClient());
+        setIfPresent(update, "category", patch.getCategory());
+        setIfPresent(update, QUANTITY, patch.getQuantity());
+        update.set("updatedAt", LocalDateTime.now()).inc(VERSION, 1);
+        ProductDocument updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ProductDocument.class);
+        return Optional.ofNullable(updated).map(ProductDocumentMapper::toDomain);
     }
 
     @Override
     public List<Product> findByCategory(CategoryEnum category) {
         return productMongoRepository.findByCategory(category)
                 .stream()
-                .map(document -> modelMapper.map(document, Product.class))
+                .map(ProductDocumentMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public ProductPage findPageByCategory(CategoryEnum category, String cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        if (cursor == null) {
+            return toPage(productMongoRepository.findPageByCategory(category, pageable), limit);
+        }
+        ProductCursor after = ProductCursor.decode(cursor);
+        return toPage(productMongoRepository.findPageByCategoryAfter(category, after.getCreatedAt(), after.getId(),
+                pageable), limit);
+    }
+
     @Override
     public List<Product> findByNameContaining(String name) {
-        return productMongoRepository.findByNameContainingIgnoreCase(name)
+        return mongoTemplate.find(Query.query(ProductSearchCriteria.nameContains(name)), ProductDocument.class)
                 .stream()
-                .map(document -> modelMapper.map(document, Product.class))
+                .map(ProductDocumentMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
-        return productMongoRepository.findByCategoryAndPriceBetween(category, minPrice, maxPrice)
+        return productMongoRepository.findByCategoryAndPriceBetweenOrderByPriceAscIdAsc(category, minPrice, maxPrice)
                 .stream()
-                .map(document -> modelMapper.map(document, Product.class))
+                .map(ProductDocumentMapper::toDomain)
                 .collect(Collectors.toList());
     }
 
@@ -74,7 +282,48 @@ public class ProductRepositoryAdapter implements ProductRepository {
     public List<Product> findByCategoryAndPriceRangeManual(CategoryEnum category, Long minPrice, Long maxPrice) {
         return productMongoRepository.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice)
                 .stream()
-                .map(document -> modelMapper.map(document, Product.class))
+                .map(ProductDocumentMapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    private Optional<Product> adjustStock(Query query, long delta) {
+        Update update = new Update()
+                .inc(QUANTITY, delta)
+                .inc(VERSION, 1)
+                .set("updatedAt", LocalDateTime.now());
+        ProductDocument updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ProductDocument.class);
+        return Optional.ofNullable(updated).map(ProductDocumentMapper::toDomain);
+    }
+
+    // Gravado depois da remoção: o produto nunca é anunciado como removido enquanto ainda existe.
+    private void tombstone(Collection<String> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductTombstoneDocument.class);
+        for (String id : ids) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(id)),
+                    Update.update(ProductTombstoneDocument.DELETED_AT, now));
+        }
+        bulk.execute();
+    }
+
+    private static void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    private ProductPage toPage(List<ProductDocument> documents, int limit) {
+        boolean hasNext = documents.size() > limit;
+        List<ProductDocument> pageDocuments = hasNext ? documents.subList(0, limit) : documents;
+        List<Product> items = pageDocuments.stream()
+                .map(ProductDocumentMapper::toDomain)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? ProductCursor.encode(pageDocuments.get(limit - 1)) : null;
+        return new ProductPage(items, nextCursor);
+    }
+
+    static boolean isObjectId(String id) {
+        return id != null && ObjectId.isValid(id);
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.Set;
+
+public final class ProductSearchCriteria {
+    static final String SEARCH_NAME = "searchName";
+    static final String SEARCH_GRAMS = "searchGrams";
+
+    private ProductSearchCriteria() {
+    }
+
+    public static Criteria nameContains(String term) {
+        String normalized = SearchTextNormalizer.normalize(term);
+        Criteria substring = Criteria.where(SEARCH_NAME).regex(escape(normalized));
+        Set<String> grams = SearchTextNormalizer.grams(normalized);
+        if (grams.isEmpty()) {
+            return substring;
+        }
+        return new Criteria().andOperator(Criteria.where(SEARCH_GRAMS).all(new ArrayList<>(grams)), substring);
+    }
+
+    static String escape(String literal) {
+        StringBuilder escaped = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
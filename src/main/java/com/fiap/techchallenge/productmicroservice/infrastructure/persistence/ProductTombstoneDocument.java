@@ -0,0 +1,42 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = ProductTombstoneDocument.COLLECTION)
+@CompoundIndex(name = "deletedAt_id", def = "{ 'deletedAt': 1, '_id': 1 }")
+public class ProductTombstoneDocument {
+    public static final String COLLECTION = "product_tombstones";
+    static final String DELETED_AT = "deletedAt";
+
+    @Id
+    private String id;
+
+    private LocalDateTime deletedAt;
+
+    public ProductTombstoneDocument() {}
+
+    public ProductTombstoneDocument(String id, LocalDateTime deletedAt) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
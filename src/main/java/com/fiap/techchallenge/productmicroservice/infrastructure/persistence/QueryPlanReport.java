@@ -0,0 +1,46 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record QueryPlanReport(String query, List<String> stages, String indexName, boolean collectionScan,
+                              long docsExamined, long keysExamined, long returned) {
+
+    public static QueryPlanReport from(String query, Document explain) {
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        Document plan = winningPlan.containsKey("queryPlan") ? winningPlan.get("queryPlan", Document.class) : winningPlan;
+        List<String> stages = new ArrayList<>();
+        String indexName = collect(plan, stages);
+        Document stats = explain.get("executionStats", Document.class);
+        return new QueryPlanReport(query, stages, indexName, stages.contains("COLLSCAN"),
+                number(stats, "totalDocsExamined"), number(stats, "totalKeysExamined"), number(stats, "nReturned"));
+    }
+
+    private static String collect(Document stage, List<String> stages) {
+        stages.add(stage.getString("stage"));
+        String indexName = stage.getString("indexName");
+        List<Document> inputs = new ArrayList<>();
+        if (stage.containsKey("inputStage")) {
+            inputs.add(stage.get("inputStage", Document.class));
+        }
+        if (stage.containsKey("inputStages")) {
+            inputs.addAll(stage.getList("inputStages", Document.class));
+        }
+        for (Document input : inputs) {
+            String inputIndex = collect(input, stages);
+            if (indexName == null) {
+                indexName = inputIndex;
+            }
+        }
+        return indexName;
+    }
+
+    private static long number(Document stats, String key) {
+        if (stats == null || !(stats.get(key) instanceof Number value)) {
+            return -1;
+        }
+        return value.longValue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ReactiveProductRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class ReactiveProductRepositoryAdapter implements ReactiveProductRepository {
+    static final Sort KEYSET_SORT = Sort.by("createdAt", "_id");
+    private static final String CATEGORY = "category";
+    private static final String PRICE = "price";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveProductRepositoryAdapter(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Product> findById(String id) {
+        if (!ProductRepositoryAdapter.isObjectId(id)) {
+            return Mono.empty();
+        }
+        return mongoTemplate.findById(id, ProductDocument.class)
+                .map(ProductDocumentMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Product> findAll() {
+        return find(new Query().with(KEYSET_SORT).cursorBatchSize(ProductRepositoryAdapter.STREAM_BATCH_SIZE));
+    }
+
+    @Override
+    public Flux<Product> findByCategory(CategoryEnum category) {
+        return find(Query.query(Criteria.where(CATEGORY).is(category)));
+    }
+
+    @Override
+    public Flux<Product> findByNameContaining(String name) {
+        return find(Query.query(ProductSearchCriteria.nameContains(name)));
+    }
+
+    @Override
+    public Flux<Product> findByCategoryAndPriceBetween(CategoryEnum category, Long minPrice, Long maxPrice) {
+        return find(Query.query(Criteria.where(CATEGORY).is(category).and(PRICE).gt(minPrice).lt(maxPrice)));
+    }
+
+    private Flux<Product> find(Query query) {
+        return mongoTemplate.find(query, ProductDocument.class)
+                .map(ProductDocumentMapper::toDomain);
+    }
+}
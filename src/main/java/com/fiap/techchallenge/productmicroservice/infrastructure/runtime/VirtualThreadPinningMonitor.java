@@ -0,0 +1,77 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.runtime;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+
+public class VirtualThreadPinningMonitor implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String PINNED_METRIC = "jvm.threads.virtual.pinned";
+
+    private final Duration threshold;
+    private final Timer pinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Timer.builder(PINNED_METRIC)
+                .description("Tempo em que uma virtual thread bloqueou sem liberar a carrier thread")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("spring.threads.virtual.enabled ligado em Java {}: virtual threads exigem Java 21 e a "
+                    + "aplicação segue com threads de plataforma", feature);
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, event -> record(event.getDuration(), culprit(event)));
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitorando virtual threads presas à carrier por mais de {} ms", threshold.toMillis());
+    }
+
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void record(Duration duration, String frame) {
+        pinned.record(duration);
+        log.debug("Virtual thread presa à carrier por {} ms em {}", duration.toMillis(), frame);
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    static String culprit(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "?";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + '.' + frame.getMethod().getName() + ':' + frame.getLineNumber();
+            }
+        }
+        return "?";
+    }
+}
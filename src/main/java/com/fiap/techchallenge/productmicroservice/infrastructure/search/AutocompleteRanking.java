@@ -0,0 +1,23 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+
+import java.util.Comparator;
+
+public enum AutocompleteRanking {
+    STOCK(Comparator.comparing(Product::getQuantity, Comparator.nullsLast(Comparator.reverseOrder()))),
+    PRICE(Comparator.comparing(Product::getPriceForClient, Comparator.nullsLast(Comparator.naturalOrder()))),
+    NAME((first, second) -> 0);
+
+    private final Comparator<Product> comparator;
+
+    AutocompleteRanking(Comparator<Product> primary) {
+        this.comparator = primary
+                .thenComparing(Product::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(Product::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    public Comparator<Product> comparator() {
+        return comparator;
+    }
+}
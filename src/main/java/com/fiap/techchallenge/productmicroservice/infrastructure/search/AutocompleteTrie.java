@@ -0,0 +1,245 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class AutocompleteTrie {
+    static final int MAX_DEPTH = 24;
+
+    private static final String LATIN1_FOLD =
+            "aaaaaaæceeeeiiiiðnooooo×øuuuuyþß"
+            + "aaaaaaæceeeeiiiiðnooooo÷øuuuuyþy";
+
+    private final Product[] products;
+    private final String[] names;
+    private final int[] edgeStart;
+    private final char[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] topStart;
+    private final int[] top;
+
+    private AutocompleteTrie(Product[] products, String[] names, int[] edgeStart, char[] edgeLabel,
+                             int[] edgeTarget, int[] topStart, int[] top) {
+        this.products = products;
+        this.names = names;
+        this.edgeStart = edgeStart;
+        this.edgeLabel = edgeLabel;
+        this.edgeTarget = edgeTarget;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    public static AutocompleteTrie build(List<Product> catalog, Comparator<Product> ranking, int topK) {
+        List<Product> ranked = new ArrayList<>(catalog);
+        ranked.sort(ranking);
+        Product[] products = ranked.toArray(new Product[0]);
+        String[] names = new String[products.length];
+        BuildNode root = new BuildNode();
+        for (int ordinal = 0; ordinal < products.length; ordinal++) {
+            names[ordinal] = SearchTextNormalizer.normalize(products[ordinal].getName());
+            String name = names[ordinal];
+            for (int start = 0; start < name.length(); start++) {
+                if (isWordStart(name, start)) {
+                    insert(root, name, start, ordinal, topK);
+                }
+            }
+        }
+        return compact(root, products, names);
+    }
+
+    public List<Product> complete(CharSequence prefix, int limit) {
+        int node = 0;
+        int depth = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < prefix.length() && depth < MAX_DEPTH; i++) {
+            char c = fold(prefix.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+            if (c == ' ') {
+                pendingSpace = depth > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                node = child(node, ' ');
+                pendingSpace = false;
+                if (node < 0 || ++depth == MAX_DEPTH) {
+                    break;
+                }
+            }
+            node = child(node, c);
+            if (node < 0) {
+                return List.of();
+            }
+            depth++;
+        }
+        if (node < 0) {
+            return List.of();
+        }
+        boolean needsCheck = depth == MAX_DEPTH;
+        List<Product> result = new ArrayList<>(Math.min(limit, topStart[node + 1] - topStart[node]));
+        for (int i = topStart[node]; i < topStart[node + 1] && result.size() < limit; i++) {
+            int ordinal = top[i];
+            if (!needsCheck || matchesWordPrefix(names[ordinal], prefix)) {
+                result.add(products[ordinal]);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return products.length;
+    }
+
+    public int nodeCount() {
+        return edgeStart.length - 1;
+    }
+
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = edgeLabel[mid];
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+
+    static char fold(char c) {
+        if (c < 0x80) {
+            if (c >= 'A' && c <= 'Z') {
+                return (char) (c + ('a' - 'A'));
+            }
+            return Character.isWhitespace(c) ? ' ' : c;
+        }
+        if (c >= 0x0300 && c <= 0x036F) {
+            return 0;
+        }
+        if (c >= 0xC0 && c <= 0xFF) {
+            return LATIN1_FOLD.charAt(c - 0xC0);
+        }
+        return Character.isWhitespace(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    static boolean matchesWordPrefix(String name, CharSequence prefix) {
+        for (int start = 0; start < name.length(); start++) {
+            if (isWordStart(name, start) && startsWithFolded(name, start, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWithFolded(String name, int start, CharSequence prefix) {
+        int position = start;
+        boolean pendingSpace = false;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = fold(prefix.charAt(i));
+            if (c == 0) {
+                continue;
+            }
+            if (c == ' ') {
+                pendingSpace = position > start;
+                continue;
+            }
+            if (pendingSpace) {
+                if (position >= name.length() || name.charAt(position++) != ' ') {
+                    return false;
+                }
+                pendingSpace = false;
+            }
+            if (position >= name.length() || name.charAt(position++) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordStart(String name, int index) {
+        return Character.isLetterOrDigit(name.charAt(index))
+                && (index == 0 || !Character.isLetterOrDigit(name.charAt(index - 1)));
+    }
+
+    private static void insert(BuildNode root, String name, int start, int ordinal, int topK) {
+        BuildNode node = root;
+        int end = Math.min(name.length(), start + MAX_DEPTH);
+        for (int i = start; i < end; i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), key -> new BuildNode());
+            node.offer(ordinal, topK);
+        }
+    }
+
+    private static AutocompleteTrie compact(BuildNode root, Product[] products, String[] names) {
+        List<BuildNode> nodes = new ArrayList<>();
+        ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+        root.id = 0;
+        nodes.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            for (BuildNode child : queue.poll().children.values()) {
+                child.id = nodes.size();
+                nodes.add(child);
+                queue.add(child);
+            }
+        }
+        int edges = nodes.size() - 1;
+        int[] edgeStart = new int[nodes.size() + 1];
+        char[] edgeLabel = new char[edges];
+        int[] edgeTarget = new int[edges];
+        int[] topStart = new int[nodes.size() + 1];
+        int topCount = 0;
+        for (BuildNode node : nodes) {
+            topCount += node.topSize;
+        }
+        int[] top = new int[topCount];
+        int edge = 0;
+        int topPosition = 0;
+        for (int id = 0; id < nodes.size(); id++) {
+            BuildNode node = nodes.get(id);
+            edgeStart[id] = edge;
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                edgeLabel[edge] = entry.getKey();
+                edgeTarget[edge] = entry.getValue().id;
+                edge++;
+            }
+            topStart[id] = topPosition;
+            System.arraycopy(node.top, 0, top, topPosition, node.topSize);
+            topPosition += node.topSize;
+        }
+        edgeStart[nodes.size()] = edge;
+        topStart[nodes.size()] = topPosition;
+        return new AutocompleteTrie(products, names, edgeStart, edgeLabel, edgeTarget, topStart, top);
+    }
+
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private int[] top = new int[0];
+        private int topSize;
+        private int id;
+
+        void offer(int ordinal, int topK) {
+            if (topSize == topK || (topSize > 0 && top[topSize - 1] == ordinal)) {
+                return;
+            }
+            if (topSize == top.length) {
+                top = Arrays.copyOf(top, Math.min(topK, Math.max(1, topSize * 2)));
+            }
+            top[topSize++] = ordinal;
+        }
+    }
+}
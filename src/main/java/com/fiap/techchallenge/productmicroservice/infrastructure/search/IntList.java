@@ -0,0 +1,84 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import java.util.Arrays;
+
+final class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this.values = new int[4];
+    }
+
+    IntList(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    void insert(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return;
+        }
+        int at = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        System.arraycopy(values, at, values, at + 1, size - at);
+        values[at] = value;
+        size++;
+    }
+
+    boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    IntList copy() {
+        return new IntList(Arrays.copyOf(values, size), size);
+    }
+
+    void retainAll(IntList other) {
+        int kept = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            int left = values[i];
+            int right = other.values[j];
+            if (left == right) {
+                values[kept++] = left;
+                i++;
+                j++;
+            } else if (left < right) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        size = kept;
+    }
+}
@@ -0,0 +1,246 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductPriceIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class PriceRangeIndex implements ProductIndex, ProductPriceIndex {
+    private static final Comparator<Product> BY_PRICE_AND_ID = Comparator
+            .comparingLong(Product::getPrice)
+            .thenComparing(Product::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Map<String, Entry> indexed = new HashMap<>();
+    private volatile Map<CategoryEnum, Partition> partitions = new EnumMap<>(CategoryEnum.class);
+    private volatile boolean ready;
+    private List<Runnable> pendingDuringRebuild;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public List<Product> findByCategoryAndPriceRange(CategoryEnum category, long minPrice, long maxPrice,
+                                                     boolean inclusive) {
+        Partition partition = partitions.get(category);
+        if (partition == null) {
+            return List.of();
+        }
+        return partition.range(minPrice, maxPrice, inclusive);
+    }
+
+    @Override
+    public synchronized void index(Product product) {
+        put(product);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(() -> put(product));
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        delete(id);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(() -> delete(id));
+        }
+    }
+
+    @Override
+    public synchronized void beginRebuild() {
+        if (pendingDuringRebuild == null) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public synchronized void abortRebuild() {
+        pendingDuringRebuild = null;
+    }
+
+    @Override
+    public synchronized void rebuild(Stream<Product> products) {
+        beginRebuild();
+        Map<String, Product> latest = new HashMap<>();
+        try {
+            products.filter(PriceRangeIndex::isIndexable).forEach(product -> latest.put(product.getId(), product));
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+        Map<CategoryEnum, List<Product>> grouped = new EnumMap<>(CategoryEnum.class);
+        indexed.clear();
+        for (Product product : latest.values()) {
+            grouped.computeIfAbsent(product.getCategory(), category -> new ArrayList<>()).add(product);
+            indexed.put(product.getId(), new Entry(product.getCategory(), product.getPrice()));
+        }
+        EnumMap<CategoryEnum, Partition> next = new EnumMap<>(CategoryEnum.class);
+        grouped.forEach((category, list) -> next.put(category, Partition.of(list)));
+        partitions = next;
+        List<Runnable> replay = pendingDuringRebuild;
+        pendingDuringRebuild = null;
+        replay.forEach(Runnable::run);
+        ready = true;
+    }
+
+    @Override
+    public synchronized int size() {
+        return indexed.size();
+    }
+
+    private void put(Product product) {
+        String id = product.getId();
+        if (isIndexable(product)) {
+            Entry current = indexed.get(id);
+            Partition partition = current != null ? partitions.get(current.category()) : null;
+            if (current != null && current.equals(new Entry(product.getCategory(), product.getPrice()))
+                    && partition != null && partition.replace(product, current.price())) {
+                return;
+            }
+        }
+        Entry previous = id != null ? indexed.remove(id) : null;
+        EnumMap<CategoryEnum, Partition> next = new EnumMap<>(partitions);
+        if (previous != null) {
+            next.computeIfPresent(previous.category(),
+                    (category, partition) -> partition.without(id, previous.price()));
+        }
+        if (isIndexable(product)) {
+            Entry entry = new Entry(product.getCategory(), product.getPrice());
+            indexed.put(id, entry);
+            next.compute(entry.category(), (category, partition) ->
+                    (partition != null ? partition : Partition.EMPTY).with(product, entry.price()));
+        }
+        partitions = next;
+    }
+
+    private void delete(String id) {
+        Entry previous = indexed.remove(id);
+        if (previous == null) {
+            return;
+        }
+        EnumMap<CategoryEnum, Partition> next = new EnumMap<>(partitions);
+        next.computeIfPresent(previous.category(), (category, partition) -> partition.without(id, previous.price()));
+        partitions = next;
+    }
+
+    private static boolean isIndexable(Product product) {
+        return product.getId() != null && product.getCategory() != null && product.getPrice() != null;
+    }
+
+    private record Entry(CategoryEnum category, long price) {
+    }
+
+    private static final class Partition {
+        static final Partition EMPTY = new Partition(new long[0], new Product[0]);
+
+        private final long[] prices;
+        private final Product[] products;
+
+        private Partition(long[] prices, Product[] products) {
+            this.prices = prices;
+            this.products = products;
+        }
+
+        static Partition of(List<Product> list) {
+            Product[] sorted = list.toArray(new Product[0]);
+            Arrays.sort(sorted, BY_PRICE_AND_ID);
+            long[] prices = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                prices[i] = sorted[i].getPrice();
+            }
+            return new Partition(prices, sorted);
+        }
+
+        List<Product> range(long minPrice, long maxPrice, boolean inclusive) {
+            int from = inclusive ? firstAtLeast(minPrice) : firstAbove(minPrice);
+            int to = inclusive ? firstAbove(maxPrice) : firstAtLeast(maxPrice);
+            if (from >= to) {
+                return List.of();
+            }
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(products, from, to)));
+        }
+
+        Partition with(Product product, long price) {
+            int position = positionOf(product.getId(), price);
+            int insertAt = position >= 0 ? position : -position - 1;
+            long[] nextPrices = new long[prices.length + 1];
+            Product[] nextProducts = new Product[products.length + 1];
+            System.arraycopy(prices, 0, nextPrices, 0, insertAt);
+            System.arraycopy(products, 0, nextProducts, 0, insertAt);
+            nextPrices[insertAt] = price;
+            nextProducts[insertAt] = product;
+            System.arraycopy(prices, insertAt, nextPrices, insertAt + 1, prices.length - insertAt);
+            System.arraycopy(products, insertAt, nextProducts, insertAt + 1, products.length - insertAt);
+            return new Partition(nextPrices, nextProducts);
+        }
+
+        // Escrita no array já publicado: quem está lendo vê o Product antigo ou o novo, nunca outra posição.
+        boolean replace(Product product, long price) {
+            int position = positionOf(product.getId(), price);
+            if (position < 0) {
+                return false;
+            }
+            products[position] = product;
+            return true;
+        }
+
+        Partition without(String id, long price) {
+            int position = positionOf(id, price);
+            if (position < 0) {
+                return this;
+            }
+            long[] nextPrices = new long[prices.length - 1];
+            Product[] nextProducts = new Product[products.length - 1];
+            System.arraycopy(prices, 0, nextPrices, 0, position);
+            System.arraycopy(products, 0, nextProducts, 0, position);
+            System.arraycopy(prices, position + 1, nextPrices, position, prices.length - position - 1);
+            System.arraycopy(products, position + 1, nextProducts, position, products.length - position - 1);
+            return new Partition(nextPrices, nextProducts);
+        }
+
+        // Usa o preço guardado no long[] e, no empate, o id; nada aqui lê o preço atual do Product.
+        private int positionOf(String id, long price) {
+            int low = firstAtLeast(price);
+            int high = firstAbove(price) - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = products[mid].getId().compareTo(id);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+
+        private int firstAbove(long price) {
+            return price == Long.MAX_VALUE ? prices.length : firstAtLeast(price + 1);
+        }
+
+        private int firstAtLeast(long price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
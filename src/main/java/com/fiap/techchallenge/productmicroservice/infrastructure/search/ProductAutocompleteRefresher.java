@@ -0,0 +1,43 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.stream.Stream;
+
+public class ProductAutocompleteRefresher implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductAutocompleteRefresher.class);
+
+    private final TrieProductAutocomplete autocomplete;
+    private final ProductRepository source;
+
+    public ProductAutocompleteRefresher(TrieProductAutocomplete autocomplete, ProductRepository source) {
+        this.autocomplete = autocomplete;
+        this.source = source;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "#{@scheduleIntervals.millis('${product.autocomplete.refresh-interval:1m}')}",
+               fixedDelayString = "#{@scheduleIntervals.millis('${product.autocomplete.refresh-interval:1m}')}")
+    public void refresh() {
+        // Antes da leitura, para que uma escrita feita durante a recarga continue no overlay da trie nova.
+        autocomplete.beginRebuild();
+        try (Stream<Product> products = source.streamAll()) {
+            autocomplete.rebuild(products);
+            log.debug("Autocomplete recarregado com {} produtos ({} nós)",
+                    autocomplete.size(), autocomplete.nodeCount());
+        } catch (RuntimeException e) {
+            autocomplete.abortRebuild();
+            log.warn("Falha ao recarregar o autocomplete", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+
+import java.util.stream.Stream;
+
+public interface ProductIndex {
+    void index(Product product);
+    void remove(String id);
+    void beginRebuild();
+    void rebuild(Stream<Product> products);
+    void abortRebuild();
+    int size();
+}
@@ -0,0 +1,57 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ProductIndexRefresher implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ProductIndexRefresher.class);
+
+    private final List<ProductIndex> indexes;
+    private final ProductRepository source;
+
+    public ProductIndexRefresher(List<ProductIndex> indexes, ProductRepository source) {
+        this.indexes = indexes;
+        this.source = source;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "#{@scheduleIntervals.millis('${product.indexes.rebuild-interval:10m}')}",
+               fixedDelayString = "#{@scheduleIntervals.millis('${product.indexes.rebuild-interval:10m}')}")
+    public void refresh() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        // Antes da leitura: uma escrita que chegar entre a leitura e a troca é reaplicada nos índices novos.
+        for (ProductIndex index : indexes) {
+            index.beginRebuild();
+        }
+        List<Product> catalog;
+        try (Stream<Product> products = source.streamAll()) {
+            catalog = products.toList();
+        } catch (RuntimeException e) {
+            for (ProductIndex index : indexes) {
+                index.abortRebuild();
+            }
+            log.warn("Falha ao reconstruir os índices em memória", e);
+            return;
+        }
+        for (ProductIndex index : indexes) {
+            index.rebuild(catalog.stream());
+        }
+        log.info("Índices em memória reconstruídos com {} produtos em {} ms",
+                catalog.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
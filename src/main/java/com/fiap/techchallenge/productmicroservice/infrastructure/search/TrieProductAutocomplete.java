@@ -0,0 +1,121 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductAutocompleteIndex;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TrieProductAutocomplete implements ProductAutocompleteIndex, ProductIndex {
+    private final Comparator<Product> ranking;
+    private final int topK;
+    private volatile View view;
+    private Map<String, Change> pendingDuringRebuild;
+
+    public TrieProductAutocomplete(Comparator<Product> ranking, int topK) {
+        this.ranking = ranking;
+        this.topK = topK;
+        this.view = new View(AutocompleteTrie.build(List.of(), ranking, topK * 2), new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public List<Product> complete(String prefix, int limit) {
+        View current = view;
+        int max = Math.min(limit, topK);
+        if (current.overlay().isEmpty()) {
+            return current.trie().complete(prefix, max);
+        }
+        // O overlay manda sobre a trie; busca a mais nela o quanto o overlay pode tirar.
+        List<Product> merged = new ArrayList<>();
+        for (Product product : current.trie().complete(prefix, max + current.overlay().size())) {
+            if (!current.overlay().containsKey(product.getId())) {
+                merged.add(product);
+            }
+        }
+        for (Change change : current.overlay().values()) {
+            if (change.product() != null && AutocompleteTrie.matchesWordPrefix(change.name(), prefix)) {
+                merged.add(change.product());
+            }
+        }
+        merged.sort(ranking);
+        return merged.size() > max ? List.copyOf(merged.subList(0, max)) : merged;
+    }
+
+    @Override
+    public void index(Product product) {
+        if (product.getId() != null) {
+            write(new Change(product.getId(), product, SearchTextNormalizer.normalize(product.getName())));
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        write(new Change(id, null, null));
+    }
+
+    @Override
+    public synchronized void beginRebuild() {
+        if (pendingDuringRebuild == null) {
+            pendingDuringRebuild = new LinkedHashMap<>();
+        }
+    }
+
+    @Override
+    public synchronized void abortRebuild() {
+        pendingDuringRebuild = null;
+    }
+
+    @Override
+    public void rebuild(Stream<Product> products) {
+        beginRebuild();
+        AutocompleteTrie trie;
+        try {
+            trie = AutocompleteTrie.build(products.collect(Collectors.toList()), ranking, topK * 2);
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+        swap(trie);
+    }
+
+    @Override
+    public int size() {
+        return view.trie().size();
+    }
+
+    public int nodeCount() {
+        return view.trie().nodeCount();
+    }
+
+    public int overlaySize() {
+        return view.overlay().size();
+    }
+
+    private synchronized void write(Change change) {
+        view.overlay().put(change.id(), change);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.put(change.id(), change);
+        }
+    }
+
+    private synchronized void swap(AutocompleteTrie trie) {
+        Map<String, Change> overlay = pendingDuringRebuild != null
+                ? new ConcurrentHashMap<>(pendingDuringRebuild)
+                : new ConcurrentHashMap<>();
+        view = new View(trie, overlay);
+        pendingDuringRebuild = null;
+    }
+
+    private record View(AutocompleteTrie trie, Map<String, Change> overlay) {
+    }
+
+    private record Change(String id, Product product, String name) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductSearchIndex;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TrigramProductIndex implements ProductIndex, ProductSearchIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    private List<Consumer<Snapshot>> pendingDuringRebuild;
+    private boolean ready;
+
+    @Override
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Product> search(String term) {
+        String normalized = SearchTextNormalizer.normalize(term);
+        lock.readLock().lock();
+        try {
+            return snapshot.search(normalized);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Product product) {
+        apply(snapshot -> snapshot.put(product));
+    }
+
+    @Override
+    public void remove(String id) {
+        apply(snapshot -> snapshot.remove(id));
+    }
+
+    @Override
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild == null) {
+                pendingDuringRebuild = new ArrayList<>();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public synchronized void rebuild(Stream<Product> products) {
+        beginRebuild();
+        Snapshot fresh = new Snapshot();
+        try {
+            products.forEach(fresh::put);
+        } catch (RuntimeException e) {
+            abortRebuild();
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(operation -> operation.accept(fresh));
+            pendingDuringRebuild = null;
+            snapshot = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return snapshot.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            return snapshot.estimatedMemoryBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Snapshot> operation) {
+        lock.writeLock().lock();
+        try {
+            operation.accept(snapshot);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(operation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Snapshot {
+        private static final int MAP_ENTRY_BYTES = 48;
+        private static final int INT_LIST_BYTES = 32;
+        private static final int STRING_BYTES = 40;
+
+        private final List<Product> products = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final Map<String, IntList> postings = new HashMap<>();
+        private final IntList free = new IntList();
+
+        void put(Product product) {
+            String name = SearchTextNormalizer.normalize(product.getName());
+            Integer existing = product.getId() != null ? ordinals.get(product.getId()) : null;
+            if (existing != null) {
+                String previous = names.get(existing);
+                products.set(existing, product);
+                if (!previous.equals(name)) {
+                    unpost(previous, existing);
+                    names.set(existing, name);
+                    post(name, existing);
+                }
+                return;
+            }
+            int ordinal;
+            if (free.size() > 0) {
+                ordinal = free.get(free.size() - 1);
+                free.remove(ordinal);
+                products.set(ordinal, product);
+                names.set(ordinal, name);
+            } else {
+                ordinal = products.size();
+                products.add(product);
+                names.add(name);
+            }
+            if (product.getId() != null) {
+                ordinals.put(product.getId(), ordinal);
+            }
+            post(name, ordinal);
+        }
+
+        void remove(String id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            unpost(names.get(ordinal), ordinal);
+            products.set(ordinal, null);
+            names.set(ordinal, null);
+            free.insert(ordinal);
+        }
+
+        private void post(String name, int ordinal) {
+            for (String gram : SearchTextNormalizer.grams(name)) {
+                postings.computeIfAbsent(gram, key -> new IntList()).insert(ordinal);
+            }
+        }
+
+        private void unpost(String name, int ordinal) {
+            for (String gram : SearchTextNormalizer.grams(name)) {
+                IntList posting = postings.get(gram);
+                posting.remove(ordinal);
+                if (posting.size() == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        List<Product> search(String term) {
+            Set<String> grams = SearchTextNormalizer.grams(term);
+            if (grams.isEmpty()) {
+                return scan(term);
+            }
+            List<IntList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                IntList posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(IntList::size));
+            IntList candidates = lists.get(0).copy();
+            for (int i = 1; i < lists.size() && candidates.size() > 0; i++) {
+                candidates.retainAll(lists.get(i));
+            }
+            List<Product> result = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                int ordinal = candidates.get(i);
+                if (names.get(ordinal).contains(term)) {
+                    result.add(products.get(ordinal));
+                }
+            }
+            return result;
+        }
+
+        private List<Product> scan(String term) {
+            List<Product> result = new ArrayList<>();
+            for (int ordinal = 0; ordinal < names.size(); ordinal++) {
+                String name = names.get(ordinal);
+                if (name != null && name.contains(term)) {
+                    result.add(products.get(ordinal));
+                }
+            }
+            return result;
+        }
+
+        long estimatedMemoryBytes() {
+            long bytes = 0;
+            for (IntList posting : postings.values()) {
+                bytes += MAP_ENTRY_BYTES + STRING_BYTES + SearchTextNormalizer.GRAM_SIZE
+                        + INT_LIST_BYTES + 4L * posting.capacity();
+            }
+            for (String name : names) {
+                if (name != null) {
+                    bytes += STRING_BYTES + name.length();
+                }
+            }
+            bytes += (long) ordinals.size() * (MAP_ENTRY_BYTES + STRING_BYTES + 24);
+            bytes += 8L * products.size();
+            return bytes;
+        }
+    }
+}
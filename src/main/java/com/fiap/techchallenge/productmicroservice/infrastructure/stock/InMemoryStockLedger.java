@@ -0,0 +1,293 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InMemoryStockLedger implements StockLedger, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStockLedger.class);
+    private static final int STRIPES = 64;
+    private static final String FENCED_MESSAGE = "O ledger de estoque perdeu a posse para outra instância";
+
+    private final ProductRepository source;
+    private final StockDeltaWriter writer;
+    private final StockJournal journal;
+    private final StockLedgerLease lease;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    // Não é synchronized: o flush espera o MongoDB, e uma virtual thread bloqueada num monitor prende a carrier.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Batch outstanding;
+    private volatile long lastFlushNanos = System.nanoTime();
+    private volatile boolean fenced;
+
+    public InMemoryStockLedger(ProductRepository source, StockDeltaWriter writer, StockJournal journal,
+                               StockLedgerLease lease) {
+        this.source = source;
+        this.writer = writer;
+        this.journal = journal;
+        this.lease = lease;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void recover() throws IOException {
+        if (!lease.tryAcquire()) {
+            throw new IllegalStateException(
+                    "O ledger de estoque já está ativo em outra instância; ele só pode rodar em uma réplica");
+        }
+        int products = 0;
+        for (StockJournal.Segment segment : journal.recover()) {
+            if (!segment.deltas().isEmpty()) {
+                writer.apply(segment.sequence(), segment.deltas());
+            }
+            journal.delete(segment.sequence());
+            products += segment.deltas().size();
+        }
+        journal.open();
+        if (products > 0) {
+            log.info("Ledger de estoque recuperado do journal: {} ajustes gravados no MongoDB", products);
+        }
+    }
+
+    @Override
+    public OptionalLong reserve(String productId, long quantity) {
+        Stripe stripe = stripe(productId);
+        Entry entry = lockedEntry(stripe, productId);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            long current;
+            do {
+                current = entry.available.get();
+                if (current < quantity) {
+                    throw new InsufficientStockException(productId, quantity, current);
+                }
+            } while (!entry.available.compareAndSet(current, current - quantity));
+            journal(entry, productId, -quantity);
+            return OptionalLong.of(current - quantity);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong release(String productId, long quantity) {
+        Stripe stripe = stripe(productId);
+        Entry entry = lockedEntry(stripe, productId);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            long remaining = entry.available.addAndGet(quantity);
+            journal(entry, productId, quantity);
+            return OptionalLong.of(remaining);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void evict(String productId) {
+        Stripe stripe = stripe(productId);
+        stripe.lock.writeLock().lock();
+        try {
+            entries.remove(productId);
+            stripe.removals++;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(initialDelayString = "#{@scheduleIntervals.millis('${product.stock-ledger.flush-interval:1s}')}",
+               fixedDelayString = "#{@scheduleIntervals.millis('${product.stock-ledger.flush-interval:1s}')}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            renewLease();
+            if (outstanding == null) {
+                outstanding = snapshot();
+            }
+            if (outstanding != null) {
+                writer.apply(outstanding.sequence(), outstanding.deltas());
+                journal.delete(outstanding.sequence());
+                outstanding = null;
+            }
+            lastFlushNanos = System.nanoTime();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Falha ao gravar o ledger de estoque no MongoDB; nova tentativa no próximo ciclo", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long pendingDelta() {
+        long pending = 0;
+        for (Entry entry : entries.values()) {
+            pending += Math.abs(entry.available.get() - entry.flushed);
+        }
+        Batch batch = outstanding;
+        if (batch != null) {
+            for (long delta : batch.deltas().values()) {
+                pending += Math.abs(delta);
+            }
+        }
+        return pending;
+    }
+
+    public double flushLagSeconds() {
+        return (System.nanoTime() - lastFlushNanos) / 1_000_000_000.0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        journal.close();
+        if (!fenced) {
+            lease.release();
+        }
+    }
+
+    private void renewLease() {
+        if (fenced || lease.tryAcquire()) {
+            return;
+        }
+        lockAll();
+        try {
+            fenced = true;
+        } finally {
+            unlockAll();
+        }
+        log.error("O ledger de estoque perdeu a posse para outra instância; reservas e devoluções serão recusadas");
+    }
+
+    // Lê o MongoDB fora do lock e refaz a leitura se a faixa removeu alguma entrada nesse meio tempo.
+    private Entry lockedEntry(Stripe stripe, String productId) {
+        while (true) {
+            if (fenced) {
+                throw new IllegalStateException(FENCED_MESSAGE);
+            }
+            long removals = stripe.removals;
+            Entry loaded = null;
+            if (!entries.containsKey(productId)) {
+                Optional<Product> product = source.findById(productId);
+                if (product.isEmpty()) {
+                    return null;
+                }
+                Long quantity = product.get().getQuantity();
+                loaded = new Entry(quantity != null ? quantity : 0L);
+            }
+            stripe.lock.readLock().lock();
+            if (fenced) {
+                stripe.lock.readLock().unlock();
+                throw new IllegalStateException(FENCED_MESSAGE);
+            }
+            Entry entry = entries.get(productId);
+            if (entry != null) {
+                return entry;
+            }
+            if (loaded != null && stripe.removals == removals) {
+                Entry previous = entries.putIfAbsent(productId, loaded);
+                return previous != null ? previous : loaded;
+            }
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    private Stripe stripe(String productId) {
+        return stripes[(productId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private void lockAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].lock.writeLock().unlock();
+        }
+    }
+
+    private void journal(Entry entry, String productId, long delta) {
+        try {
+            journal.append(productId, delta);
+        } catch (IOException e) {
+            entry.available.addAndGet(-delta);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Batch snapshot() throws IOException {
+        lockAll();
+        try {
+            if (!journal.isDirty()) {
+                entries.clear();
+                for (Stripe stripe : stripes) {
+                    stripe.removals++;
+                }
+                return null;
+            }
+            long sequence = journal.rotate();
+            Map<String, Long> deltas = new HashMap<>();
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> item = iterator.next();
+                Entry entry = item.getValue();
+                long current = entry.available.get();
+                if (current == entry.flushed) {
+                    iterator.remove();
+                    stripe(item.getKey()).removals++;
+                    continue;
+                }
+                deltas.put(item.getKey(), current - entry.flushed);
+                entry.flushed = current;
+            }
+            return new Batch(sequence, deltas);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicLong available;
+        private volatile long flushed;
+
+        private Entry(long quantity) {
+            this.available = new AtomicLong(quantity);
+            this.flushed = quantity;
+        }
+    }
+
+    private record Batch(long sequence, Map<String, Long> deltas) {
+    }
+
+    private static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long removals;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+import java.util.Map;
+
+public interface StockDeltaWriter {
+    // Precisa ser idempotente por sequência: um lote pode ser reaplicado depois de uma queda.
+    void apply(long sequence, Map<String, Long> deltas);
+}
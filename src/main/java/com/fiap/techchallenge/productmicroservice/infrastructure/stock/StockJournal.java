@@ -0,0 +1,207 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+public class StockJournal implements Closeable {
+    private static final String PREFIX = "stock-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final boolean fsync;
+    // Não é synchronized: uma virtual thread bloqueada no write ou no fsync dentro de um monitor prende a carrier.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private FileChannel channel;
+    private long sequence;
+    private boolean dirty;
+
+    public StockJournal(Path directory, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+    }
+
+    public List<Segment> recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(StockJournal::isSegment)
+                    .sorted(Comparator.comparingLong(StockJournal::sequenceOf))
+                    .toList();
+        }
+        List<Segment> segments = new ArrayList<>(files.size());
+        for (Path file : files) {
+            segments.add(new Segment(sequenceOf(file), read(file)));
+            sequence = Math.max(sequence, sequenceOf(file));
+        }
+        return segments;
+    }
+
+    public void open() throws IOException {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            sequence = Math.max(sequence + 1, System.currentTimeMillis());
+            channel = FileChannel.open(segment(sequence),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            dirty = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void append(String productId, long delta) throws IOException {
+        Pending record = new Pending((productId + ' ' + delta + '\n').getBytes(StandardCharsets.UTF_8));
+        queue.add(record);
+        lock.lock();
+        try {
+            if (!record.written) {
+                writeQueued();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (record.failure != null) {
+            throw record.failure;
+        }
+    }
+
+    public boolean isDirty() {
+        lock.lock();
+        try {
+            return dirty;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long rotate() throws IOException {
+        lock.lock();
+        try {
+            long closed = sequence;
+            writeQueued();
+            channel.force(false);
+            channel.close();
+            open();
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void delete(long segmentSequence) throws IOException {
+        Files.deleteIfExists(segment(segmentSequence));
+    }
+
+    public long sequence() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (channel != null && channel.isOpen()) {
+                channel.force(false);
+                channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeQueued() throws IOException {
+        List<Pending> batch = new ArrayList<>();
+        int size = 0;
+        Pending next;
+        while ((next = queue.poll()) != null) {
+            batch.add(next);
+            size += next.bytes.length;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (Pending record : batch) {
+            buffer.put(record.bytes);
+        }
+        buffer.flip();
+        IOException failure = null;
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            dirty = true;
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (Pending record : batch) {
+            record.failure = failure;
+            record.written = true;
+        }
+    }
+
+    private Path segment(long segmentSequence) {
+        return directory.resolve(PREFIX + segmentSequence + SUFFIX);
+    }
+
+    // Uma linha sem '\n' no fim é a última escrita interrompida pela queda; ela não foi confirmada ao cliente.
+    private static Map<String, Long> read(Path file) throws IOException {
+        Map<String, Long> deltas = new HashMap<>();
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        int complete = content.lastIndexOf('\n') + 1;
+        content.substring(0, complete).lines().forEach(line -> {
+            int space = line.indexOf(' ');
+            if (space > 0) {
+                deltas.merge(line.substring(0, space), Long.parseLong(line.substring(space + 1)), Long::sum);
+            }
+        });
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    public record Segment(long sequence, Map<String, Long> deltas) {
+    }
+
+    private static final class Pending {
+        private final byte[] bytes;
+        private boolean written;
+        private IOException failure;
+
+        private Pending(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+public interface StockLedgerLease {
+    boolean tryAcquire();
+    void release();
+}
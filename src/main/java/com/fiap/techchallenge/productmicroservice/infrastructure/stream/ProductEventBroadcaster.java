@@ -0,0 +1,306 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ProductEventBroadcaster implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(ProductEventBroadcaster.class);
+    static final String CLIENTS_METRIC = "products.stream.clients";
+    static final String FANOUT_METRIC = "products.stream.fanout.latency";
+    static final String DROPPED_METRIC = "products.stream.dropped";
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final int maxClients;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final Queue<Published> published = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean fanningOut = new AtomicBoolean();
+    private final int maxBorrowedThreads;
+    private int borrowedThreads;
+    private final Timer fanoutLatency;
+    private final Counter dropped;
+    private volatile boolean shutdown;
+
+    public ProductEventBroadcaster(ObjectMapper objectMapper, Executor dispatcher, int maxClients,
+                                   int bufferSize, Duration timeout, Duration sendTimeout,
+                                   MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.maxClients = maxClients;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxBorrowedThreads = dispatcher instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+        Gauge.builder(CLIENTS_METRIC, clients, Set::size)
+                .description("Kiosks conectados ao stream de produtos")
+                .register(meterRegistry);
+        this.fanoutLatency = Timer.builder(FANOUT_METRIC)
+                .description("Tempo entre a publicação do evento e a escrita para cada kiosk")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.dropped = Counter.builder(DROPPED_METRIC)
+                .description("Kiosks desconectados por não acompanharem os eventos")
+                .register(meterRegistry);
+    }
+
+    public Optional<SseEmitter> connect(String catalogVersion) {
+        if (shutdown || clients.size() >= maxClients) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Client client = new Client(emitter, bufferSize);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        enqueue(client, outbound(ProductEventDTO.catalog(catalogVersion), System.nanoTime()));
+        return Optional.of(emitter);
+    }
+
+    public void publish(ProductEventDTO event) {
+        if (shutdown || clients.isEmpty()) {
+            return;
+        }
+        published.add(new Published(event, System.nanoTime()));
+        if (fanningOut.compareAndSet(false, true)) {
+            dispatcher.execute(this::fanOut);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@scheduleIntervals.millis('${product.stream.heartbeat-interval:15s}')}")
+    public void heartbeat() {
+        if (clients.isEmpty()) {
+            return;
+        }
+        Outbound ping = new Outbound(SseEmitter.event().comment("ping").build(), System.nanoTime());
+        for (Client client : clients) {
+            enqueue(client, ping);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@scheduleIntervals.millis('${product.stream.send-timeout:5s}')}")
+    public void expireStalledSends() {
+        long now = nanoTime();
+        for (Client client : clients) {
+            long since;
+            synchronized (client) {
+                since = client.sendingSince;
+                if (since == 0 || now - since <= sendTimeoutNanos) {
+                    continue;
+                }
+                client.stalled = borrowThread();
+                client.closed = true;
+            }
+            clients.remove(client);
+            client.queue.clear();
+            dropped.increment();
+            log.warn("Kiosk desconectado do stream: escrita parada há {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(now - since));
+        }
+    }
+
+    public int clients() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() {
+        shutdown = true;
+        for (Client client : clients) {
+            disconnect(client);
+        }
+        if (dispatcher instanceof ExecutorService pool) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    SseEmitter newEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private void fanOut() {
+        do {
+            Published next;
+            while ((next = published.poll()) != null) {
+                Outbound outbound;
+                try {
+                    outbound = outbound(next.event(), next.createdNanos());
+                } catch (UncheckedIOException e) {
+                    log.warn("Evento de produto não serializado: {}", e.getMessage());
+                    continue;
+                }
+                for (Client client : clients) {
+                    enqueue(client, outbound);
+                }
+            }
+            fanningOut.set(false);
+        } while (!published.isEmpty() && fanningOut.compareAndSet(false, true));
+    }
+
+    private Outbound outbound(ProductEventDTO event, long createdNanos) {
+        try {
+            String json = objectMapper.writeValueAsString(event);
+            return new Outbound(SseEmitter.event()
+                    .name(event.getType().name().toLowerCase(Locale.ROOT))
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build(), createdNanos);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void enqueue(Client client, Outbound outbound) {
+        if (client.closed) {
+            return;
+        }
+        if (!client.queue.offer(outbound)) {
+            dropped.increment();
+            log.debug("Kiosk desconectado do stream: {} eventos pendentes", client.queue.size());
+            disconnect(client);
+            return;
+        }
+        if (client.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(client));
+        }
+    }
+
+    private void drain(Client client) {
+        do {
+            Outbound outbound;
+            while (!client.closed && (outbound = client.queue.poll()) != null) {
+                send(client, outbound);
+            }
+            client.draining.set(false);
+            // Um evento que chegou entre o último poll e o set(false) não pode ficar parado na fila.
+        } while (!client.closed && !client.queue.isEmpty() && client.draining.compareAndSet(false, true));
+    }
+
+    private void send(Client client, Outbound outbound) {
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            client.sendingSince = nanoTime();
+        }
+        try {
+            client.emitter.send(outbound.items());
+            fanoutLatency.record(System.nanoTime() - outbound.createdNanos(), TimeUnit.NANOSECONDS);
+        } catch (IOException | IllegalStateException e) {
+            client.closed = true;
+            clients.remove(client);
+        } finally {
+            boolean stalled;
+            boolean complete;
+            synchronized (client) {
+                client.sendingSince = 0;
+                stalled = client.stalled;
+                complete = client.closed;
+            }
+            if (stalled) {
+                returnThread();
+            }
+            // Desconectado durante a escrita: o complete() fica com esta thread, que já saiu do send.
+            if (complete) {
+                client.emitter.complete();
+            }
+        }
+    }
+
+    private void disconnect(Client client) {
+        boolean sending;
+        synchronized (client) {
+            client.closed = true;
+            sending = client.sendingSince != 0;
+        }
+        clients.remove(client);
+        client.queue.clear();
+        if (!sending) {
+            dispatcher.execute(client.emitter::complete);
+        }
+    }
+
+    private boolean borrowThread() {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool)) {
+            return false;
+        }
+        synchronized (pool) {
+            if (borrowedThreads >= maxBorrowedThreads) {
+                return false;
+            }
+            borrowedThreads++;
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+            pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    private void returnThread() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) dispatcher;
+        synchronized (pool) {
+            borrowedThreads--;
+            pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+        }
+    }
+
+    private record Published(ProductEventDTO event, long createdNanos) {
+    }
+
+    private record Outbound(Set<DataWithMediaType> items, long createdNanos) {
+    }
+
+    private static final class Client {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outbound> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile long sendingSince;
+        private boolean stalled;
+
+        private Client(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.fiap.techchallenge.productmicroservice.infrastructure.web;
 
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ChangeTokenExpiredException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductVersionConflictException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -14,6 +20,74 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(ProductNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleProductNotFoundException(ProductNotFoundException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "NOT_FOUND",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientStockException(InsufficientStockException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "INSUFFICIENT_STOCK",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                Map.of("requested", String.valueOf(ex.getRequested()),
+                       "available", String.valueOf(ex.getAvailable()))
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(ProductVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleProductVersionConflictException(ProductVersionConflictException ex) {
+        Map<String, String> details = new HashMap<>();
+        details.put("expectedVersion", String.valueOf(ex.getExpected()));
+        if (ex.getCurrentVersion() != null) {
+            details.put("currentVersion", String.valueOf(ex.getCurrentVersion()));
+        }
+        ErrorResponse error = new ErrorResponse(
+                "VERSION_CONFLICT",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                details
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequiredException(PreconditionRequiredException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "PRECONDITION_REQUIRED",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(error);
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeTokenExpiredException(ChangeTokenExpiredException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "CHANGE_TOKEN_EXPIRED",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    @ExceptionHandler(ProductValidationException.class)
+    public ResponseEntity<ErrorResponse> handleProductValidationException(ProductValidationException ex) {
+        ErrorResponse error = new ErrorResponse(
+                "VALIDATION_ERROR",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -42,6 +116,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        ErrorResponse error = new ErrorResponse(
+                status != null ? status.name() : String.valueOf(ex.getStatusCode().value()),
+                ex.getReason() != null ? ex.getReason() : ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(ex.getStatusCode()).headers(ex.getHeaders()).body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -0,0 +1,8 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+class PreconditionRequiredException extends RuntimeException {
+
+    PreconditionRequiredException() {
+        super("Header If-Match é obrigatório", null, false, false);
+    }
+}
@@ -1,30 +1,100 @@
 package com.fiap.techchallenge.productmicroservice.infrastructure.web;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBulkDeleteResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeFeedResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
 import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.UpdateProductRequestDTO;
 import com.fiap.techchallenge.productmicroservice.application.services.ProductService;
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.ProductEventBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/products")
 @Tag(name = "Products", description = "API para gerenciamento de produtos")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ProductController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ProductService productService;
+    private final CatalogVersion catalogVersion;
+    private final ObjectWriter exportWriter;
+    private final ObjectWriter pageWriter;
+    private final SerializedPageCache pageCache;
+    private final ProductEventBroadcaster broadcaster;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int defaultSuggestions;
+    private final int maxBatchSize;
+    private final int maxLookupIds;
+    private final Duration exportTimeout;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService,
+                             CatalogVersion catalogVersion,
+                             ObjectMapper objectMapper,
+                             @Value("${product.pagination.default-limit:100}") int defaultPageSize,
+                             @Value("${product.pagination.max-limit:500}") int maxPageSize,
+                             @Value("${product.autocomplete.top-k:10}") int defaultSuggestions,
+                             @Value("${product.batch.max-size:500}") int maxBatchSize,
+                             @Value("${product.lookup.max-ids:500}") int maxLookupIds,
+                             @Value("${product.export.timeout:30m}") Duration exportTimeout,
+                             ObjectProvider<SerializedPageCache> pageCache,
+                             ObjectProvider<ProductEventBroadcaster> broadcaster) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
+        this.exportWriter = objectMapper.writerFor(ProductResponseDTO.class);
+        this.pageWriter = pageWriter(objectMapper);
+        this.pageCache = pageCache.getIfAvailable();
+        this.broadcaster = broadcaster.getIfAvailable();
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.defaultSuggestions = defaultSuggestions;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLookupIds = maxLookupIds;
+        this.exportTimeout = exportTimeout;
     }
 
     @PostMapping
@@ -38,24 +108,181 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(product);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Criar produtos em lote",
+               description = "Valida cada item com as regras do cadastro unitário e grava os válidos em uma única "
+                       + "escrita em lote. Retorna o resultado de cada item na ordem recebida")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Todos os produtos foram criados"),
+            @ApiResponse(responseCode = "207", description = "Parte dos produtos foi recusada; veja o resultado por item"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido")
+    })
+    public ResponseEntity<ProductBatchResponseDTO> createProducts(@RequestBody List<CreateProductRequestDTO> requests) {
+        if (requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new ProductValidationException("Lote deve ter entre 1 e " + maxBatchSize + " produtos");
+        }
+        ProductBatchResponseDTO response = productService.createProducts(requests);
+        HttpStatus status = response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar produto por ID", description = "Retorna um produto específico pelo seu ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Produto encontrado"),
+            @ApiResponse(responseCode = "200", description = "Produto encontrado",
+                         headers = @Header(name = HttpHeaders.ETAG, description = "Versão atual do produto")),
+            @ApiResponse(responseCode = "304", description = "Produto não mudou desde o ETag enviado em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Produto não encontrado")
     })
     public ResponseEntity<ProductResponseDTO> findById(@PathVariable String id) {
         Optional<ProductResponseDTO> product = productService.findById(id);
-        return product.map(ResponseEntity::ok)
+        return product.map(this::withETag)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    @Operation(summary = "Verificar se o produto existe",
+               description = "Responde só com o status, sem ler o documento; ids que certamente não existem são "
+                       + "recusados sem consultar o banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produto existe"),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+    })
+    public ResponseEntity<Void> exists(@PathVariable String id) {
+        return productService.exists(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Atualizar produto parcialmente",
+               description = "Altera só os campos informados, em uma única escrita condicionada à versão enviada "
+                       + "no header If-Match (o ETag retornado pelo GET, uma lista deles ou *). Se o produto mudou "
+                       + "desde então, nada é alterado e a resposta é 412")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produto atualizado",
+                         headers = @Header(name = HttpHeaders.ETAG, description = "Nova versão do produto")),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos, If-Match malformado "
+                                                               + "ou quantity com o ledger de estoque ligado"),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+            @ApiResponse(responseCode = "412", description = "Produto alterado por outra requisição"),
+            @ApiResponse(responseCode = "428", description = "Header If-Match ausente")
+    })
+    public ResponseEntity<ProductResponseDTO> updateProduct(
+            @PathVariable String id,
+            @Parameter(description = "ETag da versão que está sendo alterada")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdateProductRequestDTO request) {
+        VersionPrecondition expected = ProductETags.parse(ifMatch);
+        return withETag(productService.updateProduct(id, expected, request));
+    }
+
     @GetMapping
-    @Operation(summary = "Listar todos os produtos", description = "Retorna lista de todos os produtos")
-    @ApiResponse(responseCode = "200", description = "Lista de produtos retornada com sucesso")
-    public ResponseEntity<List<ProductResponseDTO>> findAll() {
-        List<ProductResponseDTO> products = productService.findAll();
-        return ResponseEntity.ok(products);
+    @Operation(summary = "Listar todos os produtos",
+               description = "Retorna uma página de produtos ordenada por data de criação. "
+                       + "Quando houver mais resultados, o cursor da próxima página vem no header X-Next-Cursor. "
+                       + "Com If-None-Match igual ao ETag anterior, responde 304 sem consultar o banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de produtos retornada com sucesso",
+                         content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                 array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))),
+                         headers = {
+                                 @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página"),
+                                 @Header(name = HttpHeaders.ETAG, description = "Versão atual do catálogo")
+                         }),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag enviado")
+    })
+    public ResponseEntity<byte[]> findAll(
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        int pageSize = resolvePageSize(limit);
+        return toPageResponse(null, cursor, pageSize, acceptEncoding, request,
+                () -> productService.findAll(cursor, pageSize));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar vários produtos por ID",
+               description = "Busca os produtos em uma única consulta, na ordem dos ids informados. "
+                       + "Ids inexistentes vêm em missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produtos encontrados"),
+            @ApiResponse(responseCode = "400", description = "Nenhum id ou ids demais")
+    })
+    public ResponseEntity<ProductLookupResponseDTO> findByIds(
+            @Parameter(description = "Ids separados por vírgula") @RequestParam List<String> ids) {
+        return ResponseEntity.ok(lookup(ids));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar vários produtos por ID (lista longa)",
+               description = "Mesmo que GET /api/products?ids=..., com os ids no corpo para listas que não cabem na URL")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produtos encontrados"),
+            @ApiResponse(responseCode = "400", description = "Nenhum id ou ids demais")
+    })
+    public ResponseEntity<ProductLookupResponseDTO> lookupByIds(@Valid @RequestBody ProductLookupRequestDTO request) {
+        return ResponseEntity.ok(lookup(request.getIds()));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Alterações desde um token",
+               description = "Retorna os produtos criados, alterados ou removidos depois do token, do mais antigo "
+                       + "para o mais novo. Sem token, começa do início do catálogo. Guarde o nextToken e envie-o "
+                       + "em since na próxima chamada; enquanto hasMore for true, chame de novo logo em seguida")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alterações retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Token inválido"),
+            @ApiResponse(responseCode = "410", description = "Token mais antigo que a retenção das remoções; "
+                    + "refaça a carga completa e recomece sem token")
+    })
+    public ResponseEntity<ProductChangeFeedResponseDTO> findChanges(
+            @Parameter(description = "nextToken da chamada anterior") @RequestParam(required = false) String since,
+            @Parameter(description = "Quantidade máxima de alterações") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(productService.findChanges(since, resolvePageSize(limit)));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Receber alterações do catálogo em tempo real",
+               description = "Server-Sent Events com os produtos criados (created), alterados (updated), removidos "
+                       + "(deleted) e com estoque alterado (stock) por esta instância. O evento catalog traz a versão "
+                       + "do catálogo ao conectar e quando outra instância o altera; nesse caso, busque as "
+                       + "alterações em /api/products/changes. Um kiosk que não acompanha os eventos é desconectado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream aberto"),
+            @ApiResponse(responseCode = "404", description = "Stream desligado nesta instância"),
+            @ApiResponse(responseCode = "503", description = "Limite de conexões atingido; tente de novo mais tarde")
+    })
+    public ResponseEntity<SseEmitter> stream() {
+        if (broadcaster == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return broadcaster.connect(catalogVersion.etag())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar catálogo completo",
+               description = "Transmite todos os produtos em NDJSON, um produto por linha, "
+                       + "lendo o cursor do MongoDB sem carregar o catálogo em memória")
+    @ApiResponse(responseCode = "200", description = "Catálogo exportado com sucesso")
+    public WebAsyncTask<Void> export(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            OutputStream outputStream = response.getOutputStream();
+            productService.exportAll(product -> {
+                try {
+                    outputStream.write(exportWriter.writeValueAsBytes(product));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+            return null;
+        });
     }
 
     @DeleteMapping("/{id}")
@@ -65,20 +292,75 @@ public class ProductController {
             @ApiResponse(responseCode = "404", description = "Produto não encontrado")
     })
     public ResponseEntity<Void> deleteById(@PathVariable String id) {
-        try {
-            productService.deleteById(id);
-            return ResponseEntity.noContent().build();
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+        productService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping(params = "ids")
+    @Operation(summary = "Deletar vários produtos por ID",
+               description = "Remove os produtos em uma única operação; ids inexistentes são ignorados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Quantidade de produtos removidos"),
+            @ApiResponse(responseCode = "400", description = "Nenhum id ou ids demais")
+    })
+    public ResponseEntity<ProductBulkDeleteResponseDTO> deleteByIds(
+            @Parameter(description = "Ids separados por vírgula") @RequestParam List<String> ids) {
+        checkIdCount(ids);
+        return ResponseEntity.ok(productService.deleteByIds(ids));
+    }
+
+    @PostMapping("/{id}/reservations")
+    @Operation(summary = "Reservar estoque",
+               description = "Baixa a quantidade do estoque em uma única operação atômica no banco, "
+                       + "só se houver saldo suficiente. Retorna o saldo restante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estoque reservado"),
+            @ApiResponse(responseCode = "400", description = "Quantidade inválida"),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Estoque insuficiente")
+    })
+    public ResponseEntity<StockReservationResponseDTO> reserveStock(
+            @PathVariable String id, @Valid @RequestBody StockReservationRequestDTO request) {
+        return ResponseEntity.ok(productService.reserveStock(id, request.getQuantity()));
+    }
+
+    @PostMapping("/{id}/reservations/release")
+    @Operation(summary = "Devolver estoque reservado",
+               description = "Devolve ao estoque uma quantidade reservada antes, em uma única operação atômica")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estoque devolvido"),
+            @ApiResponse(responseCode = "400", description = "Quantidade inválida"),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+    })
+    public ResponseEntity<StockReservationResponseDTO> releaseStock(
+            @PathVariable String id, @Valid @RequestBody StockReservationRequestDTO request) {
+        return ResponseEntity.ok(productService.releaseStock(id, request.getQuantity()));
     }
 
     @GetMapping("/category/{category}")
-    @Operation(summary = "Buscar produtos por categoria", description = "Retorna todos os produtos de uma categoria específica")
-    @ApiResponse(responseCode = "200", description = "Lista de produtos da categoria retornada com sucesso")
-    public ResponseEntity<List<ProductResponseDTO>> findByCategory(@PathVariable CategoryEnum category) {
-        List<ProductResponseDTO> products = productService.findByCategory(category);
-        return ResponseEntity.ok(products);
+    @Operation(summary = "Buscar produtos por categoria",
+               description = "Retorna uma página de produtos de uma categoria específica. "
+                       + "Quando houver mais resultados, o cursor da próxima página vem no header X-Next-Cursor. "
+                       + "Com If-None-Match igual ao ETag anterior, responde 304 sem consultar o banco")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista de produtos da categoria retornada com sucesso",
+                         content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                 array = @ArraySchema(schema = @Schema(implementation = ProductResponseDTO.class))),
+                         headers = {
+                                 @Header(name = NEXT_CURSOR_HEADER, description = "Cursor opaco da próxima página"),
+                                 @Header(name = HttpHeaders.ETAG, description = "Versão atual do catálogo")
+                         }),
+            @ApiResponse(responseCode = "304", description = "Catálogo não mudou desde o ETag enviado")
+    })
+    public ResponseEntity<byte[]> findByCategory(
+            @PathVariable CategoryEnum category,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        int pageSize = resolvePageSize(limit);
+        return toPageResponse(category, cursor, pageSize, acceptEncoding, request,
+                () -> productService.findByCategory(category, cursor, pageSize));
     }
 
     @GetMapping("/search")
@@ -91,6 +373,20 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocompletar nome de produto",
+               description = "Retorna os produtos mais relevantes cujo nome tem uma palavra começando pelo prefixo, "
+                       + "sem diferenciar maiúsculas e acentos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões retornadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Prefixo ausente ou limite inválido")
+    })
+    public ResponseEntity<List<ProductSuggestionDTO>> autocomplete(
+            @Parameter(description = "Início do nome digitado") @RequestParam String prefix,
+            @Parameter(description = "Quantidade máxima de sugestões") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(productService.autocomplete(prefix, limit != null ? limit : defaultSuggestions));
+    }
+
     @GetMapping("/category/{category}/price-range")
     @Operation(summary = "Buscar produtos por categoria e faixa de preço", 
                description = "Retorna produtos de uma categoria dentro de uma faixa de preço")
@@ -114,4 +410,71 @@ public class ProductController {
         List<ProductResponseDTO> products = productService.findByCategoryAndPriceRangeManual(category, minPrice, maxPrice);
         return ResponseEntity.ok(products);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<ProductResponseDTO> withETag(ProductResponseDTO product) {
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(product.getVersion()))
+                .body(product);
+    }
+
+    private ProductLookupResponseDTO lookup(List<String> ids) {
+        checkIdCount(ids);
+        return productService.findByIds(ids);
+    }
+
+    private void checkIdCount(List<String> ids) {
+        if (ids.size() > maxLookupIds) {
+            throw new ProductValidationException("Informe no máximo " + maxLookupIds + " ids");
+        }
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private ResponseEntity<byte[]> toPageResponse(CategoryEnum category, String cursor, int limit,
+                                                  String acceptEncoding, WebRequest request,
+                                                  Supplier<ProductPageResponseDTO> loader) {
+        String version = catalogVersion.etag();
+        boolean gzipEnabled = pageCache != null && pageCache.isGzip();
+        boolean gzip = gzipEnabled && acceptsGzip(acceptEncoding);
+        if (request.checkNotModified(gzip ? ProductETags.gzip(version) : version)) {
+            return null;
+        }
+        SerializedPage page = pageCache != null
+                ? pageCache.get(version, category, cursor, limit, loader)
+                : SerializedPage.of(pageWriter, loader.get(), false);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (gzipEnabled) {
+            response.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(page.gzip());
+        }
+        return response.body(page.json());
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    public static ObjectWriter pageWriter(ObjectMapper objectMapper) {
+        return objectMapper.writerFor(new TypeReference<List<ProductResponseDTO>>() {
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    static String gzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    static VersionPrecondition parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException();
+        }
+        if (ifMatch.trim().equals("*")) {
+            return VersionPrecondition.any();
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String part : ifMatch.split(",")) {
+            String value = part.trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            boolean weak = value.startsWith("W/");
+            Long version = versionOf(weak ? value.substring(2) : value);
+            if (!weak && version != null) {
+                versions.add(version);
+            }
+        }
+        return VersionPrecondition.anyOf(versions);
+    }
+
+    private static Long versionOf(String tag) {
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new ProductValidationException("If-Match inválido");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
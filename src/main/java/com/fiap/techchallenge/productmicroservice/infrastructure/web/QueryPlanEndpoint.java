@@ -0,0 +1,24 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductQueryPlanInspector;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.QueryPlanReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "queryplans")
+public class QueryPlanEndpoint {
+    private final ProductQueryPlanInspector inspector;
+
+    public QueryPlanEndpoint(ProductQueryPlanInspector inspector) {
+        this.inspector = inspector;
+    }
+
+    @ReadOperation
+    public List<QueryPlanReport> queryPlans() {
+        return inspector.inspect();
+    }
+}
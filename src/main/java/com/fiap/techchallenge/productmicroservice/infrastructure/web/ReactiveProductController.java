@@ -0,0 +1,57 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.services.ReactiveProductService;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductController {
+    private final ReactiveProductService productService;
+
+    public ReactiveProductController(ReactiveProductService productService) {
+        this.productService = productService;
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductResponseDTO> findAll() {
+        return productService.findAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductResponseDTO>> findById(@PathVariable String id) {
+        return productService.findById(id)
+                .map(product -> ResponseEntity.ok().eTag(ProductETags.of(product.getVersion())).body(product))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/category/{category}",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductResponseDTO> findByCategory(@PathVariable CategoryEnum category) {
+        return productService.findByCategory(category);
+    }
+
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductResponseDTO> findByName(@RequestParam String name) {
+        return productService.findByName(name);
+    }
+
+    @GetMapping(value = "/category/{category}/price-range",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProductResponseDTO> findByCategoryAndPriceRange(@PathVariable CategoryEnum category,
+                                                                @RequestParam Long minPrice,
+                                                                @RequestParam Long maxPrice) {
+        return productService.findByCategoryAndPriceRange(category, minPrice, maxPrice);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+public record SerializedPage(byte[] json, byte[] gzip, String nextCursor) {
+
+    public static SerializedPage of(ObjectWriter writer, ProductPageResponseDTO page, boolean gzip) {
+        try {
+            byte[] json = writer.writeValueAsBytes(page.getItems());
+            return new SerializedPage(json, gzip ? gzip(json) : null, page.getNextCursor());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int size() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
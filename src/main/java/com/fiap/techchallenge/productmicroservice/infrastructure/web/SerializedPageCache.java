@@ -0,0 +1,74 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class SerializedPageCache {
+    static final String CACHE_NAME = "products.responses";
+
+    private final CatalogVersion catalogVersion;
+    private final ObjectWriter writer;
+    private final boolean gzip;
+    private final Cache<PageKey, SerializedPage> pages;
+    private final ReentrantLock versionLock = new ReentrantLock();
+    private volatile String version;
+
+    public SerializedPageCache(CatalogVersion catalogVersion, ObjectWriter writer, long maximumBytes, boolean gzip,
+                               MeterRegistry meterRegistry) {
+        this.catalogVersion = catalogVersion;
+        this.writer = writer;
+        this.gzip = gzip;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((PageKey key, SerializedPage page) -> page.size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    public SerializedPage get(String etag, CategoryEnum category, String cursor, int limit,
+                              Supplier<ProductPageResponseDTO> loader) {
+        if (!etag.equals(version) && !moveTo(etag)) {
+            return SerializedPage.of(writer, loader.get(), gzip);
+        }
+        return pages.get(new PageKey(etag, category, cursor, limit),
+                key -> SerializedPage.of(writer, loader.get(), gzip));
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    long size() {
+        return pages.estimatedSize();
+    }
+
+    private boolean moveTo(String requested) {
+        versionLock.lock();
+        try {
+            if (requested.equals(version)) {
+                return true;
+            }
+            if (!requested.equals(catalogVersion.etag())) {
+                return false;
+            }
+            pages.invalidateAll();
+            version = requested;
+            return true;
+        } finally {
+            versionLock.unlock();
+        }
+    }
+
+    private record PageKey(String version, CategoryEnum category, String cursor, int limit) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.fiap.techchallenge.productmicroservice.application.mappers;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductMapperTest {
+
+    @Test
+    @DisplayName("Should map create request to domain")
+    void shouldMapCreateRequestToDomain() {
+        CreateProductRequestDTO request = new CreateProductRequestDTO("  X-Burger  ", "Pão e carne", "http://image.url",
+                2590L, 2000L, CategoryEnum.LANCHE, 10L);
+
+        Product product = ProductMapper.toDomain(request);
+
+        assertThat(product.getId()).isNull();
+        assertThat(product.getName()).isEqualTo("X-Burger");
+        assertThat(product.getDescription()).isEqualTo("Pão e carne");
+        assertThat(product.getImage()).isEqualTo("http://image.url");
+        assertThat(product.getPrice()).isEqualTo(2590L);
+        assertThat(product.getPriceForClient()).isEqualTo(2000L);
+        assertThat(product.getCategory()).isEqualTo(CategoryEnum.LANCHE);
+        assertThat(product.getQuantity()).isEqualTo(10L);
+        assertThat(product.getCreatedAt()).isNotNull();
+        assertThat(product.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should apply domain validation when mapping create request")
+    void shouldApplyDomainValidationWhenMappingCreateRequest() {
+        CreateProductRequestDTO request = new CreateProductRequestDTO("X-Burger", null, null,
+                0L, null, CategoryEnum.LANCHE, null);
+
+        assertThatThrownBy(() -> ProductMapper.toDomain(request))
+                .isInstanceOf(ProductValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should map domain to response")
+    void shouldMapDomainToResponse() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 16, 11, 0);
+        Product product = Product.restore("1", "Sundae", "Chocolate", "http://image.url",
+                900L, 800L, CategoryEnum.SOBREMESA, 5L, createdAt, updatedAt);
+
+        ProductResponseDTO response = ProductMapper.toResponse(product);
+
+        assertThat(response.getId()).isEqualTo("1");
+        assertThat(response.getName()).isEqualTo("Sundae");
+        assertThat(response.getDescription()).isEqualTo("Chocolate");
+        assertThat(response.getImage()).isEqualTo("http://image.url");
+        assertThat(response.getPrice()).isEqualTo(900L);
+        assertThat(response.getPriceForClient()).isEqualTo(800L);
+        assertThat(response.getCategory()).isEqualTo(CategoryEnum.SOBREMESA);
+        assertThat(response.getQuantity()).isEqualTo(5L);
+        assertThat(response.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(response.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("Should map domain to suggestion")
+    void shouldMapDomainToSuggestion() {
+        Product product = new Product("1", "Sundae", "Chocolate", null, 900L, 800L, CategoryEnum.SOBREMESA, 5L);
+
+        ProductSuggestionDTO suggestion = ProductMapper.toSuggestion(product);
+
+        assertThat(suggestion.getId()).isEqualTo("1");
+        assertThat(suggestion.getName()).isEqualTo("Sundae");
+        assertThat(suggestion.getCategory()).isEqualTo(CategoryEnum.SOBREMESA);
+        assertThat(suggestion.getPriceForClient()).isEqualTo(800L);
+    }
+}
@@ -1,24 +1,49 @@
 package com.fiap.techchallenge.productmicroservice.application.services;
 
 import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchItemResultDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeFeedResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
 import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.UpdateProductRequestDTO;
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChange;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductLookup;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
 import com.fiap.techchallenge.productmicroservice.domain.usecases.*;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -27,27 +52,54 @@ class ProductServiceTest {
 
     @Mock
     private CreateProductUseCase createProductUseCase;
+
+    @Mock
+    private CreateProductsUseCase createProductsUseCase;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     
     @Mock
     private FindProductByIdUseCase findProductByIdUseCase;
+
+    @Mock
+    private FindProductsByIdsUseCase findProductsByIdsUseCase;
     
     @Mock
     private FindAllProductsUseCase findAllProductsUseCase;
+
+    @Mock
+    private ExportProductsUseCase exportProductsUseCase;
     
     @Mock
     private FindProductsByCategoryUseCase findProductsByCategoryUseCase;
     
     @Mock
     private FindProductsByNameUseCase findProductsByNameUseCase;
+
+    @Mock
+    private AutocompleteProductsUseCase autocompleteProductsUseCase;
     
     @Mock
     private FindProductsByCategoryAndPriceRangeUseCase findProductsByCategoryAndPriceRangeUseCase;
     
     @Mock
     private DeleteProductByIdUseCase deleteProductByIdUseCase;
-    
+
+    @Mock
+    private DeleteProductsByIdsUseCase deleteProductsByIdsUseCase;
+
+    @Mock
+    private ReserveStockUseCase reserveStockUseCase;
+
     @Mock
-    private ModelMapper modelMapper;
+    private ReleaseStockUseCase releaseStockUseCase;
+
+    @Mock
+    private UpdateProductUseCase updateProductUseCase;
+
+    @Mock
+    private FindProductChangesUseCase findProductChangesUseCase;
 
     @InjectMocks
     private ProductService productService;
@@ -90,9 +142,7 @@ class ProductServiceTest {
 
     @Test
     void shouldCreateProduct() {
-        when(modelMapper.map(any(CreateProductRequestDTO.class), eq(Product.class))).thenReturn(testProduct);
         when(createProductUseCase.execute(any(Product.class))).thenReturn(testProduct);
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
 
         ProductResponseDTO result = productService.createProduct(createRequest);
 
@@ -102,10 +152,50 @@ class ProductServiceTest {
         verify(createProductUseCase, times(1)).execute(any(Product.class));
     }
 
+    @Test
+    void shouldCreateValidProductsInOneBatchAndReportInvalidOnes() {
+        CreateProductRequestDTO invalid = new CreateProductRequestDTO("", null, null, 0L, null, null, null);
+        Product savedCopy = Product.restore("456", "Test Product", "Test Description", null, 2590L, 2000L,
+                CategoryEnum.LANCHE, 10L, null, null);
+        Product rejectedCopy = Product.restore(null, "Test Product", "Test Description", null, 2590L, 2000L,
+                CategoryEnum.LANCHE, 10L, null, null);
+        when(createProductsUseCase.execute(anyList())).thenReturn(new ProductBatch(List.of(savedCopy, rejectedCopy),
+                Map.of(1, new ProductWriteError("E11000 duplicate key error", 11000))));
+
+        ProductBatchResponseDTO result = productService.createProducts(Arrays.asList(createRequest, invalid, null, createRequest));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        List<ProductBatchItemResultDTO> items = result.getItems();
+        assertEquals(ProductBatchItemResultDTO.Status.CREATED, items.get(0).getStatus());
+        assertEquals("456", items.get(0).getId());
+        assertEquals(ProductBatchItemResultDTO.Status.INVALID, items.get(1).getStatus());
+        assertEquals("Preço deve ser maior que zero", items.get(1).getErrors().get("price"));
+        assertEquals("Categoria é obrigatória", items.get(1).getErrors().get("category"));
+        assertTrue(items.get(1).getErrors().containsKey("name"));
+        assertEquals(ProductBatchItemResultDTO.Status.INVALID, items.get(2).getStatus());
+        assertEquals(ProductBatchItemResultDTO.Status.FAILED, items.get(3).getStatus());
+        assertEquals(3, items.get(3).getIndex());
+        assertEquals("E11000 duplicate key error", items.get(3).getErrors().get("product"));
+        assertEquals(11000, items.get(3).getCode());
+        verify(createProductsUseCase, times(1)).execute(argThat(products -> products.size() == 2));
+    }
+
+    @Test
+    void shouldFindProductsByIds() {
+        when(findProductsByIdsUseCase.execute(List.of("123", "999")))
+                .thenReturn(new ProductLookup(List.of(testProduct), List.of("999")));
+
+        ProductLookupResponseDTO result = productService.findByIds(List.of("123", "999"));
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("123", result.getItems().get(0).getId());
+        assertEquals(List.of("999"), result.getMissingIds());
+    }
+
     @Test
     void shouldFindProductById() {
         when(findProductByIdUseCase.execute("123")).thenReturn(Optional.of(testProduct));
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
 
         Optional<ProductResponseDTO> result = productService.findById("123");
 
@@ -123,37 +213,78 @@ class ProductServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void shouldCheckWhetherProductExists() {
+        when(findProductByIdUseCase.exists("123")).thenReturn(true);
+
+        assertTrue(productService.exists("123"));
+        assertFalse(productService.exists("999"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExportAllProductsAsResponses() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(testProduct);
+            return null;
+        }).when(exportProductsUseCase).execute(any());
+        List<ProductResponseDTO> exported = new ArrayList<>();
+
+        productService.exportAll(exported::add);
+
+        assertEquals(1, exported.size());
+        assertEquals("123", exported.get(0).getId());
+    }
+
     @Test
     void shouldFindAllProducts() {
         List<Product> products = Arrays.asList(testProduct);
-        when(findAllProductsUseCase.execute()).thenReturn(products);
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
+        when(findAllProductsUseCase.execute(null, 10)).thenReturn(new ProductPage(products, "next"));
 
-        List<ProductResponseDTO> result = productService.findAll();
+        ProductPageResponseDTO result = productService.findAll(null, 10);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(findAllProductsUseCase, times(1)).execute();
+        assertEquals(1, result.getItems().size());
+        assertEquals("next", result.getNextCursor());
+        verify(findAllProductsUseCase, times(1)).execute(null, 10);
+    }
+
+    @Test
+    void shouldFindChangesSinceToken() {
+        ProductChange deleted = ProductChange.delete("456", LocalDateTime.now());
+        when(findProductChangesUseCase.execute("token", 10)).thenReturn(
+                new ProductChangePage(List.of(ProductChange.upsert(testProduct), deleted), "next", true));
+
+        ProductChangeFeedResponseDTO result = productService.findChanges("token", 10);
+
+        assertEquals(2, result.getChanges().size());
+        assertEquals(ProductChangeDTO.Type.UPSERT, result.getChanges().get(0).getType());
+        assertEquals("123", result.getChanges().get(0).getProduct().getId());
+        assertEquals(ProductChangeDTO.Type.DELETE, result.getChanges().get(1).getType());
+        assertEquals("456", result.getChanges().get(1).getId());
+        assertNull(result.getChanges().get(1).getProduct());
+        assertEquals("next", result.getNextToken());
+        assertTrue(result.isHasMore());
     }
 
     @Test
     void shouldFindProductsByCategory() {
         List<Product> products = Arrays.asList(testProduct);
-        when(findProductsByCategoryUseCase.execute(CategoryEnum.LANCHE)).thenReturn(products);
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
+        when(findProductsByCategoryUseCase.execute(CategoryEnum.LANCHE, null, 10))
+                .thenReturn(new ProductPage(products, null));
 
-        List<ProductResponseDTO> result = productService.findByCategory(CategoryEnum.LANCHE);
+        ProductPageResponseDTO result = productService.findByCategory(CategoryEnum.LANCHE, null, 10);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(CategoryEnum.LANCHE, result.get(0).getCategory());
+        assertEquals(1, result.getItems().size());
+        assertEquals(CategoryEnum.LANCHE, result.getItems().get(0).getCategory());
+        assertNull(result.getNextCursor());
     }
 
     @Test
     void shouldFindProductsByName() {
         List<Product> products = Arrays.asList(testProduct);
         when(findProductsByNameUseCase.execute("Test")).thenReturn(products);
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
 
         List<ProductResponseDTO> result = productService.findByName("Test");
 
@@ -161,13 +292,23 @@ class ProductServiceTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void shouldAutocompleteProductNames() {
+        when(autocompleteProductsUseCase.execute("Te", 5)).thenReturn(Arrays.asList(testProduct));
+
+        List<ProductSuggestionDTO> result = productService.autocomplete("Te", 5);
+
+        assertEquals(1, result.size());
+        assertEquals("123", result.get(0).getId());
+        assertEquals("Test Product", result.get(0).getName());
+    }
+
     @Test
     void shouldFindProductsByCategoryAndPriceRange() {
         List<Product> products = Arrays.asList(testProduct);
         when(findProductsByCategoryAndPriceRangeUseCase.execute(
             any(CategoryEnum.class), any(Long.class), any(Long.class)
         )).thenReturn(products);
-        when(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class))).thenReturn(testProductResponse);
 
         List<ProductResponseDTO> result = productService.findByCategoryAndPriceRange(
             CategoryEnum.LANCHE, 1000L, 3000L
@@ -184,4 +325,37 @@ class ProductServiceTest {
         assertDoesNotThrow(() -> productService.deleteById("123"));
         verify(deleteProductByIdUseCase, times(1)).execute("123");
     }
+
+    @Test
+    void shouldDeleteProductsByIds() {
+        when(deleteProductsByIdsUseCase.execute(List.of("1", "2"))).thenReturn(2L);
+
+        assertEquals(2L, productService.deleteByIds(List.of("1", "2")).getDeleted());
+    }
+
+    @Test
+    void shouldReserveAndReleaseStock() {
+        when(reserveStockUseCase.execute("1", 3)).thenReturn(7L);
+        when(releaseStockUseCase.execute("1", 2)).thenReturn(9L);
+
+        StockReservationResponseDTO reservation = productService.reserveStock("1", 3);
+        assertEquals("1", reservation.getProductId());
+        assertEquals(3L, reservation.getQuantity());
+        assertEquals(7L, reservation.getRemaining());
+        assertEquals(9L, productService.releaseStock("1", 2).getRemaining());
+    }
+
+    @Test
+    void shouldUpdateProductWithOnlyTheFieldsSent() {
+        testProduct.setVersion(4L);
+        when(updateProductUseCase.execute(eq("1"), eq(VersionPrecondition.of(3L)), any(ProductPatch.class)))
+                .thenReturn(testProduct);
+
+        ProductResponseDTO response = productService.updateProduct("1", VersionPrecondition.of(3L),
+                new UpdateProductRequestDTO(null, null, null, 2990L, null, null, null));
+
+        assertEquals(4L, response.getVersion());
+        verify(updateProductUseCase).execute(eq("1"), eq(VersionPrecondition.of(3L)),
+                argThat(patch -> patch.getPrice().equals(2990L) && patch.getName() == null));
+    }
 }
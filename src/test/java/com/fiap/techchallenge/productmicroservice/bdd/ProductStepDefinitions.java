@@ -72,8 +72,7 @@ public class ProductStepDefinitions {
 
         doAnswer(invocation -> {
             String id = invocation.getArgument(0);
-            inMemoryDatabase.remove(id);
-            return null;
+            return inMemoryDatabase.remove(id) != null;
         }).when(productRepository).deleteById(anyString());
     }
 
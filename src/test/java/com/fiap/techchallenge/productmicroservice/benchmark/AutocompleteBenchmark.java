@@ -0,0 +1,71 @@
+package com.fiap.techchallenge.productmicroservice.benchmark;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.AutocompleteRanking;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.AutocompleteTrie;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrigramProductIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uma "tecla" do kiosk: prefixo de 3 letras contra a trie de autocomplete e contra o índice de
+ * trigramas da busca. Rode com {@code -prof gc} para ver a alocação por operação.
+ *
+ * <pre>make benchmark BENCH="AutocompleteBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+    private static final String[] WORDS = {
+            "Pão", "Queijo", "Açaí", "Café", "Suco", "Limão", "Maçã", "Frango", "Bacon", "Cebola"
+    };
+
+    @Param({"10000"})
+    private int products;
+
+    private AutocompleteTrie trie;
+    private TrigramProductIndex trigramIndex;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Product> catalog = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            String name = WORDS[i % WORDS.length] + " de " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            catalog.add(Product.restore(Integer.toString(i), name, "Descrição", null, 1000L, 900L,
+                    CategoryEnum.LANCHE, (long) (i % 100), now, now));
+        }
+        trie = AutocompleteTrie.build(catalog, AutocompleteRanking.STOCK.comparator(), 10);
+        trigramIndex = new TrigramProductIndex();
+        trigramIndex.rebuild(catalog.stream());
+    }
+
+    @Benchmark
+    public List<Product> trie() {
+        return trie.complete("Que", 10);
+    }
+
+    @Benchmark
+    public List<Product> trigramSearch() {
+        return trigramIndex.search("Que");
+    }
+}
@@ -0,0 +1,64 @@
+package com.fiap.techchallenge.productmicroservice.benchmark;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de um 404 em DELETE /api/products/{id}: lançar e tratar a exceção de "não encontrado" a partir
+ * de uma pilha com a profundidade típica de uma requisição Spring MVC (filtros, DispatcherServlet,
+ * proxies). Compara a IllegalArgumentException antiga, que captura o stack trace, com a
+ * ProductNotFoundException sem stack trace.
+ *
+ * <pre>make benchmark BENCH=DomainErrorBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainErrorBenchmark {
+    private static final String ID = "65f1c0ffee0000000000dead";
+
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    @Benchmark
+    public String illegalArgument() {
+        try {
+            return descend(stackDepth, true);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessNotFound() {
+        try {
+            return descend(stackDepth, false);
+        } catch (ProductNotFoundException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String descend(int depth, boolean legacy) {
+        if (depth > 0) {
+            return descend(depth - 1, legacy);
+        }
+        if (legacy) {
+            throw new IllegalArgumentException("Produto não encontrado");
+        }
+        throw new ProductNotFoundException(ID);
+    }
+}
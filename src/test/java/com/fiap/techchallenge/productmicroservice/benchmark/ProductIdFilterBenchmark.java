@@ -0,0 +1,77 @@
+package com.fiap.techchallenge.productmicroservice.benchmark;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Custo da pergunta "este id existe?" no filtro de Bloom, para um id ausente (respondido sem o MongoDB) e
+ * para um existente (que segue para o banco). Os ids são ObjectIds de um dia atrás, anteriores à carga.
+ *
+ * <pre>make benchmark BENCH=ProductIdFilterBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductIdFilterBenchmark {
+    private static final int SAMPLES = 1024;
+
+    @Param({"1000000"})
+    private int products;
+
+    private ProductIdFilter filter;
+    private String[] present;
+    private String[] absent;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Date yesterday = Date.from(Instant.now().minus(Duration.ofDays(1)));
+        String[] ids = IntStream.range(0, products)
+                .mapToObj(i -> new ObjectId(yesterday).toHexString())
+                .toArray(String[]::new);
+        filter = new ProductIdFilter(0.01, 0.5, 10_000, Duration.ofMinutes(1));
+        filter.rebuild(products, Arrays.stream(ids));
+
+        present = new String[SAMPLES];
+        absent = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            present[i] = ids[i * (products / SAMPLES)];
+            String candidate;
+            do {
+                candidate = new ObjectId(yesterday).toHexString();
+            } while (!filter.definitelyAbsent(candidate));
+            absent[i] = candidate;
+        }
+    }
+
+    @Benchmark
+    public boolean absentId() {
+        return filter.definitelyAbsent(absent[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public boolean presentId() {
+        return filter.definitelyAbsent(present[next++ & (SAMPLES - 1)]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.fiap.techchallenge.productmicroservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.mappers.ProductMapper;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.web.ProductController;
+import com.fiap.techchallenge.productmicroservice.infrastructure.web.SerializedPage;
+import com.fiap.techchallenge.productmicroservice.infrastructure.web.SerializedPageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo de GET /api/products/category/{category} para uma página já lida do banco: mapear e serializar a
+ * cada requisição contra servir os bytes do {@link SerializedPageCache}. Rode com o profiler de GC para ver
+ * os bytes alocados por requisição (gc.alloc.rate.norm).
+ *
+ * <pre>make benchmark BENCH="ProductListSerializationBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductListSerializationBenchmark {
+    @Param({"100"})
+    private int products;
+
+    private ProductPage page;
+    private ObjectWriter writer;
+    private SerializedPageCache cache;
+    private String version;
+
+    @Setup
+    public void setUp() {
+        List<Product> items = new ArrayList<>(products);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < products; i++) {
+            Product product = Product.restore(Integer.toHexString(i), "Produto " + i, "Descrição " + i,
+                    "http://image/" + i, 1000L + i, 900L + i, CategoryEnum.LANCHE, 10L, now, now);
+            product.setVersion(0L);
+            items.add(product);
+        }
+        page = new ProductPage(items, null);
+        writer = ProductController.pageWriter(new ObjectMapper().registerModule(new JavaTimeModule()));
+        CatalogVersion catalogVersion = new CatalogVersion();
+        version = catalogVersion.etag();
+        cache = new SerializedPageCache(catalogVersion, writer, 64L * 1024 * 1024, true, new SimpleMeterRegistry());
+        cache.get(version, CategoryEnum.LANCHE, null, products, () -> ProductMapper.toPageResponse(page));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() {
+        ProductPageResponseDTO response = ProductMapper.toPageResponse(page);
+        return SerializedPage.of(writer, response, false).json();
+    }
+
+    @Benchmark
+    public byte[] serializedCache() {
+        return cache.get(version, CategoryEnum.LANCHE, null, products,
+                () -> ProductMapper.toPageResponse(page)).json();
+    }
+}
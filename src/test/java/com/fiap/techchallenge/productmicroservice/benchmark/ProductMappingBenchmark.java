@@ -0,0 +1,79 @@
+package com.fiap.techchallenge.productmicroservice.benchmark;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.mappers.ProductMapper;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductDocument;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductDocumentMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de N produtos (ProductDocument -> Product -> ProductResponseDTO) como em GET /api/products.
+ * Compara o caminho antigo via ModelMapper com os mappers escritos à mão.
+ *
+ * <pre>make benchmark BENCH=ProductMappingBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    @Param({"1000"})
+    private int products;
+
+    private List<ProductDocument> documents;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        documents = new ArrayList<>(products);
+        LocalDateTime now = LocalDateTime.now();
+        CategoryEnum[] categories = CategoryEnum.values();
+        for (int i = 0; i < products; i++) {
+            ProductDocument document = new ProductDocument("Produto " + i, "Descrição " + i, "http://image/" + i,
+                    1000L + i, 900L + i, categories[i % categories.length], 10L, now, now);
+            document.setId(Integer.toHexString(i));
+            documents.add(document);
+        }
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> modelMapper() {
+        List<ProductResponseDTO> result = new ArrayList<>(documents.size());
+        for (ProductDocument document : documents) {
+            Product product = modelMapper.map(document, Product.class);
+            result.add(modelMapper.map(product, ProductResponseDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> handWrittenMappers() {
+        List<ProductResponseDTO> result = new ArrayList<>(documents.size());
+        for (ProductDocument document : documents) {
+            result.add(ProductMapper.toResponse(ProductDocumentMapper.toDomain(document)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.productmicroservice.domain.entities;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductPatchTest {
+
+    @Test
+    @DisplayName("Should keep only the fields sent, trimming texts")
+    void shouldKeepOnlyFieldsSent() {
+        ProductPatch patch = new ProductPatch("  X-Salada ", null, null, null, null, CategoryEnum.LANCHE, null);
+
+        assertEquals("X-Salada", patch.getName());
+        assertEquals(CategoryEnum.LANCHE, patch.getCategory());
+        assertNull(patch.getDescription());
+        assertNull(patch.getPrice());
+        assertNull(patch.getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty patch and invalid values")
+    void shouldRejectInvalidPatches() {
+        ProductValidationException empty = assertThrows(ProductValidationException.class,
+                () -> new ProductPatch(null, null, null, null, null, null, null));
+        assertEquals("Informe ao menos um campo para atualizar", empty.getMessage());
+
+        assertThrows(ProductValidationException.class,
+                () -> new ProductPatch(" ", null, null, null, null, null, null));
+        assertThrows(ProductValidationException.class,
+                () -> new ProductPatch(null, null, null, 0L, null, null, null));
+        assertThrows(ProductValidationException.class,
+                () -> new ProductPatch(null, null, null, null, null, null, -1L));
+    }
+}
@@ -1,5 +1,6 @@
 package com.fiap.techchallenge.productmicroservice.domain.entities;
 
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -29,7 +30,7 @@ class ProductTest {
     @DisplayName("Should throw exception when name is null")
     void shouldThrowExceptionWhenNameIsNull() {
         assertThatThrownBy(() -> new Product(null, "Description", "image.url", 2590L, 2000L, CategoryEnum.LANCHE, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome do produto é obrigatório");
     }
 
@@ -37,7 +38,7 @@ class ProductTest {
     @DisplayName("Should throw exception when name is empty")
     void shouldThrowExceptionWhenNameIsEmpty() {
         assertThatThrownBy(() -> new Product("", "Description", "image.url", 2590L, 2000L, CategoryEnum.LANCHE, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome do produto é obrigatório");
     }
 
@@ -45,7 +46,7 @@ class ProductTest {
     @DisplayName("Should throw exception when price is null")
     void shouldThrowExceptionWhenPriceIsNull() {
         assertThatThrownBy(() -> new Product("Product", "Description", "image.url", null, 2000L, CategoryEnum.LANCHE, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço deve ser maior que zero");
     }
 
@@ -53,7 +54,7 @@ class ProductTest {
     @DisplayName("Should throw exception when price is zero")
     void shouldThrowExceptionWhenPriceIsZero() {
         assertThatThrownBy(() -> new Product("Product", "Description", "image.url", 0L, 2000L, CategoryEnum.LANCHE, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço deve ser maior que zero");
     }
 
@@ -61,7 +62,7 @@ class ProductTest {
     @DisplayName("Should throw exception when price is negative")
     void shouldThrowExceptionWhenPriceIsNegative() {
         assertThatThrownBy(() -> new Product("Product", "Description", "image.url", -10L, 2000L, CategoryEnum.LANCHE, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço deve ser maior que zero");
     }
 
@@ -69,7 +70,7 @@ class ProductTest {
     @DisplayName("Should throw exception when category is null")
     void shouldThrowExceptionWhenCategoryIsNull() {
         assertThatThrownBy(() -> new Product("Product", "Description", "image.url", 2590L, 2000L, null, 10L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Categoria é obrigatória");
     }
 
@@ -77,7 +78,7 @@ class ProductTest {
     @DisplayName("Should throw exception when quantity is negative")
     void shouldThrowExceptionWhenQuantityIsNegative() {
         assertThatThrownBy(() -> new Product("Product", "Description", "image.url", 2590L, 2000L, CategoryEnum.LANCHE, -5L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Quantidade não pode ser negativa");
     }
 
@@ -114,7 +115,7 @@ class ProductTest {
         Product product = new Product("Product", "Description", "image.url", 5000L, 4000L, CategoryEnum.LANCHE, 10L);
 
         assertThatThrownBy(() -> product.setName(null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome do produto é obrigatório");
     }
 
@@ -152,7 +153,7 @@ class ProductTest {
         Product product = new Product("Product", "Description", "image.url", 5000L, 4000L, CategoryEnum.LANCHE, 10L);
 
         assertThatThrownBy(() -> product.setCategory(null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Categoria é obrigatória");
     }
 
@@ -0,0 +1,30 @@
+package com.fiap.techchallenge.productmicroservice.domain.exceptions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainExceptionTest {
+
+    @Test
+    @DisplayName("Should not capture a stack trace for expected domain outcomes")
+    void shouldNotCaptureStackTrace() {
+        ProductNotFoundException notFound = new ProductNotFoundException("999");
+        ProductValidationException invalid = new ProductValidationException("Nome é obrigatório");
+
+        assertThat(notFound.getStackTrace()).isEmpty();
+        assertThat(invalid.getStackTrace()).isEmpty();
+        assertThat(notFound.fillInStackTrace().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the message and the missing id")
+    void shouldKeepMessageAndMissingId() {
+        ProductNotFoundException notFound = new ProductNotFoundException("999");
+
+        assertThat(notFound.getMessage()).isEqualTo("Produto não encontrado");
+        assertThat(notFound.getProductId()).isEqualTo("999");
+        assertThat(new ProductValidationException("Nome é obrigatório")).hasMessage("Nome é obrigatório");
+    }
+}
@@ -0,0 +1,32 @@
+package com.fiap.techchallenge.productmicroservice.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTextNormalizerTest {
+
+    @Test
+    @DisplayName("Should lower-case and strip Portuguese accents")
+    void shouldLowerCaseAndStripAccents() {
+        assertThat(SearchTextNormalizer.normalize("Pão de Queijo")).isEqualTo("pao de queijo");
+        assertThat(SearchTextNormalizer.normalize("AÇAÍ")).isEqualTo("acai");
+        assertThat(SearchTextNormalizer.normalize("Café com Leite")).isEqualTo("cafe com leite");
+    }
+
+    @Test
+    @DisplayName("Should collapse whitespace and handle null")
+    void shouldCollapseWhitespaceAndHandleNull() {
+        assertThat(SearchTextNormalizer.normalize("  X-Burger \t  Duplo ")).isEqualTo("x-burger duplo");
+        assertThat(SearchTextNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should split normalized text into distinct trigrams")
+    void shouldSplitIntoDistinctTrigrams() {
+        assertThat(SearchTextNormalizer.grams("acai")).containsExactly("aca", "cai");
+        assertThat(SearchTextNormalizer.grams("aaaa")).containsExactly("aaa");
+        assertThat(SearchTextNormalizer.grams("pa")).isEmpty();
+    }
+}
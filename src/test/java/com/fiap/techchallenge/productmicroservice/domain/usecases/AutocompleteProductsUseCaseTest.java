@@ -0,0 +1,77 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductAutocompleteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteProductsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductAutocompleteIndex autocompleteIndex;
+
+    private AutocompleteProductsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AutocompleteProductsUseCase(productRepository, autocompleteIndex);
+    }
+
+    @Test
+    @DisplayName("Should return suggestions from the autocomplete index")
+    void shouldReturnSuggestionsFromIndex() {
+        Product product = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+        when(autocompleteIndex.complete("pa", 5)).thenReturn(List.of(product));
+
+        assertThat(useCase.execute("pa", 5)).containsExactly(product);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the name search, capped at the limit, when the index is disabled")
+    void shouldFallBackToNameSearchWhenIndexIsDisabled() {
+        Product first = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+        Product second = new Product("2", "Pão de Mel", "Descrição", null, 800L, 700L, CategoryEnum.SOBREMESA, 1L);
+        when(productRepository.findByNameContaining("pão")).thenReturn(List.of(first, second));
+
+        assertThat(new AutocompleteProductsUseCase(productRepository).execute(" pão ", 1)).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("Should reject blank prefix")
+    void shouldRejectBlankPrefix() {
+        assertThatThrownBy(() -> useCase.execute(" ", 5))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Prefixo é obrigatório");
+        assertThatThrownBy(() -> useCase.execute(null, 5))
+                .isInstanceOf(ProductValidationException.class);
+
+        verify(autocompleteIndex, never()).complete(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive limit")
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> useCase.execute("pa", 0))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Limite deve ser maior que zero");
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateProductsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private CreateProductsUseCase createProductsUseCase;
+
+    @Test
+    @DisplayName("Should save the whole batch in a single repository call")
+    void shouldSaveWholeBatchInSingleCall() {
+        Product first = new Product("X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        Product second = new Product("Refrigerante", "Lata", null, 700L, 600L, CategoryEnum.BEBIDA, 50L);
+        when(productRepository.saveAll(List.of(first, second))).thenReturn(ProductBatch.of(List.of(first, second)));
+
+        ProductBatch result = createProductsUseCase.execute(List.of(first, second));
+
+        assertThat(result.getItems()).containsExactly(first, second);
+        verify(productRepository, times(1)).saveAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should not hit the repository for an empty batch")
+    void shouldNotHitRepositoryForEmptyBatch() {
+        assertThat(createProductsUseCase.execute(List.of()).getItems()).isEmpty();
+
+        verifyNoInteractions(productRepository);
+    }
+}
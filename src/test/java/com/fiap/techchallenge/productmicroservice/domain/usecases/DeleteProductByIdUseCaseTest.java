@@ -1,7 +1,10 @@
 package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -32,39 +34,53 @@ class DeleteProductByIdUseCaseTest {
 
     @Test
     void shouldDeleteProductById() {
-        when(productRepository.findById("123")).thenReturn(Optional.of(product));
-        doNothing().when(productRepository).deleteById("123");
+        when(productRepository.deleteById("123")).thenReturn(true);
         
         useCase.execute("123");
         
-        verify(productRepository, times(1)).findById("123");
         verify(productRepository, times(1)).deleteById("123");
+        verify(productRepository, never()).findById(anyString());
+    }
+    
+    @Test
+    void shouldDropDeletedProductFromStockLedger() {
+        StockLedger stockLedger = mock(StockLedger.class);
+        when(productRepository.deleteById("123")).thenReturn(true);
+        when(productRepository.deleteById("999")).thenReturn(false);
+        DeleteProductByIdUseCase withLedger = new DeleteProductByIdUseCase(productRepository, stockLedger);
+
+        withLedger.execute("123");
+        assertThrows(ProductNotFoundException.class, () -> withLedger.execute("999"));
+
+        verify(stockLedger).evict("123");
+        verifyNoMoreInteractions(stockLedger);
     }
     
     @Test
     void shouldThrowExceptionWhenProductNotFound() {
-        when(productRepository.findById("999")).thenReturn(Optional.empty());
+        when(productRepository.deleteById("999")).thenReturn(false);
         
-        assertThrows(IllegalArgumentException.class, () -> useCase.execute("999"));
-        verify(productRepository, never()).deleteById(anyString());
+        ProductNotFoundException exception = assertThrows(ProductNotFoundException.class, () -> useCase.execute("999"));
+        assertEquals("Produto não encontrado", exception.getMessage());
+        verify(productRepository, times(1)).deleteById("999");
     }
     
     @Test
     void shouldThrowExceptionWhenIdIsNull() {
-        assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+        assertThrows(ProductValidationException.class, () -> useCase.execute(null));
         verify(productRepository, never()).deleteById(anyString());
     }
     
     @Test
     void shouldThrowExceptionWhenIdIsEmpty() {
-        assertThrows(IllegalArgumentException.class, () -> useCase.execute(""));
+        assertThrows(ProductValidationException.class, () -> useCase.execute(""));
         verify(productRepository, never()).deleteById(anyString());
     }
 
     @Test
     @DisplayName("Should throw exception when id is blank with spaces")
     void shouldThrowExceptionWhenIdIsBlankWithSpaces() {
-        assertThrows(IllegalArgumentException.class, () -> useCase.execute("   "));
+        assertThrows(ProductValidationException.class, () -> useCase.execute("   "));
         verify(productRepository, never()).findById(anyString());
         verify(productRepository, never()).deleteById(anyString());
     }
@@ -73,27 +89,20 @@ class DeleteProductByIdUseCaseTest {
     @DisplayName("Should successfully delete product with special characters in id")
     void shouldSuccessfullyDeleteProductWithSpecialCharactersInId() {
         String specialId = "abc-123_XYZ@456";
-        Product specialProduct = new Product();
-        specialProduct.setId(specialId);
-        
-        when(productRepository.findById(specialId)).thenReturn(Optional.of(specialProduct));
-        doNothing().when(productRepository).deleteById(specialId);
+        when(productRepository.deleteById(specialId)).thenReturn(true);
         
         useCase.execute(specialId);
         
-        verify(productRepository, times(1)).findById(specialId);
         verify(productRepository, times(1)).deleteById(specialId);
     }
 
     @Test
     @DisplayName("Should propagate repository exception on delete")
     void shouldPropagateRepositoryExceptionOnDelete() {
-        when(productRepository.findById("123")).thenReturn(Optional.of(product));
-        doThrow(new RuntimeException("Database error")).when(productRepository).deleteById("123");
+        when(productRepository.deleteById("123")).thenThrow(new RuntimeException("Database error"));
         
         assertThrows(RuntimeException.class, () -> useCase.execute("123"));
         
-        verify(productRepository, times(1)).findById("123");
         verify(productRepository, times(1)).deleteById("123");
     }
 }
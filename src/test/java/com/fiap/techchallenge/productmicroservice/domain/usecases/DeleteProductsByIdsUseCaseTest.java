@@ -0,0 +1,60 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteProductsByIdsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private DeleteProductsByIdsUseCase deleteProductsByIdsUseCase;
+
+    @Test
+    @DisplayName("Should delete the distinct ids in one repository call")
+    void shouldDeleteDistinctIdsInOneCall() {
+        when(productRepository.deleteAllById(new LinkedHashSet<>(List.of("1", "2")))).thenReturn(2L);
+
+        assertThat(deleteProductsByIdsUseCase.execute(List.of("1", " 2 ", "1", ""))).isEqualTo(2L);
+
+        verify(productRepository, times(1)).deleteAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop the deleted products from the stock ledger")
+    void shouldDropDeletedProductsFromStockLedger() {
+        StockLedger stockLedger = mock(StockLedger.class);
+        when(productRepository.deleteAllById(anyCollection())).thenReturn(1L);
+
+        new DeleteProductsByIdsUseCase(productRepository, stockLedger).execute(List.of("1", "2"));
+
+        verify(stockLedger).evict("1");
+        verify(stockLedger).evict("2");
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk delete without ids")
+    void shouldRejectBulkDeleteWithoutIds() {
+        assertThatThrownBy(() -> deleteProductsByIdsUseCase.execute(List.of(" ")))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Informe ao menos um ID de produto");
+
+        verifyNoInteractions(productRepository);
+    }
+}
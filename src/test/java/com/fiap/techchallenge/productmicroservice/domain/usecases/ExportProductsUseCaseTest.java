@@ -0,0 +1,59 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportProductsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ExportProductsUseCase useCase;
+
+    @Test
+    @DisplayName("Should hand every product to the consumer and close the stream")
+    void shouldHandEveryProductToConsumerAndCloseStream() {
+        Product first = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        Product second = new Product("2", "Refrigerante", "Descrição", null, 800L, 700L, CategoryEnum.BEBIDA, 5L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(productRepository.streamAll()).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<Product> exported = new ArrayList<>();
+
+        useCase.execute(exported::add);
+
+        assertThat(exported).containsExactly(first, second);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should close the stream when the consumer fails")
+    void shouldCloseStreamWhenConsumerFails() {
+        Product product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(productRepository.streamAll()).thenReturn(Stream.of(product).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> useCase.execute(p -> {
+            throw new IllegalStateException("cliente desconectou");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(closed).isTrue();
+    }
+}
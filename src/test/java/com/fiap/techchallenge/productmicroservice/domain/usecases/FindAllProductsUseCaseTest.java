@@ -2,6 +2,8 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +21,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -124,6 +128,29 @@ class FindAllProductsUseCaseTest {
         verify(productRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should find a page of products")
+    void shouldFindPageOfProducts() {
+        ProductPage page = new ProductPage(Arrays.asList(product1, product2), "next-cursor");
+        when(productRepository.findPage("cursor", 2)).thenReturn(page);
+
+        ProductPage result = findAllProductsUseCase.execute("cursor", 2);
+
+        assertThat(result.getItems()).containsExactly(product1, product2);
+        assertThat(result.hasNext()).isTrue();
+        verify(productRepository, times(1)).findPage("cursor", 2);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when page limit is not positive")
+    void shouldThrowExceptionWhenPageLimitIsNotPositive() {
+        assertThatThrownBy(() -> findAllProductsUseCase.execute(null, 0))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Limite deve ser maior que zero");
+
+        verify(productRepository, never()).findPage(any(), anyInt());
+    }
+
     private Product createProduct(String id, String name, CategoryEnum category) {
         Product product = new Product();
         product.setId(id);
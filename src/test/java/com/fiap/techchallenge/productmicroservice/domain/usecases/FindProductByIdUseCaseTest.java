@@ -2,6 +2,7 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,24 +56,34 @@ class FindProductByIdUseCaseTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    @DisplayName("Should check existence through the repository")
+    void shouldCheckExistence() {
+        when(productRepository.exists("123")).thenReturn(true);
+
+        assertTrue(findProductByIdUseCase.exists("123"));
+        assertFalse(findProductByIdUseCase.exists("999"));
+        assertThrows(ProductValidationException.class, () -> findProductByIdUseCase.exists(" "));
+    }
+
     @Test
     @DisplayName("Should throw exception when id is null")
     void shouldThrowExceptionWhenIdIsNull() {
-        assertThrows(IllegalArgumentException.class, () -> findProductByIdUseCase.execute(null));
+        assertThrows(ProductValidationException.class, () -> findProductByIdUseCase.execute(null));
         verify(productRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw exception when id is empty")
     void shouldThrowExceptionWhenIdIsEmpty() {
-        assertThrows(IllegalArgumentException.class, () -> findProductByIdUseCase.execute(""));
+        assertThrows(ProductValidationException.class, () -> findProductByIdUseCase.execute(""));
         verify(productRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw exception when id is blank")
     void shouldThrowExceptionWhenIdIsBlank() {
-        assertThrows(IllegalArgumentException.class, () -> findProductByIdUseCase.execute("   "));
+        assertThrows(ProductValidationException.class, () -> findProductByIdUseCase.execute("   "));
         verify(productRepository, never()).findById(any());
     }
 
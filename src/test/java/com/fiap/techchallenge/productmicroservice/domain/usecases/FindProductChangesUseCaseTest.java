@@ -0,0 +1,47 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductChangeFeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FindProductChangesUseCaseTest {
+
+    @Mock
+    private ProductChangeFeed productChangeFeed;
+
+    @InjectMocks
+    private FindProductChangesUseCase findProductChangesUseCase;
+
+    @Test
+    @DisplayName("Should read the feed from the given token")
+    void shouldReadFeedFromToken() {
+        ProductChangePage page = new ProductChangePage(List.of(), "next", false);
+        when(productChangeFeed.findChanges("token", 50)).thenReturn(page);
+
+        assertThat(findProductChangesUseCase.execute("token", 50)).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive limit")
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> findProductChangesUseCase.execute(null, 0))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Limite deve ser maior que zero");
+        verify(productChangeFeed, never()).findChanges(any(), anyInt());
+    }
+}
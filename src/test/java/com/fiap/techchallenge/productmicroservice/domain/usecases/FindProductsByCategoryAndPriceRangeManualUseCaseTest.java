@@ -2,7 +2,9 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductPriceIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -62,6 +64,34 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
                 .findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1000L, 3000L);
     }
 
+    @Test
+    @DisplayName("Should answer from the price index once it is loaded")
+    void shouldAnswerFromPriceIndexWhenReady() {
+        ProductPriceIndex priceIndex = mock(ProductPriceIndex.class);
+        when(priceIndex.isReady()).thenReturn(true);
+        when(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 1000L, 3000L, true))
+                .thenReturn(List.of(product1));
+
+        List<Product> result = new FindProductsByCategoryAndPriceRangeManualUseCase(productRepository, priceIndex)
+                .execute(CategoryEnum.LANCHE, 1000L, 3000L);
+
+        assertThat(result).containsExactly(product1);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the repository while the price index is loading")
+    void shouldFallBackToRepositoryWhilePriceIndexIsLoading() {
+        ProductPriceIndex priceIndex = mock(ProductPriceIndex.class);
+        when(priceIndex.isReady()).thenReturn(false);
+        when(productRepository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1000L, 3000L)).thenReturn(List.of(product1));
+
+        List<Product> result = new FindProductsByCategoryAndPriceRangeManualUseCase(productRepository, priceIndex)
+                .execute(CategoryEnum.LANCHE, 1000L, 3000L);
+
+        assertThat(result).containsExactly(product1);
+    }
+
     @Test
     @DisplayName("Should return empty list when no products in price range")
     void shouldReturnEmptyListWhenNoProductsInPriceRange() {
@@ -81,7 +111,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when category is null")
     void shouldThrowExceptionWhenCategoryIsNull() {
         assertThatThrownBy(() -> useCase.execute(null, 1000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Categoria é obrigatória");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -91,7 +121,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when minPrice is null")
     void shouldThrowExceptionWhenMinPriceIsNull() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, null, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo deve ser maior ou igual a zero");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -101,7 +131,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when minPrice is negative")
     void shouldThrowExceptionWhenMinPriceIsNegative() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, -1000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo deve ser maior ou igual a zero");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -111,7 +141,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when maxPrice is null")
     void shouldThrowExceptionWhenMaxPriceIsNull() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 1000L, null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço máximo deve ser maior que zero");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -121,7 +151,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when maxPrice is zero")
     void shouldThrowExceptionWhenMaxPriceIsZero() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 1000L, 0L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço máximo deve ser maior que zero");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -131,7 +161,7 @@ class FindProductsByCategoryAndPriceRangeManualUseCaseTest {
     @DisplayName("Should throw exception when minPrice is greater than maxPrice")
     void shouldThrowExceptionWhenMinPriceIsGreaterThanMaxPrice() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 5000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo não pode ser maior que o preço máximo");
 
         verify(productRepository, never()).findByCategoryAndPriceRangeManual(any(), any(), any());
@@ -2,7 +2,9 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductPriceIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,6 +63,34 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
                 .findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1000L, 3000L);
     }
 
+    @Test
+    @DisplayName("Should answer from the price index once it is loaded")
+    void shouldAnswerFromPriceIndexWhenReady() {
+        ProductPriceIndex priceIndex = mock(ProductPriceIndex.class);
+        when(priceIndex.isReady()).thenReturn(true);
+        when(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 1000L, 3000L, false))
+                .thenReturn(List.of(product1));
+
+        List<Product> result = new FindProductsByCategoryAndPriceRangeUseCase(productRepository, priceIndex)
+                .execute(CategoryEnum.LANCHE, 1000L, 3000L);
+
+        assertThat(result).containsExactly(product1);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the repository while the price index is loading")
+    void shouldFallBackToRepositoryWhilePriceIndexIsLoading() {
+        ProductPriceIndex priceIndex = mock(ProductPriceIndex.class);
+        when(priceIndex.isReady()).thenReturn(false);
+        when(productRepository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1000L, 3000L)).thenReturn(List.of(product1));
+
+        List<Product> result = new FindProductsByCategoryAndPriceRangeUseCase(productRepository, priceIndex)
+                .execute(CategoryEnum.LANCHE, 1000L, 3000L);
+
+        assertThat(result).containsExactly(product1);
+    }
+
     @Test
     @DisplayName("Should return empty list when no products in price range")
     void shouldReturnEmptyListWhenNoProductsInPriceRange() {
@@ -80,7 +110,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when category is null")
     void shouldThrowExceptionWhenCategoryIsNull() {
         assertThatThrownBy(() -> useCase.execute(null, 1000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Categoria é obrigatória");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
@@ -90,7 +120,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when minPrice is null")
     void shouldThrowExceptionWhenMinPriceIsNull() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, null, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo deve ser maior ou igual a zero");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
@@ -100,7 +130,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when minPrice is negative")
     void shouldThrowExceptionWhenMinPriceIsNegative() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, -1000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo deve ser maior ou igual a zero");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
@@ -110,7 +140,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when maxPrice is null")
     void shouldThrowExceptionWhenMaxPriceIsNull() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 1000L, null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço máximo deve ser maior que zero");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
@@ -120,7 +150,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when maxPrice is zero")
     void shouldThrowExceptionWhenMaxPriceIsZero() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 1000L, 0L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço máximo deve ser maior que zero");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
@@ -130,7 +160,7 @@ class FindProductsByCategoryAndPriceRangeUseCaseTest {
     @DisplayName("Should throw exception when minPrice is greater than maxPrice")
     void shouldThrowExceptionWhenMinPriceIsGreaterThanMaxPrice() {
         assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, 5000L, 3000L))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Preço mínimo não pode ser maior que o preço máximo");
 
         verify(productRepository, never()).findByCategoryAndPriceBetween(any(), any(), any());
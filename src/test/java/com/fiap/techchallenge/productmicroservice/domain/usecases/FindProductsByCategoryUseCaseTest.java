@@ -2,6 +2,8 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -103,9 +105,35 @@ class FindProductsByCategoryUseCaseTest {
     @DisplayName("Should throw exception when category is null")
     void shouldThrowExceptionWhenCategoryIsNull() {
         assertThatThrownBy(() -> useCase.execute(null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Categoria é obrigatória");
 
         verify(productRepository, never()).findByCategory(any());
     }
+
+    @Test
+    @DisplayName("Should find a page of products by category")
+    void shouldFindPageOfProductsByCategory() {
+        ProductPage page = new ProductPage(Arrays.asList(product1, product2), null);
+        when(productRepository.findPageByCategory(CategoryEnum.LANCHE, null, 10)).thenReturn(page);
+
+        ProductPage result = useCase.execute(CategoryEnum.LANCHE, null, 10);
+
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.hasNext()).isFalse();
+        verify(productRepository, times(1)).findPageByCategory(CategoryEnum.LANCHE, null, 10);
+    }
+
+    @Test
+    @DisplayName("Should validate category and limit when paging")
+    void shouldValidateCategoryAndLimitWhenPaging() {
+        assertThatThrownBy(() -> useCase.execute(null, null, 10))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Categoria é obrigatória");
+        assertThatThrownBy(() -> useCase.execute(CategoryEnum.LANCHE, null, 0))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Limite deve ser maior que zero");
+
+        verifyNoInteractions(productRepository);
+    }
 }
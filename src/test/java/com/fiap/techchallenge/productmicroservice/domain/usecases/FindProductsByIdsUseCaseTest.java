@@ -0,0 +1,58 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductLookup;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FindProductsByIdsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private FindProductsByIdsUseCase findProductsByIdsUseCase;
+
+    @Test
+    @DisplayName("Should fetch every id in one call and keep the requested order")
+    void shouldFetchEveryIdInOneCallAndKeepRequestedOrder() {
+        Product first = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        Product second = new Product("2", "Suco", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 10L);
+        when(productRepository.findAllById(new LinkedHashSet<>(List.of("2", "9", "1"))))
+                .thenReturn(List.of(first, second));
+
+        ProductLookup result = findProductsByIdsUseCase.execute(List.of("2", " 9 ", "1", "2"));
+
+        assertThat(result.getItems()).containsExactly(second, first);
+        assertThat(result.getMissingIds()).containsExactly("9");
+        verify(productRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject a lookup without ids")
+    void shouldRejectLookupWithoutIds() {
+        assertThatThrownBy(() -> findProductsByIdsUseCase.execute(Arrays.asList(" ", null)))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Informe ao menos um ID de produto");
+        assertThatThrownBy(() -> findProductsByIdsUseCase.execute(null))
+                .isInstanceOf(ProductValidationException.class);
+
+        verifyNoInteractions(productRepository);
+    }
+}
@@ -2,7 +2,9 @@ package com.fiap.techchallenge.productmicroservice.domain.usecases;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.search.ProductSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -55,6 +57,32 @@ class FindProductsByNameUseCaseTest {
         verify(productRepository, times(1)).findByNameContaining("Pizza");
     }
 
+    @Test
+    @DisplayName("Should answer from the search index once it is loaded")
+    void shouldAnswerFromSearchIndexWhenReady() {
+        ProductSearchIndex searchIndex = mock(ProductSearchIndex.class);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("Pizza")).thenReturn(Arrays.asList(product1, product2));
+
+        List<Product> result = new FindProductsByNameUseCase(productRepository, searchIndex).execute("Pizza");
+
+        assertThat(result).containsExactly(product1, product2);
+        verify(productRepository, never()).findByNameContaining(any());
+    }
+
+    @Test
+    @DisplayName("Should query the repository while the search index is loading")
+    void shouldQueryRepositoryWhileSearchIndexIsLoading() {
+        ProductSearchIndex searchIndex = mock(ProductSearchIndex.class);
+        when(searchIndex.isReady()).thenReturn(false);
+        when(productRepository.findByNameContaining("Pizza")).thenReturn(List.of(product1));
+
+        List<Product> result = new FindProductsByNameUseCase(productRepository, searchIndex).execute("Pizza");
+
+        assertThat(result).containsExactly(product1);
+        verify(searchIndex, never()).search(any());
+    }
+
     @Test
     @DisplayName("Should return empty list when no products found by name")
     void shouldReturnEmptyListWhenNoProductsFound() {
@@ -86,7 +114,7 @@ class FindProductsByNameUseCaseTest {
     @DisplayName("Should throw exception when name is null")
     void shouldThrowExceptionWhenNameIsNull() {
         assertThatThrownBy(() -> useCase.execute(null))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome é obrigatório");
 
         verify(productRepository, never()).findByNameContaining(any());
@@ -96,7 +124,7 @@ class FindProductsByNameUseCaseTest {
     @DisplayName("Should throw exception when name is empty")
     void shouldThrowExceptionWhenNameIsEmpty() {
         assertThatThrownBy(() -> useCase.execute(""))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome é obrigatório");
 
         verify(productRepository, never()).findByNameContaining(any());
@@ -106,7 +134,7 @@ class FindProductsByNameUseCaseTest {
     @DisplayName("Should throw exception when name is blank")
     void shouldThrowExceptionWhenNameIsBlank() {
         assertThatThrownBy(() -> useCase.execute("   "))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(ProductValidationException.class)
                 .hasMessage("Nome é obrigatório");
 
         verify(productRepository, never()).findByNameContaining(any());
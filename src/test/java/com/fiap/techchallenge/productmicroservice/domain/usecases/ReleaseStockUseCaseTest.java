@@ -0,0 +1,69 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseStockUseCaseTest {
+    @Mock
+    private ProductRepository productRepository;
+    @InjectMocks
+    private ReleaseStockUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the product with the stock after the release")
+    void shouldReturnStockAfterRelease() {
+        Product released = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 12L);
+        when(productRepository.releaseStock("1", 2)).thenReturn(Optional.of(released));
+
+        assertEquals(12L, useCase.execute("1", 2));
+    }
+
+    @Test
+    @DisplayName("Should report missing product")
+    void shouldReportMissingProduct() {
+        when(productRepository.releaseStock("999", 1)).thenReturn(Optional.empty());
+
+        assertThrows(ProductNotFoundException.class, () -> useCase.execute("999", 1));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive quantities")
+    void shouldRejectNonPositiveQuantities() {
+        assertThrows(ProductValidationException.class, () -> useCase.execute("1", 0));
+        assertThrows(ProductValidationException.class, () -> useCase.execute(null, 1));
+
+        verify(productRepository, never()).releaseStock(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should go through the stock ledger when it is enabled")
+    void shouldUseStockLedgerWhenEnabled() {
+        StockLedger stockLedger = mock(StockLedger.class);
+        when(stockLedger.release("1", 2)).thenReturn(OptionalLong.of(5));
+        when(stockLedger.release("999", 2)).thenReturn(OptionalLong.empty());
+        ReleaseStockUseCase withLedger = new ReleaseStockUseCase(productRepository, stockLedger);
+
+        assertEquals(5L, withLedger.execute("1", 2));
+        assertThrows(ProductNotFoundException.class, () -> withLedger.execute("999", 2));
+        verifyNoInteractions(productRepository);
+    }
+}
@@ -0,0 +1,93 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReserveStockUseCaseTest {
+    @Mock
+    private ProductRepository productRepository;
+    @InjectMocks
+    private ReserveStockUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the product with the stock left after the reservation")
+    void shouldReturnRemainingStock() {
+        Product reserved = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 7L);
+        when(productRepository.reserveStock("1", 3)).thenReturn(Optional.of(reserved));
+
+        assertEquals(7L, useCase.execute("1", 3));
+
+        verify(productRepository, never()).findById(anyString());
+        verify(productRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report insufficient stock with the quantity available")
+    void shouldReportInsufficientStock() {
+        Product product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 2L);
+        when(productRepository.reserveStock("1", 3)).thenReturn(Optional.empty());
+        when(productRepository.findById("1")).thenReturn(Optional.of(product));
+
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class,
+                () -> useCase.execute("1", 3));
+
+        assertEquals("Estoque insuficiente", exception.getMessage());
+        assertEquals("1", exception.getProductId());
+        assertEquals(3L, exception.getRequested());
+        assertEquals(2L, exception.getAvailable());
+    }
+
+    @Test
+    @DisplayName("Should report missing product when the reservation does not apply")
+    void shouldReportMissingProduct() {
+        when(productRepository.reserveStock("999", 1)).thenReturn(Optional.empty());
+        when(productRepository.findById("999")).thenReturn(Optional.empty());
+
+        assertThrows(ProductNotFoundException.class, () -> useCase.execute("999", 1));
+    }
+
+    @Test
+    @DisplayName("Should reject blank ids and non-positive quantities")
+    void shouldRejectInvalidInput() {
+        assertThrows(ProductValidationException.class, () -> useCase.execute(" ", 1));
+        ProductValidationException exception = assertThrows(ProductValidationException.class,
+                () -> useCase.execute("1", 0));
+        assertEquals("Quantidade deve ser maior que zero", exception.getMessage());
+        assertThrows(ProductValidationException.class, () -> useCase.execute("1", -2));
+
+        verify(productRepository, never()).reserveStock(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should go through the stock ledger when it is enabled")
+    void shouldUseStockLedgerWhenEnabled() {
+        StockLedger stockLedger = mock(StockLedger.class);
+        when(stockLedger.reserve("1", 2)).thenReturn(OptionalLong.of(5));
+        when(stockLedger.reserve("999", 2)).thenReturn(OptionalLong.empty());
+        ReserveStockUseCase withLedger = new ReserveStockUseCase(productRepository, stockLedger);
+
+        assertEquals(5L, withLedger.execute("1", 2));
+        assertThrows(ProductNotFoundException.class, () -> withLedger.execute("999", 2));
+        verifyNoInteractions(productRepository);
+    }
+}
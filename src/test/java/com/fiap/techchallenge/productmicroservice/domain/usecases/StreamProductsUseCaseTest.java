@@ -0,0 +1,85 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ReactiveProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamProductsUseCaseTest {
+
+    @Mock
+    private ReactiveProductRepository productRepository;
+
+    @InjectMocks
+    private StreamProductsUseCase useCase;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product("X-Burger", "Hambúrguer", "image.url", 2500L, 2300L, CategoryEnum.LANCHE, 10L);
+        product.setId("1");
+    }
+
+    @Test
+    @DisplayName("Should stream every product from the repository")
+    void shouldStreamAllProducts() {
+        when(productRepository.findAll()).thenReturn(Flux.just(product));
+
+        StepVerifier.create(useCase.findAll()).expectNext(product).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should find a product by id and complete empty when it does not exist")
+    void shouldFindById() {
+        when(productRepository.findById("1")).thenReturn(Mono.just(product));
+        when(productRepository.findById("2")).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.findById("1")).expectNext(product).verifyComplete();
+        StepVerifier.create(useCase.findById("2")).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal validation errors instead of throwing and never query the repository")
+    void shouldSignalValidationErrors() {
+        StepVerifier.create(useCase.findById(" "))
+                .verifyErrorMessage("ID do produto é obrigatório");
+        StepVerifier.create(useCase.findByCategory(null))
+                .verifyErrorMessage("Categoria é obrigatória");
+        StepVerifier.create(useCase.findByName(""))
+                .verifyErrorMessage("Nome é obrigatório");
+        StepVerifier.create(useCase.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 3000L, 1000L))
+                .verifyError(ProductValidationException.class);
+
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should delegate category, name and price range queries")
+    void shouldDelegateQueries() {
+        when(productRepository.findByCategory(CategoryEnum.LANCHE)).thenReturn(Flux.just(product));
+        when(productRepository.findByNameContaining("burger")).thenReturn(Flux.just(product));
+        when(productRepository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1000L, 3000L))
+                .thenReturn(Flux.just(product));
+
+        StepVerifier.create(useCase.findByCategory(CategoryEnum.LANCHE)).expectNext(product).verifyComplete();
+        StepVerifier.create(useCase.findByName("burger")).expectNext(product).verifyComplete();
+        StepVerifier.create(useCase.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 1000L, 3000L))
+                .expectNext(product)
+                .verifyComplete();
+    }
+}
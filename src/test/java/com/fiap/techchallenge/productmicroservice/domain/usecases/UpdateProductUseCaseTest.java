@@ -0,0 +1,132 @@
+package com.fiap.techchallenge.productmicroservice.domain.usecases;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductVersionConflictException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.domain.stock.StockLedger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateProductUseCaseTest {
+    @Mock
+    private ProductRepository productRepository;
+    @InjectMocks
+    private UpdateProductUseCase useCase;
+
+    private final ProductPatch patch = new ProductPatch(null, null, null, 2990L, null, null, null);
+
+    @Test
+    @DisplayName("Should return the updated product without reading it first")
+    void shouldUpdateWithoutReadingFirst() {
+        Product updated = new Product("1", "X-Burger", "Descrição", null, 2990L, 2000L, CategoryEnum.LANCHE, 7L);
+        updated.setVersion(4L);
+        when(productRepository.update("1", 3L, patch)).thenReturn(Optional.of(updated));
+
+        assertSame(updated, useCase.execute("1", 3L, patch));
+
+        verify(productRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should report a version conflict with the current version")
+    void shouldReportVersionConflict() {
+        Product current = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 7L);
+        current.setVersion(5L);
+        when(productRepository.update("1", 3L, patch)).thenReturn(Optional.empty());
+        when(productRepository.findById("1")).thenReturn(Optional.of(current));
+
+        ProductVersionConflictException exception = assertThrows(ProductVersionConflictException.class,
+                () -> useCase.execute("1", 3L, patch));
+
+        assertEquals("1", exception.getProductId());
+        assertEquals(VersionPrecondition.of(3L), exception.getExpected());
+        assertEquals(5L, exception.getCurrentVersion());
+    }
+
+    @Test
+    @DisplayName("Should report missing product when the update does not apply")
+    void shouldReportMissingProduct() {
+        when(productRepository.update("999", 0L, patch)).thenReturn(Optional.empty());
+        when(productRepository.findById("999")).thenReturn(Optional.empty());
+
+        assertThrows(ProductNotFoundException.class, () -> useCase.execute("999", 0L, patch));
+    }
+
+    @Test
+    @DisplayName("Should update whatever version is current for a wildcard precondition")
+    void shouldUpdateCurrentVersionForWildcard() {
+        Product updated = product(6L);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product(5L)));
+        when(productRepository.update("1", 5L, patch)).thenReturn(Optional.of(updated));
+
+        assertSame(updated, useCase.execute("1", VersionPrecondition.any(), patch));
+    }
+
+    @Test
+    @DisplayName("Should read again when a write lands between the read and the conditional update")
+    void shouldRetryWhenVersionMovesUnderneath() {
+        Product updated = product(7L);
+        when(productRepository.findById("1")).thenReturn(Optional.of(product(5L)))
+                .thenReturn(Optional.of(product(6L)));
+        when(productRepository.update("1", 5L, patch)).thenReturn(Optional.empty());
+        when(productRepository.update("1", 6L, patch)).thenReturn(Optional.of(updated));
+
+        assertSame(updated, useCase.execute("1", VersionPrecondition.anyOf(List.of(5L, 6L)), patch));
+    }
+
+    @Test
+    @DisplayName("Should report a conflict when the current version is not in the list")
+    void shouldReportConflictOutsideList() {
+        when(productRepository.findById("1")).thenReturn(Optional.of(product(5L)));
+
+        ProductVersionConflictException exception = assertThrows(ProductVersionConflictException.class,
+                () -> useCase.execute("1", VersionPrecondition.anyOf(List.of()), patch));
+
+        assertEquals(5L, exception.getCurrentVersion());
+        verify(productRepository, never()).update(anyString(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject quantity changes while the stock ledger owns the balance")
+    void shouldRejectQuantityWithStockLedger() {
+        UpdateProductUseCase withLedger = new UpdateProductUseCase(productRepository, mock(StockLedger.class));
+        ProductPatch quantity = new ProductPatch(null, null, null, null, null, null, 10L);
+
+        assertThrows(ProductValidationException.class, () -> withLedger.execute("1", 3L, quantity));
+
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject blank ids")
+    void shouldRejectBlankIds() {
+        assertThrows(ProductValidationException.class, () -> useCase.execute(" ", 0L, patch));
+
+        verifyNoInteractions(productRepository);
+    }
+
+    private Product product(long version) {
+        Product product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 7L);
+        product.setVersion(version);
+        return product;
+    }
+}
@@ -0,0 +1,134 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilterProductRepositoryTest {
+    private static final String EXISTING = oldId();
+    private static final String MISSING = oldId();
+
+    @Mock
+    private ProductRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductIdFilter filter;
+    private BloomFilterProductRepository repository;
+    private Product lanche;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ProductIdFilter(0.01, 0.5, 100, Duration.ofMinutes(1));
+        filter.rebuild(1, Stream.of(EXISTING));
+        repository = new BloomFilterProductRepository(delegate, filter, meterRegistry);
+        lanche = new Product(EXISTING, "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @Test
+    @DisplayName("Should answer every id-keyed operation on a definitely absent id without the delegate")
+    void shouldShortCircuitDefinitelyAbsentIds() {
+        ProductPatch patch = new ProductPatch("X-Bacon", null, null, null, null, null, null);
+
+        assertThat(repository.findById(MISSING)).isEmpty();
+        assertThat(repository.exists(MISSING)).isFalse();
+        assertThat(repository.deleteById(MISSING)).isFalse();
+        assertThat(repository.reserveStock(MISSING, 1)).isEmpty();
+        assertThat(repository.releaseStock(MISSING, 1)).isEmpty();
+        assertThat(repository.update(MISSING, 0L, patch)).isEmpty();
+        assertThat(repository.findAllById(List.of(MISSING, "1"))).isEmpty();
+        assertThat(repository.deleteAllById(List.of(MISSING))).isZero();
+
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.get(BloomFilterProductRepository.SHORT_CIRCUITED_METRIC).counter().count())
+                .isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("Should go to the delegate for ids that may exist")
+    void shouldDelegateIdsThatMayExist() {
+        ProductPatch patch = new ProductPatch("X-Bacon", null, null, null, null, null, null);
+        when(delegate.findById(EXISTING)).thenReturn(Optional.of(lanche));
+        when(delegate.exists(EXISTING)).thenReturn(true);
+        when(delegate.deleteById(EXISTING)).thenReturn(true);
+        when(delegate.findAllById(List.of(EXISTING))).thenReturn(List.of(lanche));
+        when(delegate.deleteAllById(List.of(EXISTING))).thenReturn(1L);
+
+        assertThat(repository.findById(EXISTING)).contains(lanche);
+        assertThat(repository.exists(EXISTING)).isTrue();
+        assertThat(repository.findAllById(List.of(EXISTING, MISSING))).containsExactly(lanche);
+        assertThat(repository.deleteById(EXISTING)).isTrue();
+        assertThat(repository.deleteAllById(List.of(EXISTING, MISSING))).isEqualTo(1L);
+        repository.reserveStock(EXISTING, 1);
+        repository.releaseStock(EXISTING, 1);
+        repository.update(EXISTING, 0L, patch);
+
+        verify(delegate).reserveStock(EXISTING, 1);
+        verify(delegate).releaseStock(EXISTING, 1);
+        verify(delegate).update(EXISTING, 0L, patch);
+    }
+
+    @Test
+    @DisplayName("Should add saved ids to the filter")
+    void shouldAddSavedIds() {
+        Product restored = new Product(MISSING, "X-Salada", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        Product rejected = new Product(null, "X-Tudo", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        String other = oldId();
+        Product batch = new Product(other, "X-Egg", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        when(delegate.save(restored)).thenReturn(restored);
+        when(delegate.saveAll(List.of(batch, rejected))).thenReturn(ProductBatch.of(List.of(batch, rejected)));
+
+        repository.save(restored);
+        repository.saveAll(List.of(batch, rejected));
+
+        assertThat(filter.definitelyAbsent(MISSING)).isFalse();
+        assertThat(filter.definitelyAbsent(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should pass the other operations straight to the delegate")
+    void shouldDelegateOtherOperations() {
+        repository.findAll();
+        repository.findPage(null, 10);
+        repository.streamAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        repository.findByNameContaining("burger");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+
+        verify(delegate).findAll();
+        verify(delegate).findPage(null, 10);
+        verify(delegate).streamAll();
+        verify(delegate).findByCategory(CategoryEnum.LANCHE);
+        verify(delegate).findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        verify(delegate).findByNameContaining("burger");
+        verify(delegate).findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        verify(delegate).findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+    }
+
+    private static String oldId() {
+        return new ObjectId(Date.from(Instant.now().minus(Duration.ofDays(1)))).toHexString();
+    }
+}
@@ -0,0 +1,366 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingProductRepository repository;
+    private Product lanche;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingProductRepository(delegate, 100, Duration.ofMinutes(5), meterRegistry);
+        lanche = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated findById from cache")
+    void shouldServeRepeatedFindByIdFromCache() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+
+        assertThat(repository.findById("1")).contains(lanche);
+        assertThat(repository.findById("1")).contains(lanche);
+
+        verify(delegate, times(1)).findById("1");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CachingProductRepository.BY_ID_CACHE)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing products")
+    void shouldNotCacheMissingProducts() {
+        when(delegate.findById("999")).thenReturn(Optional.empty());
+
+        assertThat(repository.findById("999")).isEmpty();
+        assertThat(repository.findById("999")).isEmpty();
+
+        verify(delegate, times(2)).findById("999");
+    }
+
+    @Test
+    @DisplayName("Should answer exists from a cached product and ask the delegate otherwise")
+    void shouldAnswerExistsFromCachedProduct() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.exists("999")).thenReturn(false);
+
+        repository.findById("1");
+
+        assertThat(repository.exists("1")).isTrue();
+        assertThat(repository.exists("999")).isFalse();
+        verify(delegate, never()).exists("1");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated findAll and findByCategory from cache")
+    void shouldServeRepeatedListsFromCache() {
+        when(delegate.findAll()).thenReturn(List.of(lanche));
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche));
+
+        repository.findAll();
+        repository.findAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        List<Product> result = repository.findByCategory(CategoryEnum.LANCHE);
+
+        assertThat(result).containsExactly(lanche);
+        verify(delegate, times(1)).findAll();
+        verify(delegate, times(1)).findByCategory(CategoryEnum.LANCHE);
+    }
+
+    @Test
+    @DisplayName("Should invalidate id, category and catalog entries on save")
+    void shouldInvalidateEntriesOnSave() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findAll()).thenReturn(List.of(lanche));
+        when(delegate.findByCategory(any(CategoryEnum.class))).thenReturn(List.of());
+        when(delegate.save(lanche)).thenReturn(lanche);
+        repository.findById("1");
+        repository.findAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        repository.save(lanche);
+        repository.findById("1");
+        repository.findAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        verify(delegate, times(2)).findById("1");
+        verify(delegate, times(2)).findAll();
+        verify(delegate, times(2)).findByCategory(CategoryEnum.LANCHE);
+        verify(delegate, times(1)).findByCategory(CategoryEnum.BEBIDA);
+    }
+
+    @Test
+    @DisplayName("Should invalidate every category when an uncached product is updated")
+    void shouldInvalidateEveryCategoryWhenUncachedProductIsUpdated() {
+        when(delegate.findByCategory(CategoryEnum.BEBIDA)).thenReturn(List.of());
+        when(delegate.save(lanche)).thenReturn(lanche);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        repository.save(lanche);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        verify(delegate, times(2)).findByCategory(CategoryEnum.BEBIDA);
+    }
+
+    @Test
+    @DisplayName("Should drop the lists the batch may appear in after a batch insert")
+    void shouldDropListsAfterBatchInsert() {
+        Product bebida = new Product("2", "Suco", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 10L);
+        when(delegate.findAll()).thenReturn(List.of());
+        when(delegate.findByCategory(any(CategoryEnum.class))).thenReturn(List.of());
+        when(delegate.saveAll(List.of(lanche))).thenReturn(ProductBatch.of(List.of(lanche)));
+        repository.findAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        repository.saveAll(List.of(lanche));
+        repository.findAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findByCategory(CategoryEnum.BEBIDA);
+
+        verify(delegate, times(2)).findAll();
+        verify(delegate, times(2)).findByCategory(CategoryEnum.LANCHE);
+        verify(delegate, times(1)).findByCategory(CategoryEnum.BEBIDA);
+    }
+
+    @Test
+    @DisplayName("Should only fetch the ids missing from the cache on multi-get")
+    void shouldOnlyFetchIdsMissingFromCacheOnMultiGet() {
+        Product bebida = new Product("2", "Suco", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 10L);
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findAllById(List.of("2", "3"))).thenReturn(List.of(bebida));
+        repository.findById("1");
+
+        assertThat(repository.findAllById(List.of("1", "2", "3"))).containsExactlyInAnyOrder(lanche, bebida);
+        assertThat(repository.findAllById(List.of("1", "2"))).containsExactlyInAnyOrder(lanche, bebida);
+
+        verify(delegate, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should not cache a multi-get result when a delete lands while it is loading")
+    void shouldNotCacheMultiGetResultRacingWithDelete() {
+        when(delegate.findAllById(List.of("1"))).thenAnswer(invocation -> {
+            repository.deleteById("1");
+            return List.of(lanche);
+        });
+        when(delegate.findById("1")).thenReturn(Optional.empty());
+
+        assertThat(repository.findAllById(List.of("1"))).containsExactly(lanche);
+
+        assertThat(repository.findById("1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not cache lists and pages loaded while a write lands")
+    void shouldNotCacheListsRacingWithWrite() {
+        when(delegate.save(lanche)).thenReturn(lanche);
+        when(delegate.findAll()).thenAnswer(invocation -> {
+            repository.save(lanche);
+            return List.of();
+        }).thenReturn(List.of(lanche));
+        when(delegate.findPage(null, 10)).thenAnswer(invocation -> {
+            repository.deleteAllById(List.of("2"));
+            return new ProductPage(List.of(), null);
+        });
+
+        assertThat(repository.findAll()).isEmpty();
+        assertThat(repository.findAll()).containsExactly(lanche);
+        repository.findPage(null, 10);
+        repository.findPage(null, 10);
+
+        verify(delegate, times(2)).findPage(null, 10);
+    }
+
+    @Test
+    @DisplayName("Should not cache a product loaded while a remote change drops every entry")
+    void shouldNotCacheProductRacingWithInvalidateAll() {
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            repository.invalidateAll();
+            return Optional.of(lanche);
+        });
+
+        repository.findById("1");
+        repository.findById("1");
+
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should keep the products written by a stock ledger flush and drop the ones that are gone")
+    void shouldRefreshProductsWrittenByStockLedgerFlush() {
+        Product flushed = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 4L);
+        Product deleted = new Product("2", "Suco", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 10L);
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findById("2")).thenReturn(Optional.of(deleted)).thenReturn(Optional.empty());
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche)).thenReturn(List.of(flushed));
+        when(delegate.applyStockDeltas(7L, Map.of("1", -6L, "2", -1L))).thenReturn(List.of(flushed));
+        repository.findById("1");
+        repository.findById("2");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        repository.applyStockDeltas(7L, Map.of("1", -6L, "2", -1L));
+
+        assertThat(repository.findById("1")).contains(flushed);
+        assertThat(repository.findById("2")).isEmpty();
+        assertThat(repository.findByCategory(CategoryEnum.LANCHE)).containsExactly(flushed);
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should invalidate entries on delete")
+    void shouldInvalidateEntriesOnDelete() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche)).thenReturn(Optional.empty());
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche)).thenReturn(List.of());
+        repository.findById("1");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        repository.deleteById("1");
+
+        assertThat(repository.findById("1")).isEmpty();
+        assertThat(repository.findByCategory(CategoryEnum.LANCHE)).isEmpty();
+        verify(delegate, times(1)).deleteById("1");
+    }
+
+    @Test
+    @DisplayName("Should drop every deleted id and the lists on bulk delete")
+    void shouldDropDeletedIdsAndListsOnBulkDelete() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche)).thenReturn(Optional.empty());
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche)).thenReturn(List.of());
+        when(delegate.deleteAllById(List.of("1", "2"))).thenReturn(1L);
+        repository.findById("1");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        assertThat(repository.deleteAllById(List.of("1", "2"))).isEqualTo(1L);
+
+        assertThat(repository.findById("1")).isEmpty();
+        assertThat(repository.findByCategory(CategoryEnum.LANCHE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the product returned by a stock change and drop the lists")
+    void shouldKeepStockChangeResultAndDropLists() {
+        Product reserved = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 7L);
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche)).thenReturn(List.of(reserved));
+        when(delegate.reserveStock("1", 3)).thenReturn(Optional.of(reserved));
+        repository.findById("1");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        assertThat(repository.reserveStock("1", 3)).contains(reserved);
+
+        assertThat(repository.findById("1")).contains(reserved);
+        assertThat(repository.findByCategory(CategoryEnum.LANCHE)).containsExactly(reserved);
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should keep the patched product and drop every category list when the category changes")
+    void shouldKeepPatchedProductAndDropCategoryLists() {
+        ProductPatch patch = new ProductPatch(null, null, null, null, null, CategoryEnum.BEBIDA, null);
+        Product patched = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.BEBIDA, 10L);
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche)).thenReturn(List.of());
+        when(delegate.update("1", 0L, patch)).thenReturn(Optional.of(patched));
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        assertThat(repository.update("1", 0L, patch)).contains(patched);
+
+        assertThat(repository.findById("1")).contains(patched);
+        assertThat(repository.findByCategory(CategoryEnum.LANCHE)).isEmpty();
+        verify(delegate, never()).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should drop every cached entry on demand")
+    void shouldDropEveryCachedEntryOnDemand() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(List.of(lanche));
+        repository.findById("1");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        repository.invalidateAll();
+        repository.findById("1");
+        repository.findByCategory(CategoryEnum.LANCHE);
+
+        verify(delegate, times(2)).findById("1");
+        verify(delegate, times(2)).findByCategory(CategoryEnum.LANCHE);
+    }
+
+    @Test
+    @DisplayName("Should drop the cached product when a stock change does not apply")
+    void shouldDropCachedProductWhenStockChangeDoesNotApply() {
+        Product empty = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 0L);
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche)).thenReturn(Optional.of(empty));
+        when(delegate.reserveStock("1", 50)).thenReturn(Optional.empty());
+        when(delegate.releaseStock("1", 1)).thenReturn(Optional.empty());
+        repository.findById("1");
+
+        assertThat(repository.reserveStock("1", 50)).isEmpty();
+        assertThat(repository.findById("1")).contains(empty);
+        assertThat(repository.releaseStock("1", 1)).isEmpty();
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should cache pages by cursor and drop them on write")
+    void shouldCachePagesAndDropThemOnWrite() {
+        ProductPage page = new ProductPage(List.of(lanche), "next");
+        when(delegate.findPage(null, 10)).thenReturn(page);
+        when(delegate.findPageByCategory(CategoryEnum.LANCHE, "next", 10)).thenReturn(page);
+        when(delegate.save(lanche)).thenReturn(lanche);
+
+        repository.findPage(null, 10);
+        repository.findPage(null, 10);
+        repository.findPageByCategory(CategoryEnum.LANCHE, "next", 10);
+        repository.findPageByCategory(CategoryEnum.LANCHE, "next", 10);
+        repository.save(lanche);
+        ProductPage result = repository.findPage(null, 10);
+
+        assertThat(result).isSameAs(page);
+        verify(delegate, times(2)).findPage(null, 10);
+        verify(delegate, times(1)).findPageByCategory(CategoryEnum.LANCHE, "next", 10);
+    }
+
+    @Test
+    @DisplayName("Should delegate uncached queries")
+    void shouldDelegateUncachedQueries() {
+        repository.findByNameContaining("Burger");
+        repository.findByNameContaining("Burger");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 100L, 200L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 100L, 200L);
+        repository.streamAll();
+
+        verify(delegate, times(2)).findByNameContaining("Burger");
+        verify(delegate).findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 100L, 200L);
+        verify(delegate).findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 100L, 200L);
+        verify(delegate).streamAll();
+    }
+}
@@ -0,0 +1,243 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingProductRepositoryTest {
+    private static final int CALLERS = 8;
+
+    @Mock
+    private ProductRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingProductRepository repository;
+    private ExecutorService executor;
+    private CountDownLatch release;
+    private Product lanche;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CoalescingProductRepository(delegate, meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+        lanche = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one findById for concurrent identical requests and share its result")
+    void shouldCollapseConcurrentFindById() throws Exception {
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(lanche);
+        });
+
+        List<Future<Optional<Product>>> results = submitAll(() -> repository.findById("1"));
+        awaitCollapsed("findById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Optional<Product>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).containsSame(lanche);
+        }
+        verify(delegate, times(1)).findById("1");
+        assertThat(counter(CoalescingProductRepository.EXECUTED_METRIC, "findById")).isEqualTo(1.0);
+        assertThat(repository.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent category pages and hand out an immutable category list")
+    void shouldCollapseConcurrentCategoryQueries() throws Exception {
+        ProductPage page = new ProductPage(List.of(lanche), null);
+        when(delegate.findPageByCategory(CategoryEnum.LANCHE, null, 20)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return page;
+        });
+        when(delegate.findByCategory(CategoryEnum.LANCHE)).thenReturn(new ArrayList<>(List.of(lanche)));
+
+        List<Future<ProductPage>> results = submitAll(
+                () -> repository.findPageByCategory(CategoryEnum.LANCHE, null, 20));
+        awaitCollapsed("findPageByCategory", CALLERS - 1);
+        release.countDown();
+
+        for (Future<ProductPage> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(page);
+        }
+        verify(delegate, times(1)).findPageByCategory(CategoryEnum.LANCHE, null, 20);
+        assertThatThrownBy(() -> repository.findByCategory(CategoryEnum.LANCHE).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should not share a query between different keys or once it has returned")
+    void shouldNotShareFinishedOrDifferentQueries() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+        when(delegate.findById("2")).thenReturn(Optional.empty());
+
+        repository.findById("1");
+        repository.findById("1");
+        repository.findById("2");
+
+        verify(delegate, times(2)).findById("1");
+        verify(delegate, times(1)).findById("2");
+        assertThat(counter(CoalescingProductRepository.COLLAPSED_METRIC, "findById")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of the shared query to every caller waiting on it")
+    void shouldPropagateFailureToCollapsedCallers() throws Exception {
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("MongoDB indisponível");
+        });
+
+        List<Future<Optional<Product>>> results = submitAll(() -> repository.findById("1"));
+        awaitCollapsed("findById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Optional<Product>> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("MongoDB indisponível");
+        }
+        assertThat(repository.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not let a read that starts after a write join a query started before it")
+    void shouldDetachInFlightQueriesOnWrite() throws Exception {
+        Product updated = new Product("1", "X-Bacon", "Descrição", null, 2990L, 2400L, CategoryEnum.LANCHE, 10L);
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(lanche);
+        }).thenReturn(Optional.of(updated));
+        when(delegate.update(eq("1"), eq(0L), any(ProductPatch.class))).thenReturn(Optional.of(updated));
+
+        Future<Optional<Product>> before = executor.submit(() -> repository.findById("1"));
+        awaitExecuted("findById", 1);
+        repository.update("1", 0L, new ProductPatch("X-Bacon", null, null, 2990L, 2400L, null, null));
+
+        assertThat(repository.findById("1")).containsSame(updated);
+        release.countDown();
+        assertThat(before.get(5, TimeUnit.SECONDS)).containsSame(lanche);
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should keep sharing queries for other products and categories after a write")
+    void shouldKeepUnrelatedQueriesSharedOnWrite() throws Exception {
+        Product bebida = new Product("2", "Suco", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 10L);
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(lanche);
+        });
+        when(delegate.reserveStock("2", 1)).thenReturn(Optional.of(bebida));
+
+        Future<Optional<Product>> before = executor.submit(() -> repository.findById("1"));
+        awaitExecuted("findById", 1);
+        repository.reserveStock("2", 1);
+        Future<Optional<Product>> after = executor.submit(() -> repository.findById("1"));
+        awaitCollapsed("findById", 1);
+        release.countDown();
+
+        assertThat(before.get(5, TimeUnit.SECONDS)).containsSame(lanche);
+        assertThat(after.get(5, TimeUnit.SECONDS)).containsSame(lanche);
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should pass the other operations straight to the delegate")
+    void shouldDelegateOtherOperations() {
+        when(delegate.save(lanche)).thenReturn(lanche);
+        when(delegate.saveAll(List.of(lanche))).thenReturn(ProductBatch.of(List.of(lanche)));
+        repository.exists("1");
+        repository.findAll();
+        repository.findAllById(List.of("1"));
+        repository.findPage(null, 10);
+        repository.streamAll();
+        repository.findByNameContaining("burger");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+        repository.save(lanche);
+        repository.saveAll(List.of(lanche));
+        repository.deleteById("1");
+        repository.deleteAllById(List.of("1"));
+        repository.reserveStock("1", 1);
+        repository.releaseStock("1", 1);
+
+        verify(delegate).findAll();
+        verify(delegate).exists("1");
+        verify(delegate).findAllById(List.of("1"));
+        verify(delegate).findPage(null, 10);
+        verify(delegate).streamAll();
+        verify(delegate).findByNameContaining("burger");
+        verify(delegate).findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        verify(delegate).findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+        verify(delegate).save(lanche);
+        verify(delegate).saveAll(List.of(lanche));
+        verify(delegate).deleteById("1");
+        verify(delegate).deleteAllById(List.of("1"));
+        verify(delegate).reserveStock("1", 1);
+        verify(delegate).releaseStock("1", 1);
+    }
+
+    private <T> List<Future<T>> submitAll(Supplier<T> call) {
+        List<Future<T>> results = new ArrayList<>(CALLERS);
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call::get));
+        }
+        return results;
+    }
+
+    private void awaitCollapsed(String query, int expected) throws InterruptedException {
+        await(CoalescingProductRepository.COLLAPSED_METRIC, query, expected);
+    }
+
+    private void awaitExecuted(String query, int expected) throws InterruptedException {
+        await(CoalescingProductRepository.EXECUTED_METRIC, query, expected);
+    }
+
+    private void await(String metric, String query, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (counter(metric, query) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(counter(metric, query)).isEqualTo(expected);
+    }
+
+    private double counter(String metric, String query) {
+        return meterRegistry.get(metric).tag("query", query).counter().count();
+    }
+}
@@ -0,0 +1,200 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NegativeCachingProductRepository repository;
+    private Product lanche;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new NegativeCachingProductRepository(delegate, 100, Duration.ofMinutes(10), meterRegistry);
+        lanche = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated lookups of a missing id without the delegate")
+    void shouldRememberMissingIds() {
+        when(delegate.findById("999")).thenReturn(Optional.empty());
+
+        assertThat(repository.findById("999")).isEmpty();
+        assertThat(repository.findById("999")).isEmpty();
+
+        verify(delegate, times(1)).findById("999");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", NegativeCachingProductRepository.ABSENT_CACHE)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should share remembered absences between findById and exists")
+    void shouldShareAbsencesWithExists() {
+        when(delegate.exists("999")).thenReturn(false);
+        when(delegate.exists("1")).thenReturn(true);
+
+        assertThat(repository.exists("999")).isFalse();
+        assertThat(repository.findById("999")).isEmpty();
+        assertThat(repository.exists("999")).isFalse();
+        assertThat(repository.exists("1")).isTrue();
+        assertThat(repository.exists("1")).isTrue();
+
+        verify(delegate, times(1)).exists("999");
+        verify(delegate, never()).findById("999");
+        verify(delegate, times(2)).exists("1");
+    }
+
+    @Test
+    @DisplayName("Should not remember products that exist")
+    void shouldNotRememberExistingProducts() {
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+
+        repository.findById("1");
+        repository.findById("1");
+
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should forget an absent id once a product is saved with it")
+    void shouldForgetIdOnSave() {
+        when(delegate.findById("1")).thenReturn(Optional.empty()).thenReturn(Optional.of(lanche));
+        when(delegate.save(lanche)).thenReturn(lanche);
+
+        assertThat(repository.findById("1")).isEmpty();
+        repository.save(lanche);
+
+        assertThat(repository.findById("1")).contains(lanche);
+    }
+
+    @Test
+    @DisplayName("Should forget absent ids created by a batch insert")
+    void shouldForgetIdsOnSaveAll() {
+        Product rejected = new Product(null, "X-Salada", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        when(delegate.findById("1")).thenReturn(Optional.empty()).thenReturn(Optional.of(lanche));
+        when(delegate.saveAll(List.of(lanche, rejected))).thenReturn(new ProductBatch(List.of(lanche, rejected),
+                Map.of(1, new ProductWriteError("duplicate key", 11000))));
+
+        repository.findById("1");
+        repository.saveAll(List.of(lanche, rejected));
+
+        assertThat(repository.findById("1")).contains(lanche);
+    }
+
+    @Test
+    @DisplayName("Should not record an absence read while a product was being created")
+    void shouldNotRecordAbsenceThatRacedWithCreation() {
+        when(delegate.save(lanche)).thenReturn(lanche);
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            repository.save(lanche);
+            return Optional.empty();
+        }).thenReturn(Optional.of(lanche));
+
+        assertThat(repository.findById("1")).isEmpty();
+
+        assertThat(repository.findById("1")).contains(lanche);
+    }
+
+    @Test
+    @DisplayName("Should remember deleted ids")
+    void shouldRememberDeletedIds() {
+        when(delegate.deleteById("1")).thenReturn(true);
+        when(delegate.deleteAllById(List.of("2", "3"))).thenReturn(2L);
+
+        repository.deleteById("1");
+        repository.deleteAllById(List.of("2", "3"));
+
+        assertThat(repository.findById("1")).isEmpty();
+        assertThat(repository.findAllById(List.of("2", "3"))).isEmpty();
+        verify(delegate, never()).findById(anyString());
+        verify(delegate, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should only ask the delegate for ids not known to be absent and remember the ones it misses")
+    void shouldFilterKnownAbsentIdsFromFindAllById() {
+        when(delegate.findById("9")).thenReturn(Optional.empty());
+        when(delegate.findAllById(List.of("1", "8"))).thenReturn(List.of(lanche));
+
+        repository.findById("9");
+        assertThat(repository.findAllById(List.of("1", "8", "9"))).containsExactly(lanche);
+
+        assertThat(repository.findById("8")).isEmpty();
+        verify(delegate, never()).findById("8");
+    }
+
+    @Test
+    @DisplayName("Should drop every absent id when invalidated")
+    void shouldInvalidateAll() {
+        when(delegate.findById("999")).thenReturn(Optional.empty());
+        repository.findById("999");
+
+        repository.invalidateAll();
+        repository.findById("999");
+
+        verify(delegate, times(2)).findById("999");
+    }
+
+    @Test
+    @DisplayName("Should not treat an empty stock or update result as a missing id")
+    void shouldPassConditionalWritesThrough() {
+        ProductPatch patch = new ProductPatch("X-Bacon", null, null, null, null, null, null);
+        when(delegate.reserveStock("1", 5)).thenReturn(Optional.empty());
+        when(delegate.findById("1")).thenReturn(Optional.of(lanche));
+
+        repository.reserveStock("1", 5);
+        repository.releaseStock("1", 5);
+        repository.update("1", 3L, patch);
+
+        assertThat(repository.findById("1")).contains(lanche);
+        verify(delegate).releaseStock("1", 5);
+        verify(delegate).update("1", 3L, patch);
+    }
+
+    @Test
+    @DisplayName("Should pass the other reads straight to the delegate")
+    void shouldDelegateOtherReads() {
+        repository.findAll();
+        repository.findPage(null, 10);
+        repository.streamAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        repository.findByNameContaining("burger");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+
+        verify(delegate).findAll();
+        verify(delegate).findPage(null, 10);
+        verify(delegate).streamAll();
+        verify(delegate).findByCategory(CategoryEnum.LANCHE);
+        verify(delegate).findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        verify(delegate).findByNameContaining("burger");
+        verify(delegate).findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        verify(delegate).findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductIdBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an inserted id as absent")
+    void shouldHaveNoFalseNegatives() {
+        ProductIdBloomFilter filter = ProductIdBloomFilter.create(10_000, 0.01);
+        List<String> ids = ids(10_000);
+
+        ids.forEach(filter::put);
+
+        assertThat(ids).allMatch(filter::mightContain);
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one at capacity")
+    void shouldKeepFalsePositiveRateNearConfigured() {
+        ProductIdBloomFilter filter = ProductIdBloomFilter.create(10_000, 0.01);
+        ids(10_000).forEach(filter::put);
+
+        long falsePositives = ids(100_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+        assertThat(filter.fillRatio()).isBetween(0.4, 0.6);
+    }
+
+    @Test
+    @DisplayName("Should size the bit array and hash count from the expected insertions")
+    void shouldSizeFromExpectedInsertions() {
+        ProductIdBloomFilter filter = ProductIdBloomFilter.create(1_000_000, 0.01);
+
+        assertThat(filter.capacity()).isEqualTo(1_000_000);
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(filter.bitCount() % Long.SIZE).isZero();
+        assertThat(filter.sizeInBytes()).isBetween(1_150_000L, 1_250_000L);
+        assertThat(filter.fillRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not lose bits when ids are inserted concurrently")
+    void shouldNotLoseConcurrentInserts() throws Exception {
+        ProductIdBloomFilter filter = ProductIdBloomFilter.create(1_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<List<String>> batches = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                List<String> batch = ids(500);
+                batches.add(batch);
+                futures.add(executor.submit(() -> batch.forEach(filter::put)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).allMatch(filter::mightContain));
+        assertThat(filter.insertions()).isEqualTo(4_000);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid size or false positive rate")
+    void shouldRejectInvalidArguments() {
+        assertThatThrownBy(() -> ProductIdBloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductIdBloomFilter.create(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductIdBloomFilter.create(10, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> ids(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(new ObjectId().toHexString());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,121 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductIdFilterTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private ProductIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ProductIdFilter(0.01, 0.5, 100, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should not vouch for any well-formed id before the first load")
+    void shouldNotAnswerBeforeLoaded() {
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.definitelyAbsent(idCreatedAt(NOW.minusSeconds(3600)))).isFalse();
+        assertThat(filter.isOlderThan(Duration.ofHours(1))).isTrue();
+        assertThat(filter.fillRatio()).isZero();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+        assertThat(filter.sizeInBytes()).isZero();
+        assertThat(filter.capacity()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report ids that are not ObjectIds as absent")
+    void shouldReportMalformedIdsAbsent() {
+        assertThat(filter.definitelyAbsent("1")).isTrue();
+        assertThat(filter.definitelyAbsent(null)).isTrue();
+        assertThat(filter.definitelyAbsent("65f1a2b3c4d5e6f708192a3g")).isTrue();
+        assertThat(filter.definitelyAbsent("65f1a2b3c4d5e6f708192a3\u0663")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report old ids missing from the load as absent and keep loaded ids")
+    void shouldAnswerFromLoadedIds() {
+        String existing = idCreatedAt(NOW.minusSeconds(3600));
+        String missing = idCreatedAt(NOW.minusSeconds(3600));
+
+        filter.rebuild(1, Stream.of(existing));
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.definitelyAbsent(existing)).isFalse();
+        assertThat(filter.definitelyAbsent(missing)).isTrue();
+        assertThat(filter.capacity()).isEqualTo(100);
+        assertThat(filter.insertions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never report absent an id created after the load started, minus the clock skew")
+    void shouldNotVouchForIdsNewerThanTheLoad() {
+        filter.rebuild(0, Stream.empty());
+
+        assertThat(filter.definitelyAbsent(idCreatedAt(NOW.minusSeconds(30)))).isFalse();
+        assertThat(filter.definitelyAbsent(idCreatedAt(NOW.plusSeconds(5)))).isFalse();
+        assertThat(filter.definitelyAbsent(idCreatedAt(NOW.minusSeconds(90)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep ids saved while a load is running")
+    void shouldKeepIdsAddedDuringRebuild() {
+        String loaded = idCreatedAt(NOW.minusSeconds(3600));
+        String savedDuringLoad = idCreatedAt(NOW.minusSeconds(3600));
+        filter.rebuild(1, Stream.of(loaded));
+
+        filter.rebuild(1, Stream.of(loaded).peek(id -> filter.add(savedDuringLoad)));
+
+        assertThat(filter.definitelyAbsent(savedDuringLoad)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should size from the collection count plus headroom and report saturation")
+    void shouldReportSaturation() {
+        filter.rebuild(1_000, Stream.empty());
+        assertThat(filter.capacity()).isEqualTo(1_500);
+
+        for (int i = 0; i < 1_500; i++) {
+            filter.add(new ObjectId().toHexString());
+        }
+        assertThat(filter.isSaturated()).isFalse();
+        filter.add(new ObjectId().toHexString());
+        filter.add(null);
+
+        assertThat(filter.isSaturated()).isTrue();
+        assertThat(filter.fillRatio()).isPositive();
+        assertThat(filter.expectedFalsePositiveRate()).isPositive();
+        assertThat(filter.sizeInBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should tell when the load is older than the given age")
+    void shouldTrackAge() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW, NOW, NOW.plus(Duration.ofHours(2)));
+        ProductIdFilter aging = new ProductIdFilter(0.01, 0.5, 100, Duration.ofMinutes(1), clock);
+        aging.rebuild(0, Stream.empty());
+
+        assertThat(aging.isOlderThan(Duration.ofHours(1))).isFalse();
+        assertThat(aging.isOlderThan(Duration.ofHours(1))).isTrue();
+    }
+
+    private static String idCreatedAt(Instant instant) {
+        return new ObjectId(Date.from(instant)).toHexString();
+    }
+}
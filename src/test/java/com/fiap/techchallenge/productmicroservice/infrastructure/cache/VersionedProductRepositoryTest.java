@@ -0,0 +1,86 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.cache;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VersionedProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private CatalogVersion catalogVersion;
+    private VersionedProductRepository repository;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        repository = new VersionedProductRepository(delegate, catalogVersion);
+        product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @Test
+    @DisplayName("Should change the catalog ETag after every applied write")
+    void shouldChangeEtagAfterEveryAppliedWrite() {
+        ProductPatch patch = new ProductPatch(null, null, null, 2990L, null, null, null);
+        when(delegate.save(product)).thenReturn(product);
+        when(delegate.saveAll(List.of(product))).thenReturn(ProductBatch.of(List.of(product)));
+        when(delegate.deleteById("1")).thenReturn(true);
+        when(delegate.deleteAllById(List.of("1"))).thenReturn(1L);
+        when(delegate.reserveStock("1", 1)).thenReturn(Optional.of(product));
+        when(delegate.releaseStock("1", 1)).thenReturn(Optional.of(product));
+        when(delegate.update("1", 0L, patch)).thenReturn(Optional.of(product));
+        when(delegate.applyStockDeltas(7L, Map.of("1", -1L))).thenReturn(List.of(product));
+
+        String etag = catalogVersion.etag();
+        repository.save(product);
+        repository.saveAll(List.of(product));
+        repository.deleteById("1");
+        repository.deleteAllById(List.of("1"));
+        repository.reserveStock("1", 1);
+        repository.releaseStock("1", 1);
+        repository.update("1", 0L, patch);
+        repository.applyStockDeltas(7L, Map.of("1", -1L));
+
+        assertThat(catalogVersion.etag()).isNotEqualTo(etag).endsWith("-8\"");
+    }
+
+    @Test
+    @DisplayName("Should keep the catalog ETag when reads or writes change nothing")
+    void shouldKeepEtagWhenNothingChanges() {
+        when(delegate.findById("1")).thenReturn(Optional.of(product));
+        when(delegate.deleteById("2")).thenReturn(false);
+        when(delegate.reserveStock("1", 99)).thenReturn(Optional.empty());
+
+        String etag = catalogVersion.etag();
+        repository.findById("1");
+        repository.exists("1");
+        repository.deleteById("2");
+        repository.reserveStock("1", 99);
+
+        assertThat(catalogVersion.etag()).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Should issue ETags that never match another instance")
+    void shouldIssueEtagsUniquePerInstance() {
+        assertThat(new CatalogVersion().etag()).isNotEqualTo(catalogVersion.etag()).startsWith("\"");
+    }
+}
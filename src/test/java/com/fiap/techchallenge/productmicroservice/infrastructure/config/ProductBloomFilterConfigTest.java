@@ -0,0 +1,37 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ProductBloomFilterConfig Tests")
+class ProductBloomFilterConfigTest {
+
+    @Test
+    @DisplayName("Should publish fill ratio, estimated false positive rate and off-heap size")
+    void shouldPublishFilterGauges() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductBloomFilterConfig config = new ProductBloomFilterConfig();
+        ProductBloomFilterProperties properties = new ProductBloomFilterProperties();
+        ProductIdFilter filter = config.productIdFilter(properties, meterRegistry);
+
+        filter.rebuild(1, Stream.of(new ObjectId().toHexString()));
+
+        assertThat(meterRegistry.get("products.bloom.fill.ratio").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("products.bloom.fpp").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("products.bloom.size").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("products.bloom.insertions").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("products.bloom.capacity").gauge().value())
+                .isEqualTo(properties.getMinimumCapacity());
+        assertThat(config.productIdFilterRefresher(mock(ProductRepositoryAdapter.class), filter, properties))
+                .isNotNull();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.PriceRangeIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductPriceIndexConfig Tests")
+class ProductPriceIndexConfigTest {
+
+    @Test
+    @DisplayName("Should publish the price index size")
+    void shouldPublishPriceIndexSize() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PriceRangeIndex index = new ProductPriceIndexConfig().priceRangeIndex(meterRegistry);
+
+        index.rebuild(Stream.of(new Product("1", "X-Burger", "Descrição", null, 1000L, 900L,
+                CategoryEnum.LANCHE, 1L)));
+
+        assertThat(meterRegistry.get("products.price.index.size").gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,201 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.BloomFilterProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CachingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CoalescingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.NegativeCachingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.VersionedProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.IndexingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.ProductIndex;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.ProductIndexRefresher;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrigramProductIndex;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.BroadcastingProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.ProductEventBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ProductRepositoryConfig Tests")
+class ProductRepositoryConfigTest {
+
+    private ProductRepositoryConfig config;
+    private ProductCacheProperties cacheProperties;
+    private ProductCoalescingProperties coalescingProperties;
+    private ProductNegativeCacheProperties negativeCacheProperties;
+
+    @Mock
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        config = new ProductRepositoryConfig();
+        cacheProperties = new ProductCacheProperties();
+        coalescingProperties = new ProductCoalescingProperties();
+        negativeCacheProperties = new ProductNegativeCacheProperties();
+    }
+
+    @Test
+    @DisplayName("Should expose the Mongo adapter behind the catalog version when cache is disabled")
+    void shouldExposeAdapterWhenCacheIsDisabled() {
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), new CatalogVersion(), noBroadcaster());
+
+        assertThat(repository).isInstanceOf(VersionedProductRepository.class)
+                .extracting("delegate").isSameAs(productRepositoryAdapter);
+    }
+
+    @Test
+    @DisplayName("Should wrap the adapter with the cache when enabled")
+    void shouldWrapAdapterWithCacheWhenEnabled() {
+        cacheProperties.setEnabled(true);
+
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), new CatalogVersion(), noBroadcaster());
+
+        assertThat(repository).extracting("delegate").isInstanceOf(CachingProductRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should put request coalescing right above the adapter, below the cache")
+    void shouldWrapAdapterWithCoalescingBelowCache() {
+        cacheProperties.setEnabled(true);
+        coalescingProperties.setEnabled(true);
+
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), new CatalogVersion(), noBroadcaster());
+
+        assertThat(repository).extracting("delegate").isInstanceOf(CachingProductRepository.class)
+                .extracting("delegate").isInstanceOf(CoalescingProductRepository.class)
+                .extracting("delegate").isSameAs(productRepositoryAdapter);
+    }
+
+    @Test
+    @DisplayName("Should check the Bloom filter of ids before the caches")
+    void shouldWrapWithBloomFilterAboveTheCaches() {
+        negativeCacheProperties.setEnabled(true);
+        ProductIdFilter idFilter = new ProductIdFilter(0.01, 0.5, 100, Duration.ofMinutes(1));
+
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(),
+                new StaticListableBeanFactory(Map.of("idFilter", idFilter)).getBeanProvider(ProductIdFilter.class),
+                new SimpleMeterRegistry(), new CatalogVersion(), noBroadcaster());
+
+        assertThat(repository).extracting("delegate").isInstanceOf(BloomFilterProductRepository.class)
+                .extracting("delegate").isInstanceOf(NegativeCachingProductRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the search index in step with writes when it is enabled")
+    void shouldWrapAdapterWithIndexingWhenSearchIndexIsEnabled() {
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, indexes(new TrigramProductIndex()), noIdFilter(),
+                new SimpleMeterRegistry(), new CatalogVersion(), noBroadcaster());
+
+        assertThat(repository).extracting("delegate").isInstanceOf(IndexingProductRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should publish writes to the stream after the catalog version is bumped")
+    void shouldWrapWithBroadcasterOutermost() {
+        ProductEventBroadcaster broadcaster = mock(ProductEventBroadcaster.class);
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), new CatalogVersion(),
+                new StaticListableBeanFactory(Map.of("broadcaster", broadcaster))
+                        .getBeanProvider(ProductEventBroadcaster.class));
+
+        assertThat(repository).isInstanceOf(BroadcastingProductRepository.class)
+                .extracting("delegate").isInstanceOf(VersionedProductRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should create the index refresher with every enabled index")
+    void shouldCreateIndexRefresher() {
+        ProductIndexRefresher refresher = config.productIndexRefresher(indexes(new TrigramProductIndex()),
+                productRepositoryAdapter);
+
+        assertThat(refresher).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop the cache when another instance changes the catalog")
+    void shouldDropCacheOnExternalCatalogChange() {
+        cacheProperties.setEnabled(true);
+        CatalogVersion catalogVersion = new CatalogVersion();
+        Product product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        when(productRepositoryAdapter.findById("1")).thenReturn(Optional.of(product));
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), catalogVersion, noBroadcaster());
+        repository.findById("1");
+
+        catalogVersion.externalChange("w1", 0);
+        repository.findById("1");
+
+        verify(productRepositoryAdapter, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should forget known-absent ids when another instance changes the catalog")
+    void shouldDropNegativeCacheOnExternalCatalogChange() {
+        negativeCacheProperties.setEnabled(true);
+        CatalogVersion catalogVersion = new CatalogVersion();
+        when(productRepositoryAdapter.findById("1")).thenReturn(Optional.empty());
+        ProductRepository repository = config.productRepository(productRepositoryAdapter, cacheProperties,
+                coalescingProperties, negativeCacheProperties, noIndexes(), noIdFilter(),
+                new SimpleMeterRegistry(), catalogVersion, noBroadcaster());
+        repository.findById("1");
+        repository.findById("1");
+
+        catalogVersion.externalChange("w1", 0);
+        repository.findById("1");
+
+        assertThat(repository).extracting("delegate").isInstanceOf(NegativeCachingProductRepository.class);
+        verify(productRepositoryAdapter, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should create the catalog version refresher")
+    void shouldCreateCatalogVersionRefresher() {
+        assertThat(config.catalogVersionRefresher(mock(MongoTemplate.class), config.catalogVersion())).isNotNull();
+    }
+
+    private static ObjectProvider<ProductIndex> noIndexes() {
+        return new StaticListableBeanFactory().getBeanProvider(ProductIndex.class);
+    }
+
+    private static ObjectProvider<ProductIdFilter> noIdFilter() {
+        return new StaticListableBeanFactory().getBeanProvider(ProductIdFilter.class);
+    }
+
+    private static ObjectProvider<ProductEventBroadcaster> noBroadcaster() {
+        return new StaticListableBeanFactory().getBeanProvider(ProductEventBroadcaster.class);
+    }
+
+    private static ObjectProvider<ProductIndex> indexes(ProductIndex index) {
+        return new StaticListableBeanFactory(Map.of("index", index)).getBeanProvider(ProductIndex.class);
+    }
+}
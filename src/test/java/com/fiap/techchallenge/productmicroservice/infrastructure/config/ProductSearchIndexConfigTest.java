@@ -0,0 +1,29 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrigramProductIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchIndexConfig Tests")
+class ProductSearchIndexConfigTest {
+
+    @Test
+    @DisplayName("Should publish index size and memory footprint")
+    void shouldPublishIndexSizeAndMemoryFootprint() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TrigramProductIndex index = new ProductSearchIndexConfig().trigramProductIndex(meterRegistry);
+
+        index.rebuild(Stream.of(new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L,
+                CategoryEnum.LANCHE, 1L)));
+
+        assertThat(meterRegistry.get("products.search.index.size").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("products.search.index.memory").gauge().value()).isPositive();
+    }
+}
@@ -0,0 +1,40 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stock.InMemoryStockLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ProductStockLedgerConfig Tests")
+class ProductStockLedgerConfigTest {
+
+    @TempDir
+    private Path journalDir;
+
+    @Test
+    @DisplayName("Should publish the ledger size, pending delta and flush lag")
+    void shouldPublishLedgerMetrics() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductStockLedgerProperties properties = new ProductStockLedgerProperties();
+        properties.setJournalDir(journalDir);
+
+        InMemoryStockLedger ledger = new ProductStockLedgerConfig().stockLedger(mock(ProductRepositoryAdapter.class),
+                mock(ProductRepository.class), mock(MongoTemplate.class), properties, meterRegistry);
+        ledger.recover();
+
+        assertThat(meterRegistry.get("products.stock.ledger.products").gauge().value()).isZero();
+        assertThat(meterRegistry.get("products.stock.ledger.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("products.stock.ledger.flush.lag").gauge().value()).isGreaterThanOrEqualTo(0.0);
+        ledger.close();
+    }
+}
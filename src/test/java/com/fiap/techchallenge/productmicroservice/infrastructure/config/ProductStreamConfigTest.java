@@ -0,0 +1,54 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.stream.ProductEventBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductStreamConfig Tests")
+class ProductStreamConfigTest {
+
+    @Test
+    @DisplayName("Should publish the stream metrics and survive external catalog changes without clients")
+    void shouldCreateBroadcaster() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CatalogVersion catalogVersion = new CatalogVersion();
+
+        ProductEventBroadcaster broadcaster = new ProductStreamConfig().productEventBroadcaster(
+                new ProductStreamProperties(), new ObjectMapper(), catalogVersion, meterRegistry, new MockEnvironment());
+        catalogVersion.externalChange("w1", 0);
+
+        assertThat(meterRegistry.get("products.stream.clients").gauge().value()).isZero();
+        assertThat(meterRegistry.find("products.stream.dropped").counter()).isNotNull();
+        assertThat(broadcaster.connect(catalogVersion.etag())).isPresent();
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("Should dispatch on a fixed pool unless virtual threads are enabled on Java 21 or later")
+    void shouldPickDispatcherFromThreadingMode() {
+        ProductStreamProperties properties = new ProductStreamProperties();
+
+        Executor platform = ProductStreamConfig.dispatcher(properties, new MockEnvironment());
+        Executor virtual = ProductStreamConfig.dispatcher(properties,
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        assertThat(platform).isInstanceOf(ExecutorService.class);
+        if (Runtime.version().feature() >= 21) {
+            assertThat(virtual).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        } else {
+            assertThat(virtual).isInstanceOf(ExecutorService.class);
+            ((ExecutorService) virtual).shutdown();
+        }
+        ((ExecutorService) platform).shutdown();
+    }
+}
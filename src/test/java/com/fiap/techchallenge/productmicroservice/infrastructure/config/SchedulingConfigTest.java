@@ -0,0 +1,39 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SchedulingConfig Tests")
+class SchedulingConfigTest {
+
+    @Test
+    @DisplayName("Should convert Boot-style and ISO-8601 intervals to milliseconds")
+    void shouldConvertIntervals() {
+        SchedulingConfig.ScheduleIntervals intervals = new SchedulingConfig().scheduleIntervals();
+
+        assertThat(intervals.millis("2s")).isEqualTo(2_000);
+        assertThat(intervals.millis("10m")).isEqualTo(600_000);
+        assertThat(intervals.millis("PT15S")).isEqualTo(15_000);
+        assertThat(intervals.millis("500")).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should register @Scheduled methods whose interval uses the Boot duration format")
+    void shouldRegisterScheduledMethods() {
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(SchedulingConfig.class, Ticker.class)) {
+            assertThat(context.getBean(Ticker.class)).isNotNull();
+        }
+    }
+
+    static class Ticker {
+        @Scheduled(initialDelayString = "#{@scheduleIntervals.millis('${ticker.interval:1h}')}",
+                   fixedDelayString = "#{@scheduleIntervals.millis('${ticker.interval:1h}')}")
+        void tick() {
+        }
+    }
+}
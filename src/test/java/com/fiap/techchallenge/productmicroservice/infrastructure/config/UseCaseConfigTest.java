@@ -1,15 +1,22 @@
 package com.fiap.techchallenge.productmicroservice.infrastructure.config;
 
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductChangeFeed;
 import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
 import com.fiap.techchallenge.productmicroservice.domain.usecases.*;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.AutocompleteRanking;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.PriceRangeIndex;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrieProductAutocomplete;
+import com.fiap.techchallenge.productmicroservice.infrastructure.search.TrigramProductIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
 
 @DisplayName("UseCaseConfig Tests")
 class UseCaseConfigTest {
@@ -25,13 +32,6 @@ class UseCaseConfigTest {
         useCaseConfig = new UseCaseConfig();
     }
 
-    @Test
-    @DisplayName("Should create ModelMapper bean")
-    void shouldCreateModelMapperBean() {
-        ModelMapper modelMapper = useCaseConfig.modelMapper();
-        assertNotNull(modelMapper);
-    }
-
     @Test
     @DisplayName("Should create CreateProductUseCase bean")
     void shouldCreateCreateProductUseCaseBean() {
@@ -39,6 +39,47 @@ class UseCaseConfigTest {
         assertNotNull(useCase);
     }
 
+    @Test
+    @DisplayName("Should create CreateProductsUseCase bean")
+    void shouldCreateCreateProductsUseCaseBean() {
+        CreateProductsUseCase useCase = useCaseConfig.createProductsUseCase(productRepository);
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create FindProductsByIdsUseCase bean")
+    void shouldCreateFindProductsByIdsUseCaseBean() {
+        FindProductsByIdsUseCase useCase = useCaseConfig.findProductsByIdsUseCase(productRepository);
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create DeleteProductsByIdsUseCase bean")
+    void shouldCreateDeleteProductsByIdsUseCaseBean() {
+        DeleteProductsByIdsUseCase useCase =
+                useCaseConfig.deleteProductsByIdsUseCase(productRepository, Optional.empty());
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create stock reservation use case beans")
+    void shouldCreateStockReservationUseCaseBeans() {
+        assertNotNull(useCaseConfig.reserveStockUseCase(productRepository, Optional.empty()));
+        assertNotNull(useCaseConfig.releaseStockUseCase(productRepository, Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should create UpdateProductUseCase bean")
+    void shouldCreateUpdateProductUseCaseBean() {
+        assertNotNull(useCaseConfig.updateProductUseCase(productRepository, Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should create FindProductChangesUseCase bean")
+    void shouldCreateFindProductChangesUseCaseBean() {
+        assertNotNull(useCaseConfig.findProductChangesUseCase(mock(ProductChangeFeed.class)));
+    }
+
     @Test
     @DisplayName("Should create FindProductByIdUseCase bean")
     void shouldCreateFindProductByIdUseCaseBean() {
@@ -56,7 +97,7 @@ class UseCaseConfigTest {
     @Test
     @DisplayName("Should create DeleteProductByIdUseCase bean")
     void shouldCreateDeleteProductByIdUseCaseBean() {
-        DeleteProductByIdUseCase useCase = useCaseConfig.deleteProductByIdUseCase(productRepository);
+        DeleteProductByIdUseCase useCase = useCaseConfig.deleteProductByIdUseCase(productRepository, Optional.empty());
         assertNotNull(useCase);
     }
 
@@ -70,7 +111,31 @@ class UseCaseConfigTest {
     @Test
     @DisplayName("Should create FindProductsByNameUseCase bean")
     void shouldCreateFindProductsByNameUseCaseBean() {
-        FindProductsByNameUseCase useCase = useCaseConfig.findProductsByNameUseCase(productRepository);
+        FindProductsByNameUseCase useCase = useCaseConfig.findProductsByNameUseCase(productRepository,
+                Optional.empty());
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create FindProductsByNameUseCase bean backed by the search index")
+    void shouldCreateFindProductsByNameUseCaseBeanWithSearchIndex() {
+        FindProductsByNameUseCase useCase = useCaseConfig.findProductsByNameUseCase(productRepository,
+                Optional.of(new TrigramProductIndex()));
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create AutocompleteProductsUseCase bean")
+    void shouldCreateAutocompleteProductsUseCaseBean() {
+        AutocompleteProductsUseCase useCase = useCaseConfig.autocompleteProductsUseCase(productRepository,
+                Optional.of(new TrieProductAutocomplete(AutocompleteRanking.STOCK.comparator(), 10)));
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create ExportProductsUseCase bean")
+    void shouldCreateExportProductsUseCaseBean() {
+        ExportProductsUseCase useCase = useCaseConfig.exportProductsUseCase(productRepository);
         assertNotNull(useCase);
     }
 
@@ -78,7 +143,16 @@ class UseCaseConfigTest {
     @DisplayName("Should create FindProductsByCategoryAndPriceRangeUseCase bean")
     void shouldCreateFindProductsByCategoryAndPriceRangeUseCaseBean() {
         FindProductsByCategoryAndPriceRangeUseCase useCase = 
-            useCaseConfig.findProductsByCategoryAndPriceRangeUseCase(productRepository);
+            useCaseConfig.findProductsByCategoryAndPriceRangeUseCase(productRepository, Optional.empty());
+        assertNotNull(useCase);
+    }
+
+    @Test
+    @DisplayName("Should create FindProductsByCategoryAndPriceRangeManualUseCase bean backed by the price index")
+    void shouldCreateFindProductsByCategoryAndPriceRangeManualUseCaseBeanWithPriceIndex() {
+        FindProductsByCategoryAndPriceRangeManualUseCase useCase =
+            useCaseConfig.findProductsByCategoryAndPriceRangeManualUseCase(productRepository,
+                    Optional.of(new PriceRangeIndex()));
         assertNotNull(useCase);
     }
 }
@@ -0,0 +1,111 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionRefresherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private CatalogVersion catalogVersion;
+    private CatalogVersionRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        refresher = new CatalogVersionRefresher(mongoTemplate, catalogVersion);
+    }
+
+    @Test
+    @DisplayName("Should move the catalog version only when the collection changed since the last poll")
+    void shouldBumpOnlyWhenCollectionChanged() {
+        Runnable listener = mock(Runnable.class);
+        catalogVersion.onExternalChange(listener);
+        when(mongoTemplate.estimatedCount(ProductDocument.class)).thenReturn(3L, 3L, 3L, 2L);
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductDocument.class)))
+                .thenReturn(latest(1L), latest(1L), latest(2L), latest(2L));
+
+        String random = catalogVersion.etag();
+        refresher.refresh();
+        String initial = catalogVersion.etag();
+        refresher.refresh();
+        assertThat(catalogVersion.etag()).isEqualTo(initial).isNotEqualTo(random);
+
+        refresher.refresh();
+        String afterUpdate = catalogVersion.etag();
+        assertThat(afterUpdate).isNotEqualTo(initial);
+
+        refresher.refresh();
+        assertThat(catalogVersion.etag()).isNotEqualTo(afterUpdate);
+        verify(listener, times(3)).run();
+    }
+
+    @Test
+    @DisplayName("Should hand out the same version on every replica that read the same watermark")
+    void shouldShareVersionAcrossReplicas() {
+        CatalogVersion other = new CatalogVersion();
+        when(mongoTemplate.estimatedCount(ProductDocument.class)).thenReturn(3L);
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductDocument.class))).thenReturn(latest(1L));
+
+        refresher.refresh();
+        new CatalogVersionRefresher(mongoTemplate, other).refresh();
+
+        assertThat(catalogVersion.etag()).isEqualTo(other.etag());
+    }
+
+    @Test
+    @DisplayName("Should keep local writes in the version until a poll that started after them sees them")
+    void shouldKeepLocalWritesUntilWatermarkShowsThem() {
+        when(mongoTemplate.estimatedCount(ProductDocument.class)).thenReturn(3L);
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductDocument.class))).thenAnswer(invocation -> {
+            catalogVersion.bump();
+            return latest(1L);
+        }).thenReturn(latest(2L));
+
+        refresher.refresh();
+        String local = catalogVersion.etag();
+        refresher.refresh();
+
+        assertThat(local).endsWith("-1\"");
+        assertThat(catalogVersion.etag()).doesNotContain("-");
+    }
+
+    @Test
+    @DisplayName("Should read the latest update through the (updatedAt, _id) index and survive Mongo failures")
+    void shouldReadLatestUpdateAndSurviveFailures() {
+        assertThat(CatalogVersionRefresher.latestUpdate().getSortObject().toJson())
+                .isEqualTo("{\"updatedAt\": -1, \"_id\": -1}");
+        assertThat(CatalogVersionRefresher.latestUpdate().getLimit()).isEqualTo(1);
+
+        when(mongoTemplate.estimatedCount(ProductDocument.class)).thenThrow(new IllegalStateException("sem conexão"));
+        String etag = catalogVersion.etag();
+
+        refresher.refresh();
+
+        assertThat(catalogVersion.etag()).isEqualTo(etag);
+    }
+
+    private static ProductDocument latest(long version) {
+        ProductDocument document = new ProductDocument();
+        document.setId("1");
+        document.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        document.setVersion(version);
+        return document;
+    }
+}
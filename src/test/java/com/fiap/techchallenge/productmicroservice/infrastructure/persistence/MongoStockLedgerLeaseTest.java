@@ -0,0 +1,58 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoStockLedgerLeaseTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Should take the lease when it is free, expired or already ours")
+    void shouldTakeFreeOrExpiredLease() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+        assertThat(new MongoStockLedgerLease(mongoTemplate, Duration.ofSeconds(30)).tryAcquire()).isTrue();
+
+        verify(mongoTemplate).upsert(query.capture(), any(Update.class), eq(MongoStockLedgerLease.COLLECTION));
+        assertThat(query.getValue().getQueryObject().toJson())
+                .contains("\"_id\": \"stock-ledger\"", "\"$or\"", "\"owner\"", "\"expiresAt\": {\"$lt\"");
+    }
+
+    @Test
+    @DisplayName("Should report the lease as taken while another live instance holds it")
+    void shouldReportLeaseHeldElsewhere() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(MongoStockLedgerLease.COLLECTION)))
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        assertThat(new MongoStockLedgerLease(mongoTemplate, Duration.ofSeconds(30)).tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only remove its own lease on release")
+    void shouldOnlyRemoveOwnLease() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+        new MongoStockLedgerLease(mongoTemplate, Duration.ofSeconds(30)).release();
+
+        verify(mongoTemplate).remove(query.capture(), eq(MongoStockLedgerLease.COLLECTION));
+        assertThat(query.getValue().getQueryObject()).containsKeys("_id", "owner");
+    }
+}
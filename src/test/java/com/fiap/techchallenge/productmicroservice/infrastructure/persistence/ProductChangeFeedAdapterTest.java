@@ -0,0 +1,173 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChange;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductChangePage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ChangeTokenExpiredException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeFeedAdapterTest {
+    private static final LocalDateTime T0 = LocalDateTime.now().minusHours(1).withNano(0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private ProductChangeFeedAdapter feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ProductChangeFeedAdapter(mongoTemplate, Duration.ofSeconds(2), Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning of the catalog without reading tombstones")
+    void shouldStartFromBeginningWithoutTombstones() {
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class)))
+                .thenReturn(List.of(product("650000000000000000000001", T0)));
+
+        ProductChangePage page = feed.findChanges(null, 10);
+
+        assertThat(page.getChanges()).extracting(ProductChange::getProductId)
+                .containsExactly("650000000000000000000001");
+        assertThat(page.hasMore()).isFalse();
+        verify(mongoTemplate, never()).find(any(Query.class), eq(ProductTombstoneDocument.class));
+        verify(mongoTemplate).find(argThat((Query query) -> !query.getQueryObject().containsKey("$or")
+                && query.getLimit() == 11), eq(ProductDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should merge updates and deletes in time order and resume after the last one delivered")
+    void shouldMergeUpdatesAndDeletesInOrder() {
+        String token = new ChangeToken(T0, ChangeToken.MIN_ID).encode();
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(List.of(
+                product("650000000000000000000001", T0.plusSeconds(1)),
+                product("650000000000000000000003", T0.plusSeconds(3))));
+        when(mongoTemplate.find(any(Query.class), eq(ProductTombstoneDocument.class))).thenReturn(List.of(
+                new ProductTombstoneDocument("650000000000000000000002", T0.plusSeconds(2)),
+                new ProductTombstoneDocument("650000000000000000000004", T0.plusSeconds(3))));
+
+        ProductChangePage page = feed.findChanges(token, 3);
+
+        assertThat(page.getChanges()).extracting(ProductChange::getProductId).containsExactly(
+                "650000000000000000000001", "650000000000000000000002", "650000000000000000000003");
+        assertThat(page.getChanges()).extracting(ProductChange::isDeleted).containsExactly(false, true, false);
+        assertThat(page.hasMore()).isTrue();
+        ChangeToken next = ChangeToken.decode(page.getNextToken());
+        assertThat(next.getChangedAt()).isEqualTo(T0.plusSeconds(3));
+        assertThat(next.getId()).isEqualTo(new ObjectId("650000000000000000000003"));
+        verify(mongoTemplate).find(argThat((Query query) -> query.getQueryObject().containsKey("$or")),
+                eq(ProductTombstoneDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should page past a tombstone whose id is not an ObjectId and still reach the ObjectIds after it")
+    void shouldPagePastStringTombstone() {
+        String token = new ChangeToken(T0, ChangeToken.MIN_ID).encode();
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(List.of(
+                product("650000000000000000000001", T0.plusSeconds(1))));
+        when(mongoTemplate.find(any(Query.class), eq(ProductTombstoneDocument.class))).thenReturn(List.of(
+                new ProductTombstoneDocument("legacy-7", T0.plusSeconds(1))));
+
+        ProductChangePage page = feed.findChanges(token, 1);
+
+        assertThat(page.getChanges()).extracting(ProductChange::getProductId).containsExactly("legacy-7");
+        ChangeToken next = ChangeToken.decode(page.getNextToken());
+        assertThat(next.getId()).isEqualTo("legacy-7");
+
+        feed.findChanges(page.getNextToken(), 1);
+
+        // Depois de um id string, o filtro também aceita qualquer ObjectId do mesmo instante.
+        verify(mongoTemplate).find(argThat((Query query) ->
+                query.getQueryObject().getList("$or", Object.class).size() == 3), eq(ProductDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should move the token forward to the settle horizon when everything was delivered")
+    void shouldAdvanceTokenWhenNothingIsLeft() {
+        String token = new ChangeToken(T0, new ObjectId()).encode();
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(ProductTombstoneDocument.class))).thenReturn(List.of());
+
+        ProductChangePage page = feed.findChanges(token, 10);
+
+        assertThat(page.getChanges()).isEmpty();
+        assertThat(page.hasMore()).isFalse();
+        ChangeToken next = ChangeToken.decode(page.getNextToken());
+        assertThat(next.getChangedAt()).isAfter(T0).isBefore(LocalDateTime.now().minusSeconds(1));
+        assertThat(next.getId()).isEqualTo(ChangeToken.MIN_ID);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens older than the tombstone retention")
+    void shouldRejectExpiredToken() {
+        String token = new ChangeToken(LocalDateTime.now().minusDays(8), new ObjectId()).encode();
+
+        assertThatThrownBy(() -> feed.findChanges(token, 10)).isInstanceOf(ChangeTokenExpiredException.class);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> feed.findChanges("not-a-token", 10))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Token de sincronização inválido");
+    }
+
+    @Test
+    @DisplayName("Should expire tombstones with a TTL index matching the retention")
+    void shouldCreateTombstoneTtlIndex() {
+        IndexOperations indexOps = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps(ProductTombstoneDocument.class)).thenReturn(indexOps);
+
+        feed.run(null);
+
+        verify(indexOps).ensureIndex(argThat((Index index) ->
+                index.getIndexOptions().getLong("expireAfterSeconds") == Duration.ofDays(7).toSeconds()
+                        && index.getIndexKeys().containsKey("deletedAt")));
+    }
+
+    @Test
+    @DisplayName("Should only log when the TTL index cannot be created")
+    void shouldTolerateTtlIndexFailure() {
+        when(mongoTemplate.indexOps(ProductTombstoneDocument.class)).thenThrow(new IllegalStateException("offline"));
+
+        feed.run(null);
+
+        verify(mongoTemplate).indexOps(ProductTombstoneDocument.class);
+    }
+
+    private static ProductDocument product(String id, LocalDateTime updatedAt) {
+        ProductDocument document = new ProductDocument();
+        document.setId(id);
+        document.setName("X-Burger");
+        document.setCategory(CategoryEnum.LANCHE);
+        document.setCreatedAt(T0);
+        document.setUpdatedAt(updatedAt);
+        document.setVersion(1L);
+        return document;
+    }
+}
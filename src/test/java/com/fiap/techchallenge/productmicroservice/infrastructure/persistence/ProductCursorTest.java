@@ -0,0 +1,50 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("Should round trip createdAt and id through the cursor")
+    void shouldRoundTripCreatedAtAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 10, 8, 30, 15, 123_000_000);
+        ProductDocument document = new ProductDocument("Produto", "Descrição", null, 1000L, 900L,
+                CategoryEnum.BEBIDA, 1L, createdAt, createdAt);
+        document.setId("507f1f77bcf86cd799439011");
+
+        ProductCursor cursor = ProductCursor.decode(ProductCursor.encode(document));
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(new ObjectId("507f1f77bcf86cd799439011"));
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that are not base64, lack a separator or carry bad values")
+    void shouldRejectInvalidCursors() {
+        assertInvalid("%%%");
+        assertInvalid(encode("2024-01-01T10:00"));
+        assertInvalid(encode("ontem|507f1f77bcf86cd799439011"));
+        assertInvalid(encode("2024-01-01T10:00|abc"));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> ProductCursor.decode(cursor))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+}
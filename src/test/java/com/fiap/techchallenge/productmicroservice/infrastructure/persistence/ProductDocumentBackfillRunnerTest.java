@@ -0,0 +1,139 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDocumentBackfillRunnerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ProductDocumentBackfillRunner runner;
+
+    @Test
+    @DisplayName("Should fill missing createdAt from the ObjectId timestamp")
+    void shouldFillMissingCreatedAtFromObjectIdTimestamp() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(Stream.of(new Document("_id", new ObjectId()), new Document("_id", "legacy-id")));
+        BulkOperations bulk = bulkModifying(1);
+
+        int updated = runner.backfillCreatedAt();
+
+        assertThat(updated).isEqualTo(1);
+        verify(bulk, times(1)).updateOne(any(Query.class), any(Update.class));
+        verify(bulk, times(1)).execute();
+        verify(mongoTemplate, never())
+                .updateFirst(any(Query.class), any(UpdateDefinition.class), any(String.class));
+    }
+
+    @Test
+    @DisplayName("Should stream the products and write them in bulk batches")
+    void shouldWriteInBulkBatches() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(Stream.generate(() -> new Document("_id", new ObjectId()))
+                        .limit(ProductDocumentBackfillRunner.BATCH_SIZE + 1L));
+        BulkOperations bulk = bulkModifying(ProductDocumentBackfillRunner.BATCH_SIZE, 1);
+
+        int updated = runner.backfillCreatedAt();
+
+        assertThat(updated).isEqualTo(ProductDocumentBackfillRunner.BATCH_SIZE + 1);
+        verify(mongoTemplate, times(2)).bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.COLLECTION);
+        verify(bulk, times(2)).execute();
+        verify(mongoTemplate).stream(argThat(query -> query.getMeta().getCursorBatchSize()
+                == ProductDocumentBackfillRunner.BATCH_SIZE), eq(Document.class), eq(ProductDocument.COLLECTION));
+    }
+
+    @Test
+    @DisplayName("Should fill normalized search keys for products saved before the trigram index")
+    void shouldFillSearchKeysForLegacyProducts() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(Stream.of(new Document("_id", new ObjectId()).append("name", "Açaí")));
+        BulkOperations bulk = bulkModifying(1);
+
+        int updated = runner.backfillSearchKeys();
+
+        assertThat(updated).isEqualTo(1);
+        verify(bulk).updateOne(any(Query.class),
+                argThat((Update update) -> {
+                    Document set = update.getUpdateObject().get("$set", Document.class);
+                    return "acai".equals(set.get("searchName"))
+                            && List.of("aca", "cai").equals(set.get("searchGrams"));
+                }));
+    }
+
+    @Test
+    @DisplayName("Should start products saved before optimistic locking at version 0")
+    void shouldFillMissingVersion() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+        assertThat(runner.backfillVersion()).isEqualTo(3L);
+        verify(mongoTemplate).updateMulti(
+                argThat((Query query) -> query.getQueryObject().toJson()
+                        .equals("{\"version\": {\"$exists\": false}}")),
+                argThat((UpdateDefinition update) -> update.getUpdateObject().get("$set", Document.class)
+                        .get("version").equals(0L)),
+                eq(ProductDocument.COLLECTION));
+    }
+
+    @Test
+    @DisplayName("Should copy createdAt into a missing updatedAt so the change feed sees the product")
+    void shouldFillMissingUpdatedAt() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+
+        assertThat(runner.backfillUpdatedAt()).isEqualTo(2L);
+        verify(mongoTemplate).updateMulti(
+                argThat((Query query) -> query.getQueryObject().toJson().equals("{\"updatedAt\": null}")),
+                argThat((UpdateDefinition update) -> update.toString().contains("$createdAt")),
+                eq(ProductDocument.COLLECTION));
+    }
+
+    @Test
+    @DisplayName("Should not update anything when every product has createdAt")
+    void shouldNotUpdateWhenEveryProductHasCreatedAt() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenAnswer(invocation -> Stream.empty());
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        runner.run(null);
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), any(String.class));
+    }
+
+    private BulkOperations bulkModifying(int first, int... next) {
+        BulkOperations bulk = mock(BulkOperations.class);
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        Integer[] rest = Arrays.stream(next).boxed().toArray(Integer[]::new);
+        when(result.getModifiedCount()).thenReturn(first, rest);
+        when(bulk.execute()).thenReturn(result);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.COLLECTION)).thenReturn(bulk);
+        return bulk;
+    }
+}
@@ -0,0 +1,81 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductDocumentMapperTest {
+
+    @Test
+    @DisplayName("Should map document to domain preserving timestamps")
+    void shouldMapDocumentToDomainPreservingTimestamps() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 16, 11, 0);
+        ProductDocument document = new ProductDocument("X-Burger", "Pão, carne e queijo", "http://image.url",
+                2590L, 2000L, CategoryEnum.LANCHE, 10L, createdAt, updatedAt);
+        document.setId("1");
+        document.setVersion(3L);
+
+        Product product = ProductDocumentMapper.toDomain(document);
+
+        assertThat(product.getId()).isEqualTo("1");
+        assertThat(product.getName()).isEqualTo("X-Burger");
+        assertThat(product.getDescription()).isEqualTo("Pão, carne e queijo");
+        assertThat(product.getImage()).isEqualTo("http://image.url");
+        assertThat(product.getPrice()).isEqualTo(2590L);
+        assertThat(product.getPriceForClient()).isEqualTo(2000L);
+        assertThat(product.getCategory()).isEqualTo(CategoryEnum.LANCHE);
+        assertThat(product.getQuantity()).isEqualTo(10L);
+        assertThat(product.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(product.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(product.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should map domain to document")
+    void shouldMapDomainToDocument() {
+        Product product = new Product("1", "Coca-Cola", "Lata 350ml", "http://image.url",
+                700L, 600L, CategoryEnum.BEBIDA, 50L);
+
+        ProductDocument document = ProductDocumentMapper.toDocument(product);
+
+        assertThat(document.getId()).isEqualTo("1");
+        assertThat(document.getName()).isEqualTo("Coca-Cola");
+        assertThat(document.getDescription()).isEqualTo("Lata 350ml");
+        assertThat(document.getImage()).isEqualTo("http://image.url");
+        assertThat(document.getPrice()).isEqualTo(700L);
+        assertThat(document.getPriceForClient()).isEqualTo(600L);
+        assertThat(document.getCategory()).isEqualTo(CategoryEnum.BEBIDA);
+        assertThat(document.getQuantity()).isEqualTo(50L);
+        assertThat(document.getCreatedAt()).isEqualTo(product.getCreatedAt());
+        assertThat(document.getUpdatedAt()).isEqualTo(product.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should fill normalized search keys from the product name")
+    void shouldFillNormalizedSearchKeys() {
+        Product product = new Product("1", "Pão de Açaí", "Descrição", null, 700L, 600L, CategoryEnum.LANCHE, 5L);
+
+        ProductDocument document = ProductDocumentMapper.toDocument(product);
+
+        assertThat(document.getSearchName()).isEqualTo("pao de acai");
+        assertThat(document.getSearchGrams()).contains("pao", "o d", "aca", "cai").doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should keep id null for new products")
+    void shouldKeepIdNullForNewProducts() {
+        Product product = new Product("Batata Frita", null, null, 1200L, null, CategoryEnum.ACOMPANHAMENTO, null);
+
+        ProductDocument document = ProductDocumentMapper.toDocument(product);
+
+        assertThat(document.getId()).isNull();
+        assertThat(document.getDescription()).isEmpty();
+        assertThat(document.getQuantity()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.ProductIdFilter;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIdFilterRefresherTest {
+
+    @Mock
+    private ProductRepositoryAdapter source;
+
+    private ProductIdFilter filter;
+    private ProductIdFilterRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ProductIdFilter(0.01, 0.5, 10, Duration.ofMinutes(1));
+        refresher = new ProductIdFilterRefresher(source, filter, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should load the filter at startup sized from the collection count")
+    void shouldLoadAtStartup() {
+        when(source.estimatedCount()).thenReturn(100L);
+        when(source.streamIds()).thenReturn(Stream.of(new ObjectId().toHexString()));
+
+        refresher.run(null);
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.capacity()).isEqualTo(150);
+        assertThat(filter.insertions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only rebuild a fresh filter once it is saturated")
+    void shouldRebuildWhenSaturated() {
+        when(source.estimatedCount()).thenReturn(0L, 20L);
+        when(source.streamIds()).thenAnswer(invocation -> Stream.empty());
+        refresher.refresh();
+
+        refresher.refresh();
+        verify(source, times(1)).streamIds();
+
+        for (int i = 0; i <= 10; i++) {
+            filter.add(new ObjectId().toHexString());
+        }
+        refresher.refresh();
+
+        verify(source, times(2)).streamIds();
+        assertThat(filter.capacity()).isEqualTo(30);
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep querying MongoDB when the ids cannot be loaded")
+    void shouldStayUnloadedWhenLoadFails() {
+        when(source.streamIds()).thenThrow(new IllegalStateException("MongoDB indisponível"));
+
+        refresher.refresh();
+
+        assertThat(filter.isReady()).isFalse();
+    }
+}
@@ -0,0 +1,150 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductQueryPlanInspectorTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private FindIterable<Document> find;
+
+    @Test
+    @DisplayName("Every hot query should be served by an index declared on ProductDocument")
+    void everyHotQueryShouldBeServedByDeclaredIndex() {
+        List<Document> indexKeys = StreamSupport.stream(new MongoPersistentEntityIndexResolver(mappingContext())
+                        .resolveIndexFor(ProductDocument.class).spliterator(), false)
+                .map(IndexDefinition::getIndexKeys)
+                .toList();
+
+        for (ProductQueryPlanInspector.HotQuery hotQuery : ProductQueryPlanInspector.hotQueries()) {
+            assertThat(indexKeys)
+                    .as("%s deve usar um índice (COLLSCAN ou SORT em memória)", hotQuery.name())
+                    .anySatisfy(keys -> assertThat(servesQuery(keys, hotQuery.query())).isTrue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the category and price filters on a single compound index")
+    void shouldKeepCategoryAndPriceOnCompoundIndex() {
+        Document compound = new Document("category", 1).append("price", 1).append("_id", 1);
+        Document categoryOnly = new Document("category", 1).append("createdAt", 1).append("_id", 1);
+        Query priceRange = ProductQueryPlanInspector.hotQueries().get(1).query();
+
+        assertThat(servesQuery(compound, priceRange)).isTrue();
+        assertThat(servesQuery(categoryOnly, priceRange)).isFalse();
+        assertThat(servesQuery(new Document("price", 1), priceRange)).isFalse();
+        assertThat(servesQuery(new Document("category", 1).append("price", 1), priceRange)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should explain every hot query against the products collection")
+    void shouldExplainEveryHotQuery() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext());
+        converter.setCustomConversions(new MongoCustomConversions(List.of()));
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getCollection(ProductDocument.COLLECTION)).thenReturn(collection);
+        when(collection.find(any(Bson.class))).thenReturn(find);
+        when(find.sort(any(Bson.class))).thenReturn(find);
+        when(find.limit(anyInt())).thenReturn(find);
+        when(find.explain(ExplainVerbosity.EXECUTION_STATS)).thenReturn(Document.parse("""
+                { queryPlanner: { winningPlan: { stage: 'COLLSCAN' } },
+                  executionStats: { nReturned: 0, totalKeysExamined: 0, totalDocsExamined: 5 } }
+                """));
+
+        List<QueryPlanReport> reports = new ProductQueryPlanInspector(mongoTemplate, true).inspect();
+
+        assertThat(reports).extracting(QueryPlanReport::query).containsExactly(
+                "findByCategory", "findByCategoryAndPriceBetween", "findByCategoryAndPriceRangeManual",
+                "findByNameContaining", "findPage", "findPageAfter", "findPageByCategory",
+                "findPageByCategoryAfter", "latestUpdate", "findChanges");
+        assertThat(reports).allMatch(QueryPlanReport::collectionScan);
+        verify(collection, times(2)).find(new Document("category", "LANCHE"));
+        verify(find, times(5)).limit(101);
+    }
+
+    @Test
+    @DisplayName("Should skip the startup check when disabled and survive Mongo failures")
+    void shouldSkipStartupCheckWhenDisabledAndSurviveFailures() {
+        new ProductQueryPlanInspector(mongoTemplate, false).run(null);
+        verifyNoInteractions(mongoTemplate);
+
+        when(mongoTemplate.getConverter()).thenThrow(new IllegalStateException("sem conexão"));
+        new ProductQueryPlanInspector(mongoTemplate, true).run(null);
+    }
+
+    private static MongoMappingContext mappingContext() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        return mappingContext;
+    }
+
+    /**
+     * Regra ESR simplificada: as chaves iniciais do índice precisam ser os campos de igualdade, seguidos
+     * da ordenação (quando existe) ou dos campos de faixa. Regex não entra, pois só filtra as chaves.
+     */
+    private static boolean servesQuery(Document indexKeys, Query query) {
+        Set<String> equality = new LinkedHashSet<>();
+        Set<String> range = new LinkedHashSet<>();
+        collectFields(query.getQueryObject(), equality, range);
+        List<String> sort = new ArrayList<>(query.getSortObject().keySet());
+        List<String> keys = new ArrayList<>(indexKeys.keySet());
+        if (keys.size() < equality.size() || !Set.copyOf(keys.subList(0, equality.size())).equals(equality)) {
+            return false;
+        }
+        List<String> rest = keys.subList(equality.size(), keys.size());
+        if (!sort.isEmpty()) {
+            return rest.size() >= sort.size() && rest.subList(0, sort.size()).equals(sort);
+        }
+        return rest.size() >= range.size() && Set.copyOf(rest.subList(0, range.size())).equals(range);
+    }
+
+    private static void collectFields(Document filter, Set<String> equality, Set<String> range) {
+        for (Map.Entry<String, Object> entry : filter.entrySet()) {
+            if (entry.getKey().equals("$and")) {
+                for (Object clause : (List<?>) entry.getValue()) {
+                    collectFields((Document) clause, equality, range);
+                }
+            } else if (entry.getValue() instanceof Document) {
+                range.add(entry.getKey());
+            } else if (!entry.getKey().startsWith("$") && !(entry.getValue() instanceof Pattern)) {
+                equality.add(entry.getKey());
+            }
+        }
+    }
+}
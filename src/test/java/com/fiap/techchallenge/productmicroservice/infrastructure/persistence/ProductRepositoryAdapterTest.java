@@ -2,6 +2,15 @@ package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
 
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
 import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPage;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,26 +18,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ProductRepositoryAdapterTest {
+    private static final String EXISTING_ID = "65f1a2b3c4d5e6f708192a3b";
+    private static final String MISSING_ID = "65f1a2b3c4d5e6f708192a3c";
+    private static final String OTHER_ID = "65f1a2b3c4d5e6f708192a3d";
 
     @Mock
     private ProductMongoRepository productMongoRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private MongoTemplate mongoTemplate;
 
     @InjectMocks
     private ProductRepositoryAdapter productRepositoryAdapter;
@@ -57,39 +82,137 @@ class ProductRepositoryAdapterTest {
     @Test
     @DisplayName("Should save product successfully")
     void shouldSaveProductSuccessfully() {
-        when(modelMapper.map(product, ProductDocument.class)).thenReturn(productDocument);
-        when(productMongoRepository.save(productDocument)).thenReturn(productDocument);
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
+        when(productMongoRepository.save(any(ProductDocument.class))).thenReturn(productDocument);
 
         Product savedProduct = productRepositoryAdapter.save(product);
 
         assertThat(savedProduct).isNotNull();
         assertThat(savedProduct.getId()).isEqualTo("1");
-        verify(productMongoRepository, times(1)).save(productDocument);
+        verify(productMongoRepository, times(1)).save(any(ProductDocument.class));
+    }
+
+    @Test
+    @DisplayName("Should insert the batch with one unordered bulk write and assign ids")
+    void shouldInsertBatchWithUnorderedBulkWrite() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        Product other = new Product("Refrigerante", "Lata", null, 700L, 600L, CategoryEnum.BEBIDA, 50L);
+        product.setId(null);
+
+        List<Product> saved = productRepositoryAdapter.saveAll(List.of(product, other)).getItems();
+
+        assertThat(saved).extracting(Product::getName).containsExactly("Test Product", "Refrigerante");
+        assertThat(saved).allSatisfy(item -> assertThat(ObjectId.isValid(item.getId())).isTrue());
+        verify(bulkOperations).execute();
+        verifyNoInteractions(productMongoRepository);
+    }
+
+    @Test
+    @DisplayName("Should return rejected batch items without id and with the bulk write error")
+    void shouldReturnRejectedBatchItemsWithoutId() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkOperationException failure = mock(BulkOperationException.class);
+        when(failure.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(failure);
+        Product other = new Product("Refrigerante", "Lata", null, 700L, 600L, CategoryEnum.BEBIDA, 50L);
+
+        ProductBatch saved = productRepositoryAdapter.saveAll(List.of(product, other));
+
+        assertThat(saved.getItems().get(0).getId()).isNull();
+        assertThat(saved.getItems().get(1).getId()).isNotNull();
+        assertThat(saved.getError(0)).hasValueSatisfying(error -> {
+            assertThat(error.getMessage()).isEqualTo("duplicate key");
+            assertThat(error.getCode()).isEqualTo(11000);
+        });
+        assertThat(saved.getError(1)).isEmpty();
+        assertThat(saved.getCreated()).containsExactly(saved.getItems().get(1));
+    }
+
+    @Test
+    @DisplayName("Should find many products with a single findAllById call")
+    void shouldFindManyProductsWithSingleCall() {
+        List<String> ids = List.of(EXISTING_ID, MISSING_ID);
+        when(productMongoRepository.findAllById(ids)).thenReturn(List.of(productDocument));
+
+        List<Product> products = productRepositoryAdapter.findAllById(ids);
+
+        assertThat(products).extracting(Product::getId).containsExactly("1");
+        verify(productMongoRepository, times(1)).findAllById(ids);
+    }
+
+    @Test
+    @DisplayName("Should leave malformed ids out of findAllById")
+    void shouldLeaveMalformedIdsOutOfFindAllById() {
+        when(productMongoRepository.findAllById(List.of(EXISTING_ID))).thenReturn(List.of(productDocument));
+
+        assertThat(productRepositoryAdapter.findAllById(List.of(EXISTING_ID, "wp-login.php"))).hasSize(1);
+        assertThat(productRepositoryAdapter.findAllById(List.of("1", "abc"))).isEmpty();
+
+        verify(productMongoRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should write a stock batch as one bulk of $inc guarded by its sequence and re-read the products")
+    void shouldApplyStockDeltasAsOneGuardedBulk() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class)).thenReturn(bulk);
+        when(productMongoRepository.findAllById(List.of(EXISTING_ID))).thenReturn(List.of(productDocument));
+
+        List<Product> updated = productRepositoryAdapter.applyStockDeltas(42L, Map.of(EXISTING_ID, -6L));
+
+        assertThat(updated).extracting(Product::getId).containsExactly("1");
+        verify(bulk).updateOne(
+                argThat((Query query) -> query.getQueryObject().toJson().equals("{\"_id\": \"" + EXISTING_ID
+                        + "\", \"stockLedgerSequence\": {\"$not\": {\"$gte\": 42}}}")),
+                argThat((Update update) -> update.getUpdateObject().get("$inc", Document.class).get("quantity")
+                        .equals(-6L)
+                        && update.getUpdateObject().get("$inc", Document.class).get("version").equals(1)
+                        && update.getUpdateObject().get("$set", Document.class).get("stockLedgerSequence")
+                        .equals(42L)));
+        verify(bulk, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("Should skip empty stock batches")
+    void shouldSkipEmptyStockBatches() {
+        assertThat(productRepositoryAdapter.applyStockDeltas(42L, Map.of())).isEmpty();
+
+        verifyNoInteractions(mongoTemplate, productMongoRepository);
     }
 
     @Test
     @DisplayName("Should find product by id successfully")
     void shouldFindProductByIdSuccessfully() {
-        when(productMongoRepository.findById("1")).thenReturn(Optional.of(productDocument));
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
+        when(productMongoRepository.findById(EXISTING_ID)).thenReturn(Optional.of(productDocument));
 
-        Optional<Product> foundProduct = productRepositoryAdapter.findById("1");
+        Optional<Product> foundProduct = productRepositoryAdapter.findById(EXISTING_ID);
 
         assertThat(foundProduct).isPresent();
         assertThat(foundProduct.get().getId()).isEqualTo("1");
-        verify(productMongoRepository, times(1)).findById("1");
+        verify(productMongoRepository, times(1)).findById(EXISTING_ID);
     }
 
     @Test
     @DisplayName("Should return empty when product not found by id")
     void shouldReturnEmptyWhenProductNotFoundById() {
-        when(productMongoRepository.findById("999")).thenReturn(Optional.empty());
+        when(productMongoRepository.findById(MISSING_ID)).thenReturn(Optional.empty());
 
-        Optional<Product> foundProduct = productRepositoryAdapter.findById("999");
+        Optional<Product> foundProduct = productRepositoryAdapter.findById(MISSING_ID);
 
         assertThat(foundProduct).isEmpty();
-        verify(productMongoRepository, times(1)).findById("999");
+        verify(productMongoRepository, times(1)).findById(MISSING_ID);
+    }
+
+    @Test
+    @DisplayName("Should not query MongoDB for an id that is not an ObjectId")
+    void shouldNotQueryForMalformedId() {
+        assertThat(productRepositoryAdapter.findById("999")).isEmpty();
+        assertThat(productRepositoryAdapter.findById(null)).isEmpty();
+
+        verify(productMongoRepository, never()).findById(anyString());
     }
 
     @Test
@@ -97,7 +220,6 @@ class ProductRepositoryAdapterTest {
     void shouldFindAllProductsSuccessfully() {
         List<ProductDocument> documents = Arrays.asList(productDocument);
         when(productMongoRepository.findAll()).thenReturn(documents);
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
 
         List<Product> products = productRepositoryAdapter.findAll();
 
@@ -107,13 +229,145 @@ class ProductRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should delete product by id successfully")
+    @DisplayName("Should delete product by id successfully and leave a tombstone for the change feed")
     void shouldDeleteProductByIdSuccessfully() {
-        doNothing().when(productMongoRepository).deleteById("1");
+        BulkOperations tombstones = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductTombstoneDocument.class)).thenReturn(tombstones);
+        when(mongoTemplate.remove(any(Query.class), eq(ProductDocument.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        assertThat(productRepositoryAdapter.deleteById(EXISTING_ID)).isTrue();
+
+        verify(mongoTemplate, times(1)).remove(argThat((Query query) ->
+                query.getQueryObject().get("_id").equals(EXISTING_ID)), eq(ProductDocument.class));
+        verify(tombstones).upsert(argThat((Query query) -> query.getQueryObject().get("_id").equals(EXISTING_ID)),
+                argThat((Update update) -> update.getUpdateObject().get("$set", Document.class).containsKey("deletedAt")));
+        verify(tombstones).execute();
+        verify(productMongoRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should report when there was nothing to delete")
+    void shouldReportWhenThereWasNothingToDelete() {
+        when(mongoTemplate.remove(any(Query.class), eq(ProductDocument.class))).thenReturn(DeleteResult.acknowledged(0));
+
+        assertThat(productRepositoryAdapter.deleteById(MISSING_ID)).isFalse();
+        assertThat(productRepositoryAdapter.deleteById("999")).isFalse();
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(ProductDocument.class));
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, ProductTombstoneDocument.class);
+    }
+
+    @Test
+    @DisplayName("Should delete many products with a single $in remove and tombstone only the ones that existed")
+    void shouldDeleteManyProductsWithSingleRemove() {
+        BulkOperations tombstones = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductTombstoneDocument.class)).thenReturn(tombstones);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(List.of(new Document("_id", new ObjectId(EXISTING_ID)),
+                        new Document("_id", new ObjectId(OTHER_ID))));
+        when(mongoTemplate.remove(any(Query.class), eq(ProductDocument.class))).thenReturn(DeleteResult.acknowledged(2));
+
+        assertThat(productRepositoryAdapter.deleteAllById(List.of(EXISTING_ID, OTHER_ID, MISSING_ID, "lixo")))
+                .isEqualTo(2);
+
+        verify(mongoTemplate).find(argThat((Query query) ->
+                query.getQueryObject().get("_id", Document.class).getList("$in", String.class)
+                        .equals(List.of(EXISTING_ID, OTHER_ID, MISSING_ID))),
+                eq(Document.class), eq(ProductDocument.COLLECTION));
+        verify(mongoTemplate, times(1)).remove(argThat((Query query) ->
+                query.getQueryObject().get("_id", Document.class).getList("$in", String.class)
+                        .equals(List.of(EXISTING_ID, OTHER_ID))), eq(ProductDocument.class));
+        verify(tombstones).upsert(argThat((Query query) -> query.getQueryObject().get("_id").equals(EXISTING_ID)),
+                any(Update.class));
+        verify(tombstones).upsert(argThat((Query query) -> query.getQueryObject().get("_id").equals(OTHER_ID)),
+                any(Update.class));
+        verify(tombstones, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(tombstones).execute();
+    }
+
+    @Test
+    @DisplayName("Should not remove nor tombstone anything when none of the ids exists")
+    void shouldSkipRemoveWhenNoIdExists() {
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION)))
+                .thenReturn(List.of());
+
+        assertThat(productRepositoryAdapter.deleteAllById(List.of(MISSING_ID))).isZero();
+        assertThat(productRepositoryAdapter.deleteAllById(List.of("lixo"))).isZero();
 
-        productRepositoryAdapter.deleteById("1");
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Document.class), eq(ProductDocument.COLLECTION));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ProductDocument.class));
+        verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, ProductTombstoneDocument.class);
+    }
+
+    @Test
+    @DisplayName("Should reserve stock with a single guarded findAndModify")
+    void shouldReserveStockWithSingleGuardedFindAndModify() {
+        productDocument.setQuantity(7L);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ProductDocument.class))).thenReturn(productDocument);
+
+        Optional<Product> reserved = productRepositoryAdapter.reserveStock("1", 3);
+
+        assertThat(reserved).get().extracting(Product::getQuantity).isEqualTo(7L);
+        verify(mongoTemplate, times(1)).findAndModify(
+                argThat((Query query) -> query.getQueryObject().toJson()
+                        .equals("{\"_id\": \"1\", \"quantity\": {\"$gte\": 3}}")),
+                argThat((Update update) -> update.getUpdateObject().get("$inc", Document.class)
+                        .get("quantity").equals(-3L)),
+                argThat((FindAndModifyOptions options) -> options.isReturnNew()),
+                eq(ProductDocument.class));
+        verify(productMongoRepository, never()).findById(anyString());
+        verify(productMongoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should patch only the fields sent, guarded by the expected version")
+    void shouldPatchOnlyFieldsSentGuardedByVersion() {
+        productDocument.setVersion(4L);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ProductDocument.class))).thenReturn(productDocument);
+
+        Optional<Product> updated = productRepositoryAdapter.update("1", 3L,
+                new ProductPatch("Pão de Queijo", null, null, 2990L, null, null, null));
+
+        assertThat(updated).get().extracting(Product::getVersion).isEqualTo(4L);
+        verify(mongoTemplate, times(1)).findAndModify(
+                argThat((Query query) -> query.getQueryObject().toJson()
+                        .equals("{\"_id\": \"1\", \"version\": 3}")),
+                argThat((Update update) -> {
+                    Document set = update.getUpdateObject().get("$set", Document.class);
+                    return set.keySet().equals(Set.of("name", "searchName", "searchGrams", "price", "updatedAt"))
+                            && set.get("searchName").equals("pao de queijo")
+                            && update.getUpdateObject().get("$inc", Document.class).get("version").equals(1);
+                }),
+                argThat((FindAndModifyOptions options) -> options.isReturnNew()),
+                eq(ProductDocument.class));
+        verify(productMongoRepository, never()).findById(anyString());
+        verify(productMongoRepository, never()).save(any());
+    }
 
-        verify(productMongoRepository, times(1)).deleteById("1");
+    @Test
+    @DisplayName("Should report when the stock guard does not match")
+    void shouldReportWhenStockGuardDoesNotMatch() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ProductDocument.class))).thenReturn(null);
+
+        assertThat(productRepositoryAdapter.reserveStock("1", 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should release stock with an unconditional $inc")
+    void shouldReleaseStockWithUnconditionalInc() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ProductDocument.class))).thenReturn(productDocument);
+
+        assertThat(productRepositoryAdapter.releaseStock("1", 2)).isPresent();
+
+        verify(mongoTemplate, times(1)).findAndModify(
+                argThat((Query query) -> query.getQueryObject().toJson().equals("{\"_id\": \"1\"}")),
+                argThat((Update update) -> update.getUpdateObject().get("$inc", Document.class)
+                        .get("quantity").equals(2L)),
+                any(FindAndModifyOptions.class),
+                eq(ProductDocument.class));
     }
 
     @Test
@@ -121,7 +375,6 @@ class ProductRepositoryAdapterTest {
     void shouldFindProductsByCategorySuccessfully() {
         List<ProductDocument> documents = Arrays.asList(productDocument);
         when(productMongoRepository.findByCategory(CategoryEnum.LANCHE)).thenReturn(documents);
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
 
         List<Product> products = productRepositoryAdapter.findByCategory(CategoryEnum.LANCHE);
 
@@ -134,14 +387,16 @@ class ProductRepositoryAdapterTest {
     @DisplayName("Should find products by name containing successfully")
     void shouldFindProductsByNameContainingSuccessfully() {
         List<ProductDocument> documents = Arrays.asList(productDocument);
-        when(productMongoRepository.findByNameContainingIgnoreCase("Test")).thenReturn(documents);
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(documents);
 
         List<Product> products = productRepositoryAdapter.findByNameContaining("Test");
 
         assertThat(products).hasSize(1);
         assertThat(products.get(0).getName()).contains("Test");
-        verify(productMongoRepository, times(1)).findByNameContainingIgnoreCase("Test");
+        verify(mongoTemplate).find(argThat((Query query) ->
+                query.getQueryObject().toJson()
+                        .equals(ProductSearchCriteria.nameContains("Test").getCriteriaObject().toJson())),
+                eq(ProductDocument.class));
     }
 
     @Test
@@ -151,14 +406,125 @@ class ProductRepositoryAdapterTest {
         Long minPrice = 1000L;
         Long maxPrice = 3000L;
         
-        when(productMongoRepository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, minPrice, maxPrice))
+        when(productMongoRepository
+                .findByCategoryAndPriceBetweenOrderByPriceAscIdAsc(CategoryEnum.LANCHE, minPrice, maxPrice))
                 .thenReturn(documents);
-        when(modelMapper.map(productDocument, Product.class)).thenReturn(product);
 
         List<Product> products = productRepositoryAdapter.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, minPrice, maxPrice);
 
         assertThat(products).hasSize(1);
         verify(productMongoRepository, times(1))
-                .findByCategoryAndPriceBetween(CategoryEnum.LANCHE, minPrice, maxPrice);
+                .findByCategoryAndPriceBetweenOrderByPriceAscIdAsc(CategoryEnum.LANCHE, minPrice, maxPrice);
+    }
+
+    @Test
+    @DisplayName("Should return first page with next cursor when more documents exist")
+    void shouldReturnFirstPageWithNextCursorWhenMoreDocumentsExist() {
+        ProductDocument first = documentWithObjectId("507f1f77bcf86cd799439011", LocalDateTime.of(2024, 1, 1, 10, 0));
+        ProductDocument second = documentWithObjectId("507f1f77bcf86cd799439012", LocalDateTime.of(2024, 1, 1, 10, 0));
+        ProductDocument third = documentWithObjectId("507f1f77bcf86cd799439013", LocalDateTime.of(2024, 1, 2, 10, 0));
+        when(productMongoRepository.findPage(PageRequest.of(0, 3))).thenReturn(Arrays.asList(first, second, third));
+
+        ProductPage page = productRepositoryAdapter.findPage(null, 2);
+
+        assertThat(page.getItems()).extracting(Product::getId)
+                .containsExactly("507f1f77bcf86cd799439011", "507f1f77bcf86cd799439012");
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position")
+    void shouldContinueAfterCursorPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        ProductDocument first = documentWithObjectId("507f1f77bcf86cd799439011", createdAt);
+        ProductDocument second = documentWithObjectId("507f1f77bcf86cd799439012", createdAt);
+        when(productMongoRepository.findPageByCategory(CategoryEnum.LANCHE, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(first, second));
+        String cursor = productRepositoryAdapter.findPageByCategory(CategoryEnum.LANCHE, null, 1).getNextCursor();
+        when(productMongoRepository.findPageByCategoryAfter(CategoryEnum.LANCHE, createdAt,
+                new ObjectId("507f1f77bcf86cd799439011"), PageRequest.of(0, 2)))
+                .thenReturn(List.of(second));
+
+        ProductPage page = productRepositoryAdapter.findPageByCategory(CategoryEnum.LANCHE, cursor, 1);
+
+        assertThat(page.getItems()).extracting(Product::getId).containsExactly("507f1f77bcf86cd799439012");
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should query documents after decoded cursor")
+    void shouldQueryDocumentsAfterDecodedCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        ProductDocument document = documentWithObjectId("507f1f77bcf86cd799439011", createdAt);
+        String cursor = ProductCursor.encode(document);
+        when(productMongoRepository.findPageAfter(createdAt, new ObjectId("507f1f77bcf86cd799439011"),
+                PageRequest.of(0, 11))).thenReturn(List.of());
+
+        ProductPage page = productRepositoryAdapter.findPage(cursor, 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> productRepositoryAdapter.findPage("not-a-cursor", 10))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessage("Cursor de paginação inválido");
+    }
+
+    @Test
+    @DisplayName("Should check existence by _id and skip MongoDB for malformed ids")
+    void shouldCheckExistence() {
+        when(productMongoRepository.existsById(EXISTING_ID)).thenReturn(true);
+
+        assertThat(productRepositoryAdapter.exists(EXISTING_ID)).isTrue();
+        assertThat(productRepositoryAdapter.exists("1")).isFalse();
+
+        verify(productMongoRepository, times(1)).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should stream only the ids, covered by the _id index")
+    void shouldStreamIdsFromTheIdIndex() {
+        ObjectId id = new ObjectId();
+        when(mongoTemplate.getCollectionName(ProductDocument.class)).thenReturn("products");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("products")))
+                .thenReturn(Stream.of(new Document("_id", id)));
+        when(mongoTemplate.estimatedCount(ProductDocument.class)).thenReturn(1L);
+
+        List<String> ids;
+        try (Stream<String> stream = productRepositoryAdapter.streamIds()) {
+            ids = stream.toList();
+        }
+
+        assertThat(ids).containsExactly(id.toHexString());
+        assertThat(productRepositoryAdapter.estimatedCount()).isEqualTo(1L);
+        verify(mongoTemplate).stream(argThat((Query query) -> "_id_".equals(query.getHint())
+                && query.getFieldsObject().keySet().equals(Set.of("_id"))), eq(Document.class), eq("products"));
+    }
+
+    @Test
+    @DisplayName("Should stream products from a batched Mongo cursor")
+    void shouldStreamProductsFromBatchedMongoCursor() {
+        when(mongoTemplate.stream(any(Query.class), eq(ProductDocument.class))).thenReturn(Stream.of(productDocument));
+
+        List<Product> result;
+        try (Stream<Product> products = productRepositoryAdapter.streamAll()) {
+            result = products.toList();
+        }
+
+        assertThat(result).extracting(Product::getId).containsExactly("1");
+        verify(mongoTemplate).stream(argThat((Query query) ->
+                query.getMeta().getCursorBatchSize() == ProductRepositoryAdapter.STREAM_BATCH_SIZE
+                        && query.getSortObject().containsKey("createdAt")), eq(ProductDocument.class));
+    }
+
+    private ProductDocument documentWithObjectId(String id, LocalDateTime createdAt) {
+        ProductDocument document = new ProductDocument("Produto", "Descrição", null, 1000L, 900L,
+                CategoryEnum.LANCHE, 1L, createdAt, createdAt);
+        document.setId(id);
+        return document;
     }
 }
@@ -0,0 +1,42 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchCriteriaTest {
+
+    @Test
+    @DisplayName("Should select candidates by trigrams and confirm with normalized substring")
+    void shouldSelectCandidatesByTrigramsAndConfirmWithSubstring() {
+        Document query = ProductSearchCriteria.nameContains("Açaí").getCriteriaObject();
+
+        List<?> and = query.getList("$and", Object.class);
+        Document grams = (Document) and.get(0);
+        Document substring = (Document) and.get(1);
+        assertThat(grams.get("searchGrams", Document.class).get("$all")).asList().containsExactly("aca", "cai");
+        assertThat(((Pattern) substring.get("searchName")).pattern()).isEqualTo("acai");
+    }
+
+    @Test
+    @DisplayName("Should fall back to substring on searchName for short terms")
+    void shouldFallBackToSubstringForShortTerms() {
+        Document query = ProductSearchCriteria.nameContains("Pã").getCriteriaObject();
+
+        assertThat(query).containsOnlyKeys("searchName");
+        assertThat(((Pattern) query.get("searchName")).pattern()).isEqualTo("pa");
+    }
+
+    @Test
+    @DisplayName("Should escape regex metacharacters in the search term")
+    void shouldEscapeRegexMetacharacters() {
+        assertThat(ProductSearchCriteria.escape("x-burger (2.0)+")).isEqualTo("x-burger \\(2\\.0\\)\\+");
+        assertThat(Pattern.compile(ProductSearchCriteria.escape("a.b*")).matcher("xa.b*y").find()).isTrue();
+        assertThat(Pattern.compile(ProductSearchCriteria.escape("a.b*")).matcher("axbb").find()).isFalse();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryPlanReportTest {
+
+    @Test
+    @DisplayName("Should report the index used by a classic IXSCAN plan")
+    void shouldReportIndexScan() {
+        Document explain = Document.parse("""
+                { queryPlanner: { winningPlan: { stage: 'FETCH',
+                    inputStage: { stage: 'IXSCAN', indexName: 'category_price_id' } } },
+                  executionStats: { nReturned: 3, totalKeysExamined: 3, totalDocsExamined: 3 } }
+                """);
+
+        QueryPlanReport report = QueryPlanReport.from("findByCategoryAndPriceBetween", explain);
+
+        assertThat(report.query()).isEqualTo("findByCategoryAndPriceBetween");
+        assertThat(report.stages()).containsExactly("FETCH", "IXSCAN");
+        assertThat(report.indexName()).isEqualTo("category_price_id");
+        assertThat(report.collectionScan()).isFalse();
+        assertThat(report.docsExamined()).isEqualTo(3);
+        assertThat(report.keysExamined()).isEqualTo(3);
+        assertThat(report.returned()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should flag a collection scan")
+    void shouldFlagCollectionScan() {
+        Document explain = Document.parse("""
+                { queryPlanner: { winningPlan: { stage: 'SORT', inputStage: { stage: 'COLLSCAN' } } },
+                  executionStats: { nReturned: 1, totalKeysExamined: 0, totalDocsExamined: 10000 } }
+                """);
+
+        QueryPlanReport report = QueryPlanReport.from("findByCategory", explain);
+
+        assertThat(report.collectionScan()).isTrue();
+        assertThat(report.indexName()).isNull();
+        assertThat(report.docsExamined()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("Should read SBE plans and branches of OR stages")
+    void shouldReadSbePlansAndOrBranches() {
+        Document explain = Document.parse("""
+                { queryPlanner: { winningPlan: { queryPlan: { stage: 'FETCH', inputStage: { stage: 'OR',
+                    inputStages: [ { stage: 'IXSCAN', indexName: 'createdAt_id' },
+                                   { stage: 'IXSCAN', indexName: 'createdAt_id' } ] } } } } }
+                """);
+
+        QueryPlanReport report = QueryPlanReport.from("findPageAfter", explain);
+
+        assertThat(report.stages()).containsExactly("FETCH", "OR", "IXSCAN", "IXSCAN");
+        assertThat(report.indexName()).isEqualTo("createdAt_id");
+        assertThat(report.docsExamined()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.persistence;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProductRepositoryAdapterTest {
+    private static final String ID = "65f1a2b3c4d5e6f708192a3b";
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ReactiveProductRepositoryAdapter adapter;
+
+    private ProductDocument document;
+
+    @BeforeEach
+    void setUp() {
+        document = new ProductDocument("X-Burger", "Hambúrguer", null, 2500L, 2300L, CategoryEnum.LANCHE, 10L,
+                LocalDateTime.now(), LocalDateTime.now());
+        document.setId("1");
+    }
+
+    @Test
+    @DisplayName("Should map the document found by id")
+    void shouldFindById() {
+        when(mongoTemplate.findById(ID, ProductDocument.class)).thenReturn(Mono.just(document));
+
+        StepVerifier.create(adapter.findById(ID))
+                .assertNext(product -> assertThat(product.getName()).isEqualTo("X-Burger"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty without querying for an id that is not an ObjectId")
+    void shouldSkipMalformedId() {
+        StepVerifier.create(adapter.findById("1")).verifyComplete();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should stream the whole catalog in keyset order with the export batch size")
+    void shouldStreamAllInKeysetOrder() {
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(Flux.just(document));
+
+        StepVerifier.create(adapter.findAll()).expectNextCount(1).verifyComplete();
+
+        Query query = capturedQuery();
+        assertThat(query.getSortObject()).isEqualTo(new Document("createdAt", 1).append("_id", 1));
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(ProductRepositoryAdapter.STREAM_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should filter by category")
+    void shouldFindByCategory() {
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(Flux.just(document));
+
+        StepVerifier.create(adapter.findByCategory(CategoryEnum.LANCHE)).expectNextCount(1).verifyComplete();
+
+        assertThat(capturedQuery().getQueryObject()).isEqualTo(new Document("category", CategoryEnum.LANCHE));
+    }
+
+    @Test
+    @DisplayName("Should search by name with the same trigram criteria as the blocking adapter")
+    void shouldFindByName() {
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(adapter.findByNameContaining("burger")).verifyComplete();
+
+        // Pattern não implementa equals; o JSON compara o regex pelo texto.
+        assertThat(capturedQuery().getQueryObject().toJson())
+                .isEqualTo(Query.query(ProductSearchCriteria.nameContains("burger")).getQueryObject().toJson());
+    }
+
+    @Test
+    @DisplayName("Should use exclusive price bounds like the derived Between query")
+    void shouldFindByCategoryAndPriceBetween() {
+        when(mongoTemplate.find(any(Query.class), eq(ProductDocument.class))).thenReturn(Flux.just(document));
+
+        StepVerifier.create(adapter.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1000L, 3000L))
+                .assertNext(product -> assertThat(product).isInstanceOf(Product.class))
+                .verifyComplete();
+
+        assertThat(capturedQuery().getQueryObject()).isEqualTo(new Document("category", CategoryEnum.LANCHE)
+                .append("price", new Document("$gt", 1000L).append("$lt", 3000L)));
+    }
+
+    private Query capturedQuery() {
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(ProductDocument.class));
+        return captor.getValue();
+    }
+}
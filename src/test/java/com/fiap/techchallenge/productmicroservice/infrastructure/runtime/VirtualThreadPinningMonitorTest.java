@@ -0,0 +1,42 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.runtime;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadPinningMonitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    @Test
+    @DisplayName("Should record pinned time in the timer")
+    void shouldRecordPinnedTime() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry);
+
+        monitor.record(Duration.ofMillis(35), "com.example.Journal.append:42");
+        monitor.record(Duration.ofMillis(25), "?");
+
+        Timer timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("Should only stream JFR events on a runtime with virtual threads")
+    void shouldStartOnlyOnJava21() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20),
+                new SimpleMeterRegistry());
+
+        monitor.start();
+        assertThat(monitor.isRunning()).isEqualTo(Runtime.version().feature() >= 21);
+
+        monitor.close();
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,105 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.search.SearchTextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private AutocompleteTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = AutocompleteTrie.build(List.of(
+                product("1", "Pão de Queijo", 5L),
+                product("2", "Pão Francês", 50L),
+                product("3", "Queijo Quente", 20L),
+                product("4", "X-Burger", 8L),
+                product("5", "Açaí com Granola", 1L)
+        ), AutocompleteRanking.STOCK.comparator(), 3);
+    }
+
+    @Test
+    @DisplayName("Should return word-prefix matches ranked by score")
+    void shouldReturnWordPrefixMatchesRankedByScore() {
+        assertThat(trie.complete("pa", 10)).extracting(Product::getId).containsExactly("2", "1");
+        assertThat(trie.complete("quei", 10)).extracting(Product::getId).containsExactly("3", "1");
+        assertThat(trie.complete("burg", 10)).extracting(Product::getId).containsExactly("4");
+    }
+
+    @Test
+    @DisplayName("Should fold case, accents and repeated spaces in the prefix")
+    void shouldFoldCaseAccentsAndSpaces() {
+        assertThat(trie.complete("AÇA", 10)).extracting(Product::getId).containsExactly("5");
+        assertThat(trie.complete("a̧ai", 10)).isEmpty();
+        assertThat(trie.complete("acái", 10)).extracting(Product::getId).containsExactly("5");
+        assertThat(trie.complete("  pão   de q", 10)).extracting(Product::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should honour limit and keep at most top-K per prefix")
+    void shouldHonourLimitAndTopK() {
+        AutocompleteTrie small = AutocompleteTrie.build(List.of(
+                product("1", "Suco de Laranja", 1L),
+                product("2", "Suco de Uva", 2L),
+                product("3", "Suco de Limão", 3L),
+                product("4", "Suco de Manga", 4L)
+        ), AutocompleteRanking.STOCK.comparator(), 3);
+
+        assertThat(small.complete("suco", 10)).extracting(Product::getId).containsExactly("4", "3", "2");
+        assertThat(small.complete("suco", 1)).extracting(Product::getId).containsExactly("4");
+    }
+
+    @Test
+    @DisplayName("Should list a product once even when several words match")
+    void shouldListProductOnce() {
+        AutocompleteTrie repeated = AutocompleteTrie.build(List.of(product("1", "Queijo com Queijo", 1L)),
+                AutocompleteRanking.NAME.comparator(), 5);
+
+        assertThat(repeated.complete("queijo", 5)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should check candidates past the maximum trie depth")
+    void shouldCheckCandidatesPastMaximumDepth() {
+        AutocompleteTrie deep = AutocompleteTrie.build(List.of(
+                product("1", "Sanduíche Natural de Frango com Cenoura", 1L),
+                product("2", "Sanduíche Natural de Frango com Catupiry", 2L)
+        ), AutocompleteRanking.STOCK.comparator(), 5);
+
+        assertThat(deep.complete("sanduiche natural de frango com ce", 5)).extracting(Product::getId)
+                .containsExactly("1");
+        assertThat(deep.complete("sanduiche natural de frango com", 5)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown prefixes or empty catalog")
+    void shouldReturnNothingForUnknownPrefixes() {
+        assertThat(trie.complete("pizza", 10)).isEmpty();
+        assertThat(trie.complete("   ", 10)).isEmpty();
+        assertThat(AutocompleteTrie.build(List.of(), AutocompleteRanking.PRICE.comparator(), 3)
+                .complete("pao", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fold Latin-1 characters the same way as the search normalizer")
+    void shouldFoldLikeSearchNormalizer() {
+        for (char c = 0xC0; c <= 0xFF; c++) {
+            String normalized = SearchTextNormalizer.normalize(String.valueOf(c));
+            if (normalized.length() == 1) {
+                assertThat(AutocompleteTrie.fold(c)).as("U+%04X", (int) c).isEqualTo(normalized.charAt(0));
+            }
+        }
+    }
+
+    private static Product product(String id, String name, Long quantity) {
+        return new Product(id, name, "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, quantity);
+    }
+}
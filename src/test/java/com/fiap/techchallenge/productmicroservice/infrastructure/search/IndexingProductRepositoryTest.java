@@ -0,0 +1,166 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndexingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    private TrigramProductIndex index;
+    private PriceRangeIndex priceIndex;
+    private IndexingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramProductIndex();
+        index.rebuild(Stream.empty());
+        priceIndex = new PriceRangeIndex();
+        priceIndex.rebuild(Stream.empty());
+        repository = new IndexingProductRepository(delegate, List.of(index, priceIndex));
+    }
+
+    @Test
+    @DisplayName("Should index saved products and drop deleted ones")
+    void shouldIndexSavedProductsAndDropDeletedOnes() {
+        Product product = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+        when(delegate.save(product)).thenReturn(product);
+
+        repository.save(product);
+        assertThat(index.search("queijo")).containsExactly(product);
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 2000L, true))
+                .containsExactly(product);
+
+        repository.deleteById("1");
+        assertThat(index.search("queijo")).isEmpty();
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 2000L, true)).isEmpty();
+        verify(delegate).deleteById("1");
+    }
+
+    @Test
+    @DisplayName("Should reindex the stored product after a stock change")
+    void shouldReindexAfterStockChange() {
+        Product product = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 5L);
+        Product reserved = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 3L);
+        Product released = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 4L);
+        when(delegate.save(product)).thenReturn(product);
+        when(delegate.reserveStock("1", 2)).thenReturn(Optional.of(reserved));
+        when(delegate.releaseStock("1", 1)).thenReturn(Optional.of(released));
+        when(delegate.reserveStock("1", 99)).thenReturn(Optional.empty());
+        repository.save(product);
+
+        assertThat(repository.reserveStock("1", 2)).contains(reserved);
+        assertThat(index.search("queijo")).containsExactly(reserved);
+
+        assertThat(repository.releaseStock("1", 1)).contains(released);
+        assertThat(repository.reserveStock("1", 99)).isEmpty();
+        assertThat(index.search("queijo")).containsExactly(released);
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 2000L, true))
+                .containsExactly(released);
+    }
+
+    @Test
+    @DisplayName("Should reindex the products written by a stock ledger flush")
+    void shouldReindexStockLedgerFlush() {
+        Product flushed = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 0L);
+        when(delegate.applyStockDeltas(7L, Map.of("1", -5L))).thenReturn(List.of(flushed));
+
+        assertThat(repository.applyStockDeltas(7L, Map.of("1", -5L))).containsExactly(flushed);
+
+        assertThat(index.search("queijo")).containsExactly(flushed);
+    }
+
+    @Test
+    @DisplayName("Should reindex the stored product after a partial update")
+    void shouldReindexAfterPartialUpdate() {
+        Product product = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 5L);
+        Product renamed = new Product("1", "Coxinha", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 5L);
+        ProductPatch patch = new ProductPatch("Coxinha", null, null, null, null, null, null);
+        when(delegate.save(product)).thenReturn(product);
+        when(delegate.update("1", 0L, patch)).thenReturn(Optional.of(renamed));
+        repository.save(product);
+
+        assertThat(repository.update("1", 0L, patch)).contains(renamed);
+
+        assertThat(index.search("queijo")).isEmpty();
+        assertThat(index.search("coxinha")).containsExactly(renamed);
+    }
+
+    @Test
+    @DisplayName("Should index batch inserts except the items the database rejected")
+    void shouldIndexBatchInsertsExceptRejectedItems() {
+        Product saved = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+        Product rejected = new Product("Queijo Quente", "Descrição", null, 1500L, 1400L, CategoryEnum.LANCHE, 1L);
+        ProductBatch batch = new ProductBatch(List.of(saved, rejected),
+                Map.of(1, new ProductWriteError("duplicate key", 11000)));
+        when(delegate.saveAll(List.of(saved, rejected))).thenReturn(batch);
+
+        assertThat(repository.saveAll(List.of(saved, rejected))).isSameAs(batch);
+
+        assertThat(index.search("queijo")).containsExactly(saved);
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 2000L, true))
+                .containsExactly(saved);
+    }
+
+    @Test
+    @DisplayName("Should drop bulk deleted products from the indexes")
+    void shouldDropBulkDeletedProductsFromIndexes() {
+        Product product = new Product("1", "Pão de Queijo", "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+        index.index(product);
+        priceIndex.index(product);
+        when(delegate.deleteAllById(List.of("1", "2"))).thenReturn(1L);
+
+        assertThat(repository.deleteAllById(List.of("1", "2"))).isEqualTo(1L);
+
+        assertThat(index.search("queijo")).isEmpty();
+        assertThat(priceIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delegate reads")
+    void shouldDelegateReads() {
+        repository.exists("1");
+        repository.findById("1");
+        repository.findAllById(List.of("1"));
+        repository.findAll();
+        repository.findPage(null, 10);
+        repository.streamAll();
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        repository.findByNameContaining("Pão");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+
+        verify(delegate).findById("1");
+        verify(delegate).exists("1");
+        verify(delegate).findAllById(List.of("1"));
+        verify(delegate).findAll();
+        verify(delegate).findPage(null, 10);
+        verify(delegate).streamAll();
+        verify(delegate).findByCategory(CategoryEnum.LANCHE);
+        verify(delegate).findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        verify(delegate).findByNameContaining("Pão");
+        verify(delegate).findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 1L, 2L);
+        verify(delegate).findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 1L, 2L);
+    }
+}
@@ -0,0 +1,174 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PriceRangeIndexTest {
+
+    private PriceRangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceRangeIndex();
+        index.rebuild(Stream.of(
+                product("1", CategoryEnum.LANCHE, 1500L),
+                product("2", CategoryEnum.LANCHE, 2500L),
+                product("3", CategoryEnum.LANCHE, 4500L),
+                product("4", CategoryEnum.LANCHE, 2500L),
+                product("5", CategoryEnum.BEBIDA, 700L)));
+    }
+
+    @Test
+    @DisplayName("Should answer inclusive ranges sorted by price")
+    void shouldAnswerInclusiveRanges() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 1500L, 2500L, true))
+                .extracting(Product::getId).containsExactly("1", "2", "4");
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, Long.MAX_VALUE, true))
+                .extracting(Product::getId).containsExactly("1", "2", "4", "3");
+    }
+
+    @Test
+    @DisplayName("Should exclude the bounds for exclusive ranges like the derived Between query")
+    void shouldExcludeBoundsForExclusiveRanges() {
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 1500L, 4500L, false))
+                .extracting(Product::getId).containsExactly("2", "4");
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 2500L, 2500L, false)).isEmpty();
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, Long.MAX_VALUE, Long.MAX_VALUE, false))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep categories apart and return empty for unknown ones")
+    void shouldKeepCategoriesApart() {
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.BEBIDA, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("5");
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.SOBREMESA, 0L, 10_000L, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move products on price and category changes")
+    void shouldMoveProductsOnUpdates() {
+        index.index(product("1", CategoryEnum.LANCHE, 5000L));
+        index.index(product("5", CategoryEnum.SOBREMESA, 900L));
+        index.index(product("6", CategoryEnum.LANCHE, 100L));
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("6", "2", "4", "3", "1");
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.BEBIDA, 0L, 10_000L, true)).isEmpty();
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.SOBREMESA, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("5");
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should drop removed products and ignore unknown ids")
+    void shouldDropRemovedProducts() {
+        index.remove("2");
+        index.remove("inexistente");
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 2500L, 2500L, true))
+                .extracting(Product::getId).containsExactly("4");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should skip products without price and return read-only results")
+    void shouldSkipProductsWithoutPrice() {
+        Product withoutPrice = new Product();
+        withoutPrice.setId("7");
+        withoutPrice.setCategory(CategoryEnum.LANCHE);
+        index.index(withoutPrice);
+
+        var result = index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true);
+
+        assertThat(result).hasSize(4);
+        assertThatThrownBy(() -> result.add(withoutPrice)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep only the last copy of duplicated ids on rebuild")
+    void shouldKeepLastCopyOfDuplicatedIdsOnRebuild() {
+        index.rebuild(Stream.of(product("1", CategoryEnum.LANCHE, 1000L), product("1", CategoryEnum.BEBIDA, 2000L)));
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true)).isEmpty();
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.BEBIDA, 0L, 10_000L, true)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should move a product whose instance was repriced after it was indexed")
+    void shouldMoveProductRepricedInPlace() {
+        Product burger = product("7", CategoryEnum.LANCHE, 3000L);
+        index.index(burger);
+
+        burger.setPrice(3500L);
+        index.index(burger);
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 3000L, 3000L, true)).isEmpty();
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("1", "2", "4", "7", "3");
+
+        burger.setPrice(9000L);
+        index.remove("7");
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("1", "2", "4", "3");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should swap the stored product in place when only the stock changed")
+    void shouldSwapProductWhenOnlyStockChanged() {
+        Product reserved = product("2", CategoryEnum.LANCHE, 2500L);
+        reserved.setQuantity(0L);
+
+        index.index(reserved);
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 2500L, 2500L, true))
+                .extracting(Product::getId, Product::getQuantity)
+                .containsExactly(tuple("2", 0L), tuple("4", 1L));
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should replay writes made between the start of a reload and the swap")
+    void shouldReplayWritesMadeDuringReload() {
+        index.beginRebuild();
+        index.remove("2");
+        index.index(product("3", CategoryEnum.LANCHE, 100L));
+
+        index.rebuild(Stream.of(
+                product("1", CategoryEnum.LANCHE, 1500L),
+                product("2", CategoryEnum.LANCHE, 2500L),
+                product("3", CategoryEnum.LANCHE, 4500L)));
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("3", "1");
+    }
+
+    @Test
+    @DisplayName("Should stop recording writes when a reload is aborted")
+    void shouldStopRecordingWritesWhenReloadIsAborted() {
+        index.beginRebuild();
+        index.remove("2");
+        index.abortRebuild();
+
+        index.rebuild(Stream.of(product("2", CategoryEnum.LANCHE, 2500L)));
+
+        assertThat(index.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 0L, 10_000L, true))
+                .extracting(Product::getId).containsExactly("2");
+    }
+
+    private static Product product(String id, CategoryEnum category, Long price) {
+        return new Product(id, "Produto " + id, "Descrição", null, price, price, category, 1L);
+    }
+}
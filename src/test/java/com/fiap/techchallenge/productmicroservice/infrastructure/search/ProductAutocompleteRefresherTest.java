@@ -0,0 +1,101 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductAutocompleteRefresherTest {
+
+    @Mock
+    private ProductRepository source;
+
+    @Test
+    @DisplayName("Should load the trie at startup and cap results at top-K")
+    void shouldLoadTrieAtStartup() {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(AutocompleteRanking.PRICE.comparator(), 1);
+        Product cheap = new Product("1", "Café Expresso", "Descrição", null, 500L, 400L, CategoryEnum.BEBIDA, 1L);
+        Product pricey = new Product("2", "Café com Leite", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 1L);
+        when(source.streamAll()).thenReturn(Stream.of(pricey, cheap));
+
+        new ProductAutocompleteRefresher(autocomplete, source).run(null);
+
+        assertThat(autocomplete.complete("cafe", 10)).containsExactly(cheap);
+        assertThat(autocomplete.size()).isEqualTo(2);
+        assertThat(autocomplete.nodeCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should reflect local saves, updates and deletes before the next reload")
+    void shouldReflectLocalWritesBeforeNextReload() {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(AutocompleteRanking.PRICE.comparator(), 2);
+        Product expresso = new Product("1", "Café Expresso", "Descrição", null, 500L, 400L, CategoryEnum.BEBIDA, 1L);
+        Product latte = new Product("2", "Café com Leite", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 1L);
+        when(source.streamAll()).thenReturn(Stream.of(expresso, latte));
+        new ProductAutocompleteRefresher(autocomplete, source).run(null);
+
+        Product mocha = new Product("3", "Café Mocha", "Descrição", null, 300L, 250L, CategoryEnum.BEBIDA, 1L);
+        Product tea = new Product("2", "Chá Mate", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 1L);
+        autocomplete.index(mocha);
+        autocomplete.index(tea);
+        autocomplete.remove("1");
+
+        assertThat(autocomplete.complete("cafe", 10)).containsExactly(mocha);
+        assertThat(autocomplete.complete("mate", 10)).containsExactly(tea);
+        assertThat(autocomplete.overlaySize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fill the top-K past trie entries the overlay replaced")
+    void shouldFillTopKPastReplacedEntries() {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(AutocompleteRanking.PRICE.comparator(), 1);
+        Product expresso = new Product("1", "Café Expresso", "Descrição", null, 500L, 400L, CategoryEnum.BEBIDA, 1L);
+        Product latte = new Product("2", "Café com Leite", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 1L);
+        when(source.streamAll()).thenReturn(Stream.of(expresso, latte));
+        new ProductAutocompleteRefresher(autocomplete, source).run(null);
+
+        autocomplete.index(new Product("1", "Chá Mate", "Descrição", null, 500L, 400L, CategoryEnum.BEBIDA, 1L));
+
+        assertThat(autocomplete.complete("cafe", 10)).containsExactly(latte);
+    }
+
+    @Test
+    @DisplayName("Should keep writes made while the catalog is read and clear the rest on reload")
+    void shouldKeepWritesMadeWhileReading() {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(AutocompleteRanking.PRICE.comparator(), 5);
+        Product expresso = new Product("1", "Café Expresso", "Descrição", null, 500L, 400L, CategoryEnum.BEBIDA, 1L);
+        Product latte = new Product("2", "Café com Leite", "Descrição", null, 900L, 800L, CategoryEnum.BEBIDA, 1L);
+        autocomplete.index(latte);
+        when(source.streamAll()).thenReturn(Stream.of(expresso, latte).peek(product -> {
+            if (product == latte) {
+                autocomplete.remove("1");
+            }
+        }));
+
+        new ProductAutocompleteRefresher(autocomplete, source).refresh();
+
+        assertThat(autocomplete.complete("cafe", 10)).containsExactly(latte);
+        assertThat(autocomplete.overlaySize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous trie when Mongo fails")
+    void shouldKeepPreviousTrieWhenMongoFails() {
+        TrieProductAutocomplete autocomplete = new TrieProductAutocomplete(AutocompleteRanking.STOCK.comparator(), 5);
+        when(source.streamAll()).thenThrow(new IllegalStateException("timeout"));
+
+        new ProductAutocompleteRefresher(autocomplete, source).refresh();
+
+        assertThat(autocomplete.complete("cafe", 5)).isEmpty();
+    }
+}
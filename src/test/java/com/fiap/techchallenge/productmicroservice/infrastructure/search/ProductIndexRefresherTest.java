@@ -0,0 +1,84 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexRefresherTest {
+
+    @Mock
+    private ProductRepository source;
+
+    @Test
+    @DisplayName("Should load every index from a single read at startup")
+    void shouldLoadEveryIndexFromSingleRead() {
+        TrigramProductIndex searchIndex = new TrigramProductIndex();
+        PriceRangeIndex priceIndex = new PriceRangeIndex();
+        AtomicBoolean closed = new AtomicBoolean();
+        Product product = new Product("1", "Açaí", "Descrição", null, 1000L, 900L, CategoryEnum.SOBREMESA, 1L);
+        when(source.streamAll()).thenReturn(Stream.of(product).onClose(() -> closed.set(true)));
+
+        new ProductIndexRefresher(List.of(searchIndex, priceIndex), source).run(null);
+
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(searchIndex.search("acai")).containsExactly(product);
+        assertThat(priceIndex.isReady()).isTrue();
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.SOBREMESA, 0L, 1000L, true))
+                .containsExactly(product);
+        assertThat(closed).isTrue();
+        verify(source, times(1)).streamAll();
+    }
+
+    @Test
+    @DisplayName("Should keep writes that land between the Mongo read and the swap")
+    void shouldKeepWritesMadeWhileReading() {
+        TrigramProductIndex searchIndex = new TrigramProductIndex();
+        PriceRangeIndex priceIndex = new PriceRangeIndex();
+        Product acai = new Product("1", "Açaí", "Descrição", null, 1000L, 900L, CategoryEnum.SOBREMESA, 1L);
+        Product pudim = new Product("2", "Pudim", "Descrição", null, 800L, 700L, CategoryEnum.SOBREMESA, 1L);
+        when(source.streamAll()).thenReturn(Stream.of(acai, pudim).peek(product -> {
+            if (product == pudim) {
+                searchIndex.remove("1");
+                priceIndex.remove("1");
+            }
+        }));
+
+        new ProductIndexRefresher(List.of(searchIndex, priceIndex), source).refresh();
+
+        assertThat(searchIndex.search("acai")).isEmpty();
+        assertThat(priceIndex.findByCategoryAndPriceRange(CategoryEnum.SOBREMESA, 0L, 1000L, true))
+                .containsExactly(pudim);
+    }
+
+    @Test
+    @DisplayName("Should leave the indexes untouched when Mongo fails")
+    void shouldLeaveIndexesUntouchedWhenMongoFails() {
+        TrigramProductIndex index = new TrigramProductIndex();
+        when(source.streamAll()).thenThrow(new IllegalStateException("timeout"));
+
+        new ProductIndexRefresher(List.of(index), source).refresh();
+
+        assertThat(index.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not read the catalog when no index is enabled")
+    void shouldNotReadCatalogWithoutIndexes() {
+        new ProductIndexRefresher(List.of(), source).refresh();
+
+        verifyNoInteractions(source);
+    }
+}
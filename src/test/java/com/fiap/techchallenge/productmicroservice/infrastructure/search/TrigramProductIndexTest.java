@@ -0,0 +1,143 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.search;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrigramProductIndexTest {
+
+    private TrigramProductIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramProductIndex();
+        index.rebuild(Stream.of(
+                product("1", "Pão de Queijo"),
+                product("2", "Açaí com Granola"),
+                product("3", "Queijo Quente"),
+                product("4", "X-Burger")));
+    }
+
+    @Test
+    @DisplayName("Should find substrings ignoring case and accents")
+    void shouldFindSubstringsIgnoringCaseAndAccents() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("QUEIJO")).extracting(Product::getId).containsExactly("1", "3");
+        assertThat(index.search("acai")).extracting(Product::getId).containsExactly("2");
+        assertThat(index.search("pao de q")).extracting(Product::getId).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Should reject candidates whose trigrams are present out of order")
+    void shouldRejectCandidatesWithTrigramsOutOfOrder() {
+        index.index(product("5", "abcxbcd"));
+
+        assertThat(index.search("abcd")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should scan names for terms shorter than a trigram")
+    void shouldScanNamesForShortTerms() {
+        assertThat(index.search("X-")).extracting(Product::getId).containsExactly("4");
+        assertThat(index.search("zz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply incremental updates and removals")
+    void shouldApplyIncrementalUpdatesAndRemovals() {
+        index.index(product("1", "Pão Francês"));
+        index.remove("3");
+        index.remove("inexistente");
+
+        assertThat(index.search("queijo")).isEmpty();
+        assertThat(index.search("frances")).extracting(Product::getId).containsExactly("1");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep writes made while a rebuild is running")
+    void shouldKeepWritesMadeDuringRebuild() {
+        Stream<Product> slowSource = Stream.of(product("1", "Pão de Queijo"), product("3", "Queijo Quente"))
+                .peek(product -> {
+                    if (product.getId().equals("3")) {
+                        index.index(product("9", "Queijo Coalho"));
+                        index.remove("1");
+                    }
+                });
+
+        index.rebuild(slowSource);
+
+        assertThat(index.search("queijo")).extracting(Product::getId).containsExactlyInAnyOrder("3", "9");
+    }
+
+    @Test
+    @DisplayName("Should replay writes made after the reload started but before the rebuild")
+    void shouldReplayWritesMadeBeforeRebuild() {
+        index.beginRebuild();
+        index.remove("1");
+        index.index(product("3", "Queijo Coalho"));
+
+        index.rebuild(Stream.of(product("1", "Pão de Queijo"), product("3", "Queijo Quente")));
+
+        assertThat(index.search("queijo")).extracting(Product::getId).containsExactly("3");
+        assertThat(index.search("quente")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous index when a rebuild fails")
+    void shouldKeepPreviousIndexWhenRebuildFails() {
+        Stream<Product> failing = Stream.of(product("7", "Suco")).peek(product -> {
+            throw new IllegalStateException("mongo indisponível");
+        });
+
+        assertThatThrownBy(() -> index.rebuild(failing)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.search("queijo")).hasSize(2);
+        index.index(product("8", "Queijo Minas"));
+        assertThat(index.search("queijo")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the same slot when a product is written again and reuse slots freed by removals")
+    void shouldReuseSlotsOnRewrite() {
+        long before = index.estimatedMemoryBytes();
+        for (long quantity = 0; quantity < 1000; quantity++) {
+            Product reserved = product("3", "Queijo Quente");
+            reserved.setQuantity(quantity);
+            index.index(reserved);
+        }
+
+        assertThat(index.estimatedMemoryBytes()).isEqualTo(before);
+        assertThat(index.search("quente")).singleElement().extracting(Product::getQuantity).isEqualTo(999L);
+
+        index.remove("2");
+        index.index(product("6", "Açaí Batido"));
+        index.index(product("1", "Misto Quente"));
+
+        assertThat(index.search("quente")).extracting(Product::getId).containsExactly("1", "3");
+        assertThat(index.search("acai")).extracting(Product::getId).containsExactly("6");
+        assertThat(index.search("queijo")).extracting(Product::getId).containsExactly("3");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should not be ready before the first rebuild and report its memory")
+    void shouldReportReadinessAndMemory() {
+        TrigramProductIndex empty = new TrigramProductIndex();
+
+        assertThat(empty.isReady()).isFalse();
+        assertThat(empty.estimatedMemoryBytes()).isZero();
+        assertThat(index.estimatedMemoryBytes()).isPositive();
+    }
+
+    private static Product product(String id, String name) {
+        return new Product(id, name, "Descrição", null, 1000L, 900L, CategoryEnum.LANCHE, 1L);
+    }
+}
@@ -0,0 +1,294 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryStockLedgerTest {
+
+    @Mock
+    private ProductRepository source;
+
+    @TempDir
+    private Path journalDir;
+
+    private final List<Flush> flushes = new ArrayList<>();
+    private final Map<String, Long> database = new ConcurrentHashMap<>();
+    private boolean failWrites;
+    private boolean leaseHeldElsewhere;
+    private int leaseReleases;
+    private InMemoryStockLedger ledger;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ledger = newLedger();
+        ledger.recover();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        failWrites = false;
+        ledger.close();
+    }
+
+    @Test
+    @DisplayName("Should reserve from the stock loaded on first use and write the net change on flush")
+    void shouldReserveAndFlushNetChange() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 10L)));
+
+        assertThat(ledger.reserve("1", 3)).hasValue(7);
+        assertThat(ledger.reserve("1", 4)).hasValue(3);
+        assertThat(ledger.release("1", 1)).hasValue(4);
+        assertThat(flushes).isEmpty();
+        assertThat(ledger.pendingDelta()).isEqualTo(6);
+
+        ledger.flush();
+
+        assertThat(flushes).hasSize(1);
+        assertThat(flushes.get(0).deltas()).containsExactly(Map.entry("1", -6L));
+        assertThat(ledger.pendingDelta()).isZero();
+        assertThat(ledger.reserve("1", 4)).hasValue(0);
+        verify(source, times(1)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should reject reservations beyond the stock with the quantity available")
+    void shouldRejectReservationsBeyondStock() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 2L)));
+
+        assertThatThrownBy(() -> ledger.reserve("1", 3))
+                .isInstanceOfSatisfying(InsufficientStockException.class,
+                        e -> assertThat(e.getAvailable()).isEqualTo(2L));
+        assertThat(ledger.reserve("1", 2)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should report unknown products as empty")
+    void shouldReportUnknownProductsAsEmpty() {
+        when(source.findById("999")).thenReturn(Optional.empty());
+
+        assertThat(ledger.reserve("999", 1)).isEmpty();
+        assertThat(ledger.release("999", 1)).isEmpty();
+        assertThat(ledger.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent reservations")
+    void shouldNeverOversellUnderContention() throws Exception {
+        // Produtos ociosos são descartados a cada flush e recarregados com o que já foi gravado.
+        database.put("1", 1000L);
+        when(source.findById("1")).thenAnswer(invocation -> Optional.of(product("1", database.get("1"))));
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    try {
+                        ledger.reserve("1", 1);
+                        accepted.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        rejected.incrementAndGet();
+                    }
+                    if (i % 25 == 0) {
+                        ledger.flush();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        ledger.flush();
+
+        assertThat(accepted.get()).isEqualTo(1000);
+        assertThat(rejected.get()).isEqualTo(600);
+        assertThat(database).containsEntry("1", 0L);
+    }
+
+    @Test
+    @DisplayName("Should write the journal left by a crash before serving")
+    void shouldRecoverJournalLeftByCrash() throws IOException {
+        when(source.findById("2")).thenReturn(Optional.of(product("2", 10L)));
+        StockJournal crashedJournal = new StockJournal(journalDir, false);
+        InMemoryStockLedger crashed = new InMemoryStockLedger(source, writer(), crashedJournal, lease());
+        crashed.recover();
+        crashed.reserve("2", 3);
+        crashed.release("2", 1);
+        crashedJournal.close();
+
+        InMemoryStockLedger restarted = newLedger();
+        restarted.recover();
+
+        assertThat(flushes).singleElement()
+                .satisfies(flush -> assertThat(flush.deltas()).containsExactly(Map.entry("2", -2L)));
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertThat(files).hasSize(1);
+        }
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch with the same sequence")
+    void shouldRetryFailedBatchWithSameSequence() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 10L)));
+        ledger.reserve("1", 3);
+        failWrites = true;
+
+        ledger.flush();
+        ledger.reserve("1", 1);
+        assertThat(ledger.pendingDelta()).isEqualTo(4);
+
+        failWrites = false;
+        ledger.flush();
+        ledger.flush();
+
+        assertThat(flushes).hasSize(3);
+        assertThat(flushes.get(1).sequence()).isEqualTo(flushes.get(0).sequence());
+        assertThat(flushes.get(1).deltas()).containsExactly(Map.entry("1", -3L));
+        assertThat(flushes.get(2).sequence()).isGreaterThan(flushes.get(1).sequence());
+        assertThat(flushes.get(2).deltas()).containsExactly(Map.entry("1", -1L));
+        assertThat(ledger.pendingDelta()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop products without changes since the last flush")
+    void shouldDropIdleProducts() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 10L))).thenReturn(Optional.of(product("1", 7L)));
+        ledger.reserve("1", 3);
+
+        ledger.flush();
+        assertThat(ledger.size()).isEqualTo(1);
+        ledger.flush();
+        assertThat(ledger.size()).isZero();
+        assertThat(flushes).hasSize(1);
+
+        assertThat(ledger.reserve("1", 1)).hasValue(6);
+        verify(source, times(2)).findById("1");
+        assertThat(ledger.flushLagSeconds()).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted product so later reservations see it as missing")
+    void shouldDropDeletedProducts() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 10L))).thenReturn(Optional.empty());
+        ledger.reserve("1", 3);
+
+        ledger.evict("1");
+
+        assertThat(ledger.reserve("1", 1)).isEmpty();
+        assertThat(ledger.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should load from MongoDB outside the locks and reload when the product was dropped meanwhile")
+    void shouldReloadWhenDroppedDuringLoad() {
+        when(source.findById("1")).thenAnswer(invocation -> {
+            // Pega o write lock da faixa: travaria se a leitura fosse feita com o read lock.
+            ledger.evict("1");
+            return Optional.of(product("1", 10L));
+        }).thenReturn(Optional.of(product("1", 8L)));
+
+        assertThat(ledger.reserve("1", 3)).hasValue(5);
+        verify(source, times(2)).findById("1");
+    }
+
+    @Test
+    @DisplayName("Should refuse to start while another instance holds the lease")
+    void shouldRefuseToStartWhileLeaseIsHeldElsewhere() {
+        leaseHeldElsewhere = true;
+
+        assertThatThrownBy(() -> newLedger().recover())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outra instância");
+    }
+
+    @Test
+    @DisplayName("Should write what it acknowledged and refuse new changes once the lease is lost")
+    void shouldStopAfterLosingTheLease() {
+        when(source.findById("1")).thenReturn(Optional.of(product("1", 10L)));
+        ledger.reserve("1", 3);
+        leaseHeldElsewhere = true;
+
+        ledger.flush();
+
+        assertThat(flushes).singleElement()
+                .satisfies(flush -> assertThat(flush.deltas()).containsExactly(Map.entry("1", -3L)));
+        assertThatThrownBy(() -> ledger.reserve("1", 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> ledger.release("1", 1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should release the lease on a clean shutdown")
+    void shouldReleaseLeaseOnClose() throws IOException {
+        ledger.close();
+
+        assertThat(leaseReleases).isEqualTo(1);
+    }
+
+    private InMemoryStockLedger newLedger() {
+        return new InMemoryStockLedger(source, writer(), new StockJournal(journalDir, false), lease());
+    }
+
+    private StockLedgerLease lease() {
+        return new StockLedgerLease() {
+            @Override
+            public boolean tryAcquire() {
+                return !leaseHeldElsewhere;
+            }
+
+            @Override
+            public void release() {
+                leaseReleases++;
+            }
+        };
+    }
+
+    private StockDeltaWriter writer() {
+        return (sequence, deltas) -> {
+            flushes.add(new Flush(sequence, Map.copyOf(deltas)));
+            if (failWrites) {
+                throw new IllegalStateException("MongoDB indisponível");
+            }
+            deltas.forEach((id, delta) -> database.computeIfPresent(id, (key, quantity) -> quantity + delta));
+        };
+    }
+
+    private static Product product(String id, long quantity) {
+        return new Product(id, "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, quantity);
+    }
+
+    private record Flush(long sequence, Map<String, Long> deltas) {
+    }
+}
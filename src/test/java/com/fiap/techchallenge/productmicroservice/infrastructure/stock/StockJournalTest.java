@@ -0,0 +1,100 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should sum the deltas of each closed segment in order")
+    void shouldSumDeltasOfEachSegmentInOrder() throws IOException {
+        StockJournal journal = new StockJournal(directory, true);
+        journal.recover();
+        journal.open();
+        journal.append("1", -3);
+        journal.append("2", 5);
+        journal.append("1", -2);
+        long first = journal.rotate();
+        journal.append("1", 4);
+        journal.append("2", -5);
+        journal.close();
+
+        List<StockJournal.Segment> segments = new StockJournal(directory, false).recover();
+
+        assertThat(segments).hasSize(2);
+        assertThat(segments.get(0).sequence()).isEqualTo(first);
+        assertThat(segments.get(0).deltas()).isEqualTo(Map.of("1", -5L, "2", 5L));
+        assertThat(segments.get(1).sequence()).isGreaterThan(first);
+        assertThat(segments.get(1).deltas()).isEqualTo(Map.of("1", 4L, "2", -5L));
+    }
+
+    @Test
+    @DisplayName("Should keep every record appended concurrently")
+    void shouldKeepConcurrentAppends() throws Exception {
+        StockJournal journal = new StockJournal(directory, false);
+        journal.recover();
+        journal.open();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> appends = new ArrayList<>();
+        for (int i = 0; i < 800; i++) {
+            String productId = String.valueOf(i % 4);
+            appends.add(pool.submit(() -> {
+                journal.append(productId, -1);
+                return null;
+            }));
+        }
+        for (Future<?> append : appends) {
+            append.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        journal.close();
+
+        assertThat(new StockJournal(directory, false).recover()).singleElement().satisfies(segment ->
+                assertThat(segment.deltas()).isEqualTo(Map.of("0", -200L, "1", -200L, "2", -200L, "3", -200L)));
+    }
+
+    @Test
+    @DisplayName("Should ignore a record torn by a crash")
+    void shouldIgnoreTornRecord() throws IOException {
+        Files.writeString(directory.resolve("stock-7.journal"), "1 -3\n2 -1\n1 -");
+
+        List<StockJournal.Segment> segments = new StockJournal(directory, false).recover();
+
+        assertThat(segments).singleElement()
+                .satisfies(segment -> assertThat(segment.deltas()).isEqualTo(Map.of("1", -3L, "2", -1L)));
+    }
+
+    @Test
+    @DisplayName("Should open segments after the ones left on disk")
+    void shouldOpenSegmentsAfterExistingOnes() throws IOException {
+        long future = System.currentTimeMillis() + 60_000;
+        Files.writeString(directory.resolve("stock-" + future + ".journal"), "");
+        StockJournal journal = new StockJournal(directory, false);
+
+        journal.recover();
+        journal.open();
+
+        assertThat(journal.sequence()).isEqualTo(future + 1);
+        assertThat(journal.isDirty()).isFalse();
+        journal.delete(future);
+        journal.close();
+        assertThat(Files.exists(directory.resolve("stock-" + future + ".journal"))).isFalse();
+    }
+}
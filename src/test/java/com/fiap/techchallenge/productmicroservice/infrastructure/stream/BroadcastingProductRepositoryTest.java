@@ -0,0 +1,118 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stream;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductEventDTO;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.Product;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductWriteError;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductBatch;
+import com.fiap.techchallenge.productmicroservice.domain.entities.ProductPatch;
+import com.fiap.techchallenge.productmicroservice.domain.repositories.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastingProductRepositoryTest {
+
+    @Mock
+    private ProductRepository delegate;
+
+    @Mock
+    private ProductEventBroadcaster broadcaster;
+
+    private BroadcastingProductRepository repository;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BroadcastingProductRepository(delegate, broadcaster);
+        product = new Product("1", "X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+    }
+
+    @Test
+    @DisplayName("Should publish created products, skipping the ones the batch rejected")
+    void shouldPublishCreatedProducts() {
+        Product rejected = new Product("X-Salada", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L);
+        when(delegate.save(any(Product.class))).thenReturn(product);
+        when(delegate.saveAll(anyList())).thenReturn(new ProductBatch(List.of(product, rejected),
+                Map.of(1, new ProductWriteError("duplicate key", 11000))));
+
+        repository.save(new Product("X-Burger", "Descrição", null, 2590L, 2000L, CategoryEnum.LANCHE, 10L));
+        repository.saveAll(List.of(product, rejected));
+
+        verify(broadcaster, times(2)).publish(argThat(event ->
+                event.getType() == ProductEventDTO.Type.CREATED && "1".equals(event.getId())
+                        && "X-Burger".equals(event.getProduct().getName())));
+        verifyNoMoreInteractions(broadcaster);
+    }
+
+    @Test
+    @DisplayName("Should publish stock and update events only when the write was applied")
+    void shouldPublishAppliedWritesOnly() {
+        when(delegate.reserveStock("1", 2)).thenReturn(Optional.of(product));
+        when(delegate.releaseStock("2", 2)).thenReturn(Optional.empty());
+        ProductPatch patch = new ProductPatch("X-Tudo", null, null, null, null, null, null);
+        when(delegate.update("1", 3L, patch)).thenReturn(Optional.of(product));
+        when(delegate.applyStockDeltas(7L, Map.of("1", -1L, "9", -1L))).thenReturn(List.of(product));
+
+        repository.reserveStock("1", 2);
+        repository.releaseStock("2", 2);
+        repository.update("1", 3L, patch);
+        repository.applyStockDeltas(7L, Map.of("1", -1L, "9", -1L));
+
+        verify(broadcaster, times(2)).publish(argThat(event -> event.getType() == ProductEventDTO.Type.STOCK));
+        verify(broadcaster).publish(argThat(event -> event.getType() == ProductEventDTO.Type.UPDATED));
+        verifyNoMoreInteractions(broadcaster);
+    }
+
+    @Test
+    @DisplayName("Should publish deletes only when something was removed")
+    void shouldPublishDeletes() {
+        when(delegate.deleteById("1")).thenReturn(true);
+        when(delegate.deleteById("2")).thenReturn(false);
+        when(delegate.deleteAllById(List.of("3", "4"))).thenReturn(1L);
+
+        repository.deleteById("1");
+        repository.deleteById("2");
+        repository.deleteAllById(List.of("3", "4"));
+
+        verify(broadcaster, times(3)).publish(argThat(event ->
+                event.getType() == ProductEventDTO.Type.DELETED && event.getProduct() == null));
+        verify(broadcaster, never()).publish(argThat(event -> "2".equals(event.getId())));
+    }
+
+    @Test
+    @DisplayName("Should pass reads straight through")
+    void shouldPassReadsThrough() {
+        when(delegate.findById("1")).thenReturn(Optional.of(product));
+
+        assertThat(repository.findById("1")).contains(product);
+        repository.findAll();
+        repository.findAllById(List.of("1"));
+        repository.findPage(null, 10);
+        repository.findPageByCategory(CategoryEnum.LANCHE, null, 10);
+        repository.findByCategory(CategoryEnum.LANCHE);
+        repository.findByNameContaining("burger");
+        repository.findByCategoryAndPriceBetween(CategoryEnum.LANCHE, 0L, 10L);
+        repository.findByCategoryAndPriceRangeManual(CategoryEnum.LANCHE, 0L, 10L);
+        repository.streamAll();
+        repository.exists("1");
+
+        verify(delegate).findAll();
+        verify(delegate).streamAll();
+        verify(delegate).exists("1");
+        verifyNoInteractions(broadcaster);
+    }
+}
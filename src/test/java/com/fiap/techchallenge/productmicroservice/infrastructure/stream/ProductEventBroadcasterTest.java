@@ -0,0 +1,303 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductEventDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductEventBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ManualExecutor dispatcher;
+    private List<RecordingEmitter> emitters;
+    private final AtomicLong clock = new AtomicLong(1);
+    private CountDownLatch stallNext;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new ManualExecutor();
+        emitters = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should start every connection with the catalog version and fan events out to all kiosks")
+    void shouldFanOutEventsToEveryKiosk() {
+        ProductEventBroadcaster broadcaster = broadcaster(10, 8);
+        broadcaster.connect("\"a-1\"");
+        broadcaster.connect("\"a-1\"");
+
+        ProductResponseDTO product = new ProductResponseDTO();
+        product.setId("1");
+        product.setName("X-Burger");
+        broadcaster.publish(new ProductEventDTO(ProductEventDTO.Type.UPDATED, "1", product));
+        dispatcher.runAll();
+
+        assertThat(emitters).hasSize(2).allSatisfy(emitter -> {
+            assertThat(emitter.sent).hasSize(2);
+            assertThat(emitter.sent.get(0)).contains("event:catalog").contains("\"catalogVersion\":\"\\\"a-1\\\"\"");
+            assertThat(emitter.sent.get(1)).contains("event:updated").contains("\"name\":\"X-Burger\"");
+        });
+        assertThat(broadcaster.clients()).isEqualTo(2);
+        assertThat(meterRegistry.get("products.stream.clients").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("products.stream.fanout.latency").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should disconnect a kiosk whose buffer is full instead of queueing without bound")
+    void shouldDropSlowConsumer() {
+        ProductEventBroadcaster broadcaster = broadcaster(10, 1);
+        broadcaster.connect("\"a-1\"");
+
+        broadcaster.publish(new ProductEventDTO(ProductEventDTO.Type.DELETED, "1", null));
+        broadcaster.publish(new ProductEventDTO(ProductEventDTO.Type.DELETED, "2", null));
+        dispatcher.runAll();
+
+        assertThat(broadcaster.clients()).isZero();
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(emitters.get(0).sent).hasSize(1);
+        assertThat(meterRegistry.get("products.stream.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should leave serialization and fan-out to a single dispatcher task, in publish order")
+    void shouldFanOutOnDispatcher() {
+        ProductEventBroadcaster broadcaster = broadcaster(10, 8);
+        broadcaster.connect("\"a-1\"");
+        dispatcher.runAll();
+
+        broadcaster.publish(new ProductEventDTO(ProductEventDTO.Type.DELETED, "1", null));
+        broadcaster.publish(new ProductEventDTO(ProductEventDTO.Type.DELETED, "2", null));
+
+        assertThat(dispatcher.tasks).hasSize(1);
+        assertThat(emitters.get(0).sent).hasSize(1);
+        dispatcher.runAll();
+        assertThat(emitters.get(0).sent).hasSize(3);
+        assertThat(emitters.get(0).sent.get(1)).contains("\"id\":\"1\"");
+        assertThat(emitters.get(0).sent.get(2)).contains("\"id\":\"2\"");
+    }
+
+    @Test
+    @DisplayName("Should refuse connections above the limit")
+    void shouldRefuseConnectionsAboveLimit() {
+        ProductEventBroadcaster broadcaster = broadcaster(1, 8);
+
+        assertThat(broadcaster.connect("\"a-1\"")).isPresent();
+        assertThat(broadcaster.connect("\"a-1\"")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should forget a kiosk whose connection is gone")
+    void shouldForgetClosedConnections() {
+        ProductEventBroadcaster broadcaster = broadcaster(10, 8);
+        broadcaster.connect("\"a-1\"");
+        emitters.get(0).failing = true;
+
+        broadcaster.heartbeat();
+        dispatcher.runAll();
+
+        assertThat(broadcaster.clients()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should send heartbeats as SSE comments and close every connection on shutdown")
+    void shouldSendHeartbeatsAndCloseConnections() {
+        ProductEventBroadcaster broadcaster = broadcaster(10, 8);
+        broadcaster.connect("\"a-1\"");
+
+        broadcaster.heartbeat();
+        dispatcher.runAll();
+        broadcaster.close();
+        dispatcher.runAll();
+
+        assertThat(emitters.get(0).sent).last().asString().startsWith(":ping");
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(broadcaster.connect("\"a-1\"")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should disconnect only the kiosk whose send stalled and keep serving the others")
+    void shouldExpireStalledSendWithoutStarvingOthers() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ProductEventBroadcaster broadcaster = broadcaster(pool, 10, 8);
+        CountDownLatch release = new CountDownLatch(1);
+        stallNext = release;
+        broadcaster.connect("\"a-1\"");
+        RecordingEmitter stalled = emitters.get(0);
+        assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        broadcaster.connect("\"a-1\"");
+        RecordingEmitter healthy = emitters.get(1);
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        broadcaster.expireStalledSends();
+        assertThat(broadcaster.clients()).isEqualTo(2);
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        broadcaster.expireStalledSends();
+
+        assertThat(broadcaster.clients()).isEqualTo(1);
+        assertThat(meterRegistry.get("products.stream.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(pool.getCorePoolSize()).isEqualTo(2);
+        awaitUntil(() -> healthy.sent.size() == 1);
+
+        release.countDown();
+        awaitUntil(() -> stalled.completed && pool.getCorePoolSize() == 1);
+        assertThat(healthy.completed).isFalse();
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should lend at most the pool size in extra threads when every send stalls")
+    void shouldCapThreadsLentToStalledSends() throws Exception {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        ProductEventBroadcaster broadcaster = broadcaster(pool, 10, 8);
+        CountDownLatch release = new CountDownLatch(1);
+        stallNext = release;
+        broadcaster.connect("\"a-1\"");
+        assertThat(emitters.get(0).entered.await(5, TimeUnit.SECONDS)).isTrue();
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        broadcaster.expireStalledSends();
+        stallNext = release;
+        broadcaster.connect("\"a-1\"");
+        assertThat(emitters.get(1).entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        broadcaster.expireStalledSends();
+
+        assertThat(broadcaster.clients()).isZero();
+        assertThat(pool.getCorePoolSize()).isEqualTo(2);
+        release.countDown();
+        awaitUntil(() -> emitters.get(0).completed && emitters.get(1).completed && pool.getCorePoolSize() == 1);
+        pool.shutdown();
+    }
+
+    private ProductEventBroadcaster broadcaster(int maxClients, int bufferSize) {
+        return broadcaster(dispatcher, maxClients, bufferSize);
+    }
+
+    private ProductEventBroadcaster broadcaster(ExecutorService dispatcher, int maxClients, int bufferSize) {
+        return new ProductEventBroadcaster(new ObjectMapper(), dispatcher, maxClients, bufferSize,
+                Duration.ofMinutes(1), Duration.ofSeconds(5), meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter(stallNext);
+                stallNext = null;
+                emitters.add(emitter);
+                return emitter;
+            }
+
+            @Override
+            long nanoTime() {
+                return clock.get();
+            }
+        };
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch stall;
+        private volatile boolean completed;
+        private boolean failing;
+
+        private RecordingEmitter(CountDownLatch stall) {
+            this.stall = stall;
+        }
+
+        // Com stall, a primeira escrita só volta quando o teste libera, como um kiosk que parou de ler.
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (stall != null && entered.getCount() > 0) {
+                entered.countDown();
+                try {
+                    stall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    // Só roda as tarefas quando o teste pede, como um pool ocupado.
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean shutdown;
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.copyOf(tasks);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -3,6 +3,11 @@ package com.fiap.techchallenge.productmicroservice.infrastructure.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ChangeTokenExpiredException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.InsufficientStockException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +19,7 @@ import com.fiap.techchallenge.productmicroservice.application.services.ProductSe
 
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +37,9 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private CatalogVersion catalogVersion;
+
     @Test
     @DisplayName("Should handle IllegalArgumentException")
     void shouldHandleIllegalArgumentException() throws Exception {
@@ -52,6 +61,52 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.timestamp", notNullValue()));
     }
 
+    @Test
+    @DisplayName("Should map ProductValidationException to 400")
+    void shouldHandleProductValidationException() throws Exception {
+        when(productService.autocomplete("x", 0)).thenThrow(new ProductValidationException("Limite deve ser maior que zero"));
+
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "x").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"))
+                .andExpect(jsonPath("$.message").value("Limite deve ser maior que zero"));
+    }
+
+    @Test
+    @DisplayName("Should map ProductNotFoundException to 404")
+    void shouldHandleProductNotFoundException() throws Exception {
+        doThrow(new ProductNotFoundException("999")).when(productService).deleteById("999");
+
+        mockMvc.perform(delete("/api/products/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.message").value("Produto não encontrado"));
+    }
+
+    @Test
+    @DisplayName("Should map InsufficientStockException to 409")
+    void shouldHandleInsufficientStockException() throws Exception {
+        when(productService.reserveStock("1", 5)).thenThrow(new InsufficientStockException("1", 5, 2));
+
+        mockMvc.perform(post("/api/products/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("INSUFFICIENT_STOCK"))
+                .andExpect(jsonPath("$.message").value("Estoque insuficiente"))
+                .andExpect(jsonPath("$.details.available").value("2"));
+    }
+
+    @Test
+    @DisplayName("Should map ChangeTokenExpiredException to 410")
+    void shouldHandleChangeTokenExpiredException() throws Exception {
+        when(productService.findChanges("old", 100)).thenThrow(new ChangeTokenExpiredException());
+
+        mockMvc.perform(get("/api/products/changes").param("since", "old"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.code").value("CHANGE_TOKEN_EXPIRED"));
+    }
+
     @Test
     @DisplayName("Should handle MethodArgumentNotValidException")
     void shouldHandleMethodArgumentNotValidException() throws Exception {
@@ -0,0 +1,87 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.services.ProductService;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import com.fiap.techchallenge.productmicroservice.infrastructure.config.ProductResponseCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProductController.class)
+@Import({ProductResponseCacheConfig.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "product.response-cache.enabled=true")
+class ProductControllerResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductService productService;
+
+    @MockBean
+    private CatalogVersion catalogVersion;
+
+    @Test
+    @DisplayName("Should serve the category page from the serialized cache, gzipped when accepted")
+    void shouldServeCategoryPageFromSerializedCache() throws Exception {
+        ProductResponseDTO product = new ProductResponseDTO();
+        product.setId("1");
+        product.setName("X-Burger");
+        when(catalogVersion.etag()).thenReturn("\"k3f9-12\"");
+        when(productService.findByCategory(CategoryEnum.LANCHE, null, 100))
+                .thenReturn(new ProductPageResponseDTO(List.of(product), "next"));
+
+        mockMvc.perform(get("/api/products/category/LANCHE"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ProductController.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(jsonPath("$[0].name").value("X-Burger"));
+
+        byte[] gzipped = mockMvc.perform(get("/api/products/category/LANCHE")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"k3f9-12-gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"name\":\"X-Burger\"");
+        }
+
+        mockMvc.perform(get("/api/products/category/LANCHE")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"k3f9-12-gz\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, times(1)).findByCategory(CategoryEnum.LANCHE, null, 100);
+    }
+
+    @Test
+    @DisplayName("Should only gzip when the client accepts it")
+    void shouldOnlyGzipWhenAccepted() {
+        assertThat(ProductController.acceptsGzip(null)).isFalse();
+        assertThat(ProductController.acceptsGzip("deflate, br")).isFalse();
+        assertThat(ProductController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ProductController.acceptsGzip("GZIP")).isTrue();
+        assertThat(ProductController.acceptsGzip("deflate, gzip ; q=0.5")).isTrue();
+    }
+}
@@ -2,23 +2,46 @@ package com.fiap.techchallenge.productmicroservice.infrastructure.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.techchallenge.productmicroservice.application.dto.CreateProductRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchItemResultDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBatchResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductBulkDeleteResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductChangeFeedResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductLookupResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
 import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductSuggestionDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationRequestDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.StockReservationResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.UpdateProductRequestDTO;
 import com.fiap.techchallenge.productmicroservice.application.services.ProductService;
 import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.entities.VersionPrecondition;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductNotFoundException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductVersionConflictException;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -36,11 +59,16 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private CatalogVersion catalogVersion;
+
     private ProductResponseDTO productResponse;
     private CreateProductRequestDTO createRequest;
 
     @BeforeEach
     void setUp() {
+        when(catalogVersion.etag()).thenReturn("\"k3f9-12\"");
+
         productResponse = new ProductResponseDTO();
         productResponse.setId("1");
         productResponse.setName("Test Product");
@@ -61,6 +89,268 @@ class ProductControllerTest {
         createRequest.setQuantity(10L);
     }
 
+    @Test
+    @DisplayName("Should create a batch and answer 201 when every item is created")
+    void shouldCreateBatch() throws Exception {
+        when(productService.createProducts(anyList())).thenReturn(new ProductBatchResponseDTO(List.of(
+                new ProductBatchItemResultDTO(0, ProductBatchItemResultDTO.Status.CREATED, "1", null))));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.items[0].id").value("1"))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("Should answer 207 with per-item errors when part of the batch is rejected")
+    void shouldAnswerMultiStatusWhenPartOfBatchIsRejected() throws Exception {
+        when(productService.createProducts(anyList())).thenReturn(new ProductBatchResponseDTO(List.of(
+                new ProductBatchItemResultDTO(0, ProductBatchItemResultDTO.Status.CREATED, "1", null),
+                new ProductBatchItemResultDTO(1, ProductBatchItemResultDTO.Status.INVALID, null,
+                        Map.of("price", "Preço é obrigatório")))));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createRequest, new CreateProductRequestDTO()))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.items[1].errors.price").value("Preço é obrigatório"));
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void shouldRejectEmptyAndOversizedBatches() throws Exception {
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Lote deve ter entre 1 e 500 produtos"));
+
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Collections.nCopies(501, createRequest))))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).createProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("Should fetch many products by id from the query string")
+    void shouldFetchManyProductsByIdFromQueryString() throws Exception {
+        when(productService.findByIds(List.of("1", "2")))
+                .thenReturn(new ProductLookupResponseDTO(List.of(productResponse), List.of("2")));
+
+        mockMvc.perform(get("/api/products").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("1"))
+                .andExpect(jsonPath("$.missingIds[0]").value("2"));
+
+        verify(productService, never()).findAll(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should fetch many products by id from the request body")
+    void shouldFetchManyProductsByIdFromBody() throws Exception {
+        when(productService.findByIds(List.of("1")))
+                .thenReturn(new ProductLookupResponseDTO(List.of(productResponse), List.of()));
+
+        mockMvc.perform(post("/api/products/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ProductLookupRequestDTO(List.of("1")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Test Product"));
+    }
+
+    @Test
+    @DisplayName("Should reject lookups without ids or with too many ids")
+    void shouldRejectInvalidLookups() throws Exception {
+        mockMvc.perform(post("/api/products/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/products/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ProductLookupRequestDTO(Collections.nCopies(501, "1")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Informe no máximo 500 ids"));
+
+        verify(productService, never()).findByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should delete many products by id")
+    void shouldDeleteManyProductsById() throws Exception {
+        when(productService.deleteByIds(List.of("1", "2"))).thenReturn(new ProductBulkDeleteResponseDTO(1));
+
+        mockMvc.perform(delete("/api/products").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1));
+    }
+
+    @Test
+    @DisplayName("Should reserve and release stock")
+    void shouldReserveAndReleaseStock() throws Exception {
+        when(productService.reserveStock("1", 3)).thenReturn(new StockReservationResponseDTO("1", 3, 7));
+        when(productService.releaseStock("1", 3)).thenReturn(new StockReservationResponseDTO("1", 3, 10));
+
+        mockMvc.perform(post("/api/products/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new StockReservationRequestDTO(3L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productId").value("1"))
+                .andExpect(jsonPath("$.quantity").value(3))
+                .andExpect(jsonPath("$.remaining").value(7));
+
+        mockMvc.perform(post("/api/products/1/reservations/release")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new StockReservationRequestDTO(3L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.remaining").value(10));
+    }
+
+    @Test
+    @DisplayName("Should reject reservations without a positive quantity")
+    void shouldRejectReservationsWithoutPositiveQuantity() throws Exception {
+        mockMvc.perform(post("/api/products/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.quantity").value("Quantidade deve ser maior que zero"));
+
+        mockMvc.perform(post("/api/products/1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).reserveStock(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should apply a partial update guarded by If-Match and return the new ETag")
+    void shouldPatchProductWithIfMatch() throws Exception {
+        productResponse.setVersion(4L);
+        productResponse.setPrice(2990L);
+        when(productService.updateProduct(eq("1"), eq(VersionPrecondition.of(3L)), any(UpdateProductRequestDTO.class)))
+                .thenReturn(productResponse);
+
+        mockMvc.perform(patch("/api/products/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 2990}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.price").value(2990))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @DisplayName("Should answer 428 without If-Match, 400 when malformed and 412 on a stale version")
+    void shouldEnforceIfMatchOnPatch() throws Exception {
+        mockMvc.perform(patch("/api/products/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 2990}"))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.code").value("PRECONDITION_REQUIRED"));
+
+        mockMvc.perform(patch("/api/products/1")
+                        .header(HttpHeaders.IF_MATCH, "3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 2990}"))
+                .andExpect(status().isBadRequest());
+
+        when(productService.updateProduct(eq("1"), eq(VersionPrecondition.of(3L)), any(UpdateProductRequestDTO.class)))
+                .thenThrow(new ProductVersionConflictException("1", 3L, 5L));
+        mockMvc.perform(patch("/api/products/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 2990}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("VERSION_CONFLICT"))
+                .andExpect(jsonPath("$.details.currentVersion").value("5"));
+    }
+
+    @Test
+    @DisplayName("Should accept a wildcard, a list and weak tags in If-Match")
+    void shouldParseIfMatchForms() throws Exception {
+        productResponse.setVersion(6L);
+        when(productService.updateProduct(eq("1"), any(VersionPrecondition.class), any(UpdateProductRequestDTO.class)))
+                .thenReturn(productResponse);
+
+        for (String ifMatch : List.of("*", "\"2\", \"5\"", "W/\"5\", \"3\"", "W/\"5\"", "\"abc\", \"3\"")) {
+            mockMvc.perform(patch("/api/products/1")
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"price\": 2990}"))
+                    .andExpect(status().isOk());
+        }
+
+        verify(productService).updateProduct(eq("1"), eq(VersionPrecondition.any()), any());
+        verify(productService).updateProduct(eq("1"), eq(VersionPrecondition.anyOf(List.of(2L, 5L))), any());
+        verify(productService, times(2)).updateProduct(eq("1"), eq(VersionPrecondition.of(3L)), any());
+        verify(productService).updateProduct(eq("1"), eq(VersionPrecondition.anyOf(List.of())), any());
+    }
+
+    @Test
+    @DisplayName("Should validate the fields sent in a partial update")
+    void shouldRejectInvalidPatch() throws Exception {
+        mockMvc.perform(patch("/api/products/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\": 0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.price").value("Preço deve ser maior que zero"));
+
+        verify(productService, never()).updateProduct(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to a list poll with the current catalog ETag without querying")
+    void shouldAnswerNotModifiedToListPollWithCurrentEtag() throws Exception {
+        when(productService.findAll(null, 100)).thenReturn(new ProductPageResponseDTO(List.of(productResponse), null));
+
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"k3f9-12\""));
+
+        mockMvc.perform(get("/api/products").header(HttpHeaders.IF_NONE_MATCH, "\"k3f9-12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"k3f9-12\""))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/products/category/LANCHE").header(HttpHeaders.IF_NONE_MATCH, "\"k3f9-12\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, times(1)).findAll(null, 100);
+        verify(productService, never()).findByCategory(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should answer the full list when the catalog changed since the ETag sent")
+    void shouldAnswerFullListWhenCatalogChanged() throws Exception {
+        when(productService.findByCategory(CategoryEnum.LANCHE, null, 100))
+                .thenReturn(new ProductPageResponseDTO(List.of(productResponse), null));
+
+        mockMvc.perform(get("/api/products/category/LANCHE").header(HttpHeaders.IF_NONE_MATCH, "\"k3f9-11\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"k3f9-12\""))
+                .andExpect(jsonPath("$[0].id").value("1"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to a product read with its current ETag")
+    void shouldAnswerNotModifiedToProductReadWithCurrentEtag() throws Exception {
+        productResponse.setVersion(3L);
+        when(productService.findById("1")).thenReturn(Optional.of(productResponse));
+
+        mockMvc.perform(get("/api/products/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("Should create product successfully")
     void shouldCreateProductSuccessfully() throws Exception {
@@ -86,11 +376,39 @@ class ProductControllerTest {
         mockMvc.perform(get("/api/products/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value("1"))
-                .andExpect(jsonPath("$.name").value("Test Product"));
+                .andExpect(jsonPath("$.name").value("Test Product"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
 
         verify(productService, times(1)).findById("1");
     }
 
+    @Test
+    @DisplayName("Should return the changes since the token")
+    void shouldReturnChangesSinceToken() throws Exception {
+        ProductChangeFeedResponseDTO feed = new ProductChangeFeedResponseDTO(List.of(
+                new ProductChangeDTO("1", ProductChangeDTO.Type.UPSERT, null, productResponse),
+                new ProductChangeDTO("2", ProductChangeDTO.Type.DELETE, null, null)), "next", false);
+        when(productService.findChanges("token", 50)).thenReturn(feed);
+
+        mockMvc.perform(get("/api/products/changes").param("since", "token").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].type").value("UPSERT"))
+                .andExpect(jsonPath("$.changes[0].product.name").value("Test Product"))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETE"))
+                .andExpect(jsonPath("$.changes[1].product").doesNotExist())
+                .andExpect(jsonPath("$.nextToken").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(productService, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should answer 404 on the event stream when it is disabled")
+    void shouldAnswerNotFoundWhenStreamIsDisabled() throws Exception {
+        mockMvc.perform(get("/api/products/stream"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return 404 when product not found")
     void shouldReturn404WhenProductNotFound() throws Exception {
@@ -102,18 +420,33 @@ class ProductControllerTest {
         verify(productService, times(1)).findById("999");
     }
 
+    @Test
+    @DisplayName("Should answer HEAD with the existence of the product and no body")
+    void shouldAnswerHeadWithExistence() throws Exception {
+        when(productService.exists("1")).thenReturn(true);
+
+        mockMvc.perform(head("/api/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+        mockMvc.perform(head("/api/products/999"))
+                .andExpect(status().isNotFound());
+
+        verify(productService, never()).findById(anyString());
+    }
+
     @Test
     @DisplayName("Should find all products successfully")
     void shouldFindAllProductsSuccessfully() throws Exception {
         List<ProductResponseDTO> products = Arrays.asList(productResponse);
-        when(productService.findAll()).thenReturn(products);
+        when(productService.findAll(null, 100)).thenReturn(new ProductPageResponseDTO(products, null));
 
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$[0].id").value("1"))
                 .andExpect(jsonPath("$[0].name").value("Test Product"));
 
-        verify(productService, times(1)).findAll();
+        verify(productService, times(1)).findAll(null, 100);
     }
 
     @Test
@@ -130,7 +463,7 @@ class ProductControllerTest {
     @Test
     @DisplayName("Should return 404 when deleting non-existent product")
     void shouldReturn404WhenDeletingNonExistentProduct() throws Exception {
-        doThrow(new IllegalArgumentException("Product not found"))
+        doThrow(new ProductNotFoundException("999"))
                 .when(productService).deleteById("999");
 
         mockMvc.perform(delete("/api/products/999"))
@@ -143,13 +476,14 @@ class ProductControllerTest {
     @DisplayName("Should find products by category successfully")
     void shouldFindProductsByCategorySuccessfully() throws Exception {
         List<ProductResponseDTO> products = Arrays.asList(productResponse);
-        when(productService.findByCategory(CategoryEnum.LANCHE)).thenReturn(products);
+        when(productService.findByCategory(CategoryEnum.LANCHE, null, 100))
+                .thenReturn(new ProductPageResponseDTO(products, null));
 
         mockMvc.perform(get("/api/products/category/LANCHE"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].category").value("LANCHE"));
 
-        verify(productService, times(1)).findByCategory(CategoryEnum.LANCHE);
+        verify(productService, times(1)).findByCategory(CategoryEnum.LANCHE, null, 100);
     }
 
     @Test
@@ -166,6 +500,28 @@ class ProductControllerTest {
         verify(productService, times(1)).findByName("Test");
     }
 
+    @Test
+    @DisplayName("Should autocomplete with the default number of suggestions")
+    void shouldAutocompleteWithDefaultLimit() throws Exception {
+        when(productService.autocomplete("pa", 10))
+                .thenReturn(List.of(new ProductSuggestionDTO("1", "Pão de Queijo", CategoryEnum.LANCHE, 900L)));
+
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", "pa"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].name").value("Pão de Queijo"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when autocomplete prefix is blank")
+    void shouldReturnBadRequestWhenAutocompletePrefixIsBlank() throws Exception {
+        when(productService.autocomplete(" ", 3)).thenThrow(new ProductValidationException("Prefixo é obrigatório"));
+
+        mockMvc.perform(get("/api/products/autocomplete").param("prefix", " ").param("limit", "3"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should find products by category and price range successfully")
     void shouldFindProductsByCategoryAndPriceRangeSuccessfully() throws Exception {
@@ -191,14 +547,15 @@ class ProductControllerTest {
     @Test
     @DisplayName("Should return empty list when no products found")
     void shouldReturnEmptyListWhenNoProductsFound() throws Exception {
-        when(productService.findAll()).thenReturn(Collections.emptyList());
+        when(productService.findAll(null, 100))
+                .thenReturn(new ProductPageResponseDTO(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
 
-        verify(productService, times(1)).findAll();
+        verify(productService, times(1)).findAll(null, 100);
     }
 
     @Test
@@ -248,14 +605,15 @@ class ProductControllerTest {
     @Test
     @DisplayName("Should return empty list when no products in category")
     void shouldReturnEmptyListWhenNoProductsInCategory() throws Exception {
-        when(productService.findByCategory(CategoryEnum.SOBREMESA)).thenReturn(Collections.emptyList());
+        when(productService.findByCategory(CategoryEnum.SOBREMESA, null, 100))
+                .thenReturn(new ProductPageResponseDTO(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/products/category/SOBREMESA"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$").isEmpty());
 
-        verify(productService, times(1)).findByCategory(CategoryEnum.SOBREMESA);
+        verify(productService, times(1)).findByCategory(CategoryEnum.SOBREMESA, null, 100);
     }
 
     @Test
@@ -283,14 +641,14 @@ class ProductControllerTest {
                                      CategoryEnum.ACOMPANHAMENTO, CategoryEnum.SOBREMESA};
         
         for (CategoryEnum category : categories) {
-            when(productService.findByCategory(category))
-                    .thenReturn(Collections.singletonList(productResponse));
+            when(productService.findByCategory(category, null, 100))
+                    .thenReturn(new ProductPageResponseDTO(Collections.singletonList(productResponse), null));
 
             mockMvc.perform(get("/api/products/category/" + category.name()))
                     .andExpect(status().isOk());
         }
 
-        verify(productService, times(4)).findByCategory(any(CategoryEnum.class));
+        verify(productService, times(4)).findByCategory(any(CategoryEnum.class), isNull(), eq(100));
     }
 
     @Test
@@ -330,4 +688,71 @@ class ProductControllerTest {
 
         verify(productService, times(1)).createProduct(any(CreateProductRequestDTO.class));
     }
+
+    @Test
+    @DisplayName("Should expose next cursor header when there are more products")
+    void shouldExposeNextCursorHeaderWhenThereAreMoreProducts() throws Exception {
+        when(productService.findAll("abc", 2))
+                .thenReturn(new ProductPageResponseDTO(Arrays.asList(productResponse, productResponse), "def"));
+
+        mockMvc.perform(get("/api/products")
+                        .param("cursor", "abc")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(jsonPath("$.length()").value(2));
+
+        verify(productService, times(1)).findAll("abc", 2);
+    }
+
+    @Test
+    @DisplayName("Should cap page size at the configured maximum")
+    void shouldCapPageSizeAtConfiguredMaximum() throws Exception {
+        when(productService.findByCategory(CategoryEnum.BEBIDA, null, 500))
+                .thenReturn(new ProductPageResponseDTO(Collections.emptyList(), null));
+
+        mockMvc.perform(get("/api/products/category/BEBIDA")
+                        .param("limit", "10000"))
+                .andExpect(status().isOk());
+
+        verify(productService, times(1)).findByCategory(CategoryEnum.BEBIDA, null, 500);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is invalid")
+    void shouldReturn400WhenCursorIsInvalid() throws Exception {
+        when(productService.findAll("invalid", 100))
+                .thenThrow(new ProductValidationException("Cursor de paginação inválido"));
+
+        mockMvc.perform(get("/api/products")
+                        .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cursor de paginação inválido"));
+    }
+
+    @Test
+    @DisplayName("Should stream catalog export as NDJSON")
+    void shouldStreamCatalogExportAsNdjson() throws Exception {
+        ProductResponseDTO second = new ProductResponseDTO();
+        second.setId("2");
+        second.setName("Refrigerante");
+        doAnswer(invocation -> {
+            Consumer<ProductResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(productResponse);
+            consumer.accept(second);
+            return null;
+        }).when(productService).exportAll(any());
+
+        MvcResult result = mockMvc.perform(get("/api/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        objectMapper.writeValueAsString(productResponse) + "\n"
+                                + objectMapper.writeValueAsString(second) + "\n"));
+    }
 }
@@ -0,0 +1,26 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.ProductQueryPlanInspector;
+import com.fiap.techchallenge.productmicroservice.infrastructure.persistence.QueryPlanReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryPlanEndpointTest {
+
+    @Test
+    @DisplayName("Should expose the reports of the query plan inspector")
+    void shouldExposeInspectorReports() {
+        ProductQueryPlanInspector inspector = mock(ProductQueryPlanInspector.class);
+        QueryPlanReport report = new QueryPlanReport("findByCategory", List.of("FETCH", "IXSCAN"),
+                "category_price_id", false, 2, 2, 2);
+        when(inspector.inspect()).thenReturn(List.of(report));
+
+        assertThat(new QueryPlanEndpoint(inspector).queryPlans()).containsExactly(report);
+    }
+}
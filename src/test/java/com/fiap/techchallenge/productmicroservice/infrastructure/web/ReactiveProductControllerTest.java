@@ -0,0 +1,121 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.services.ReactiveProductService;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.domain.exceptions.ProductValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = ReactiveProductController.class)
+class ReactiveProductControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveProductService productService;
+
+    private ProductResponseDTO first;
+    private ProductResponseDTO second;
+
+    @BeforeEach
+    void setUp() {
+        first = product("1", "X-Burger");
+        second = product("2", "X-Salada");
+    }
+
+    @Test
+    @DisplayName("Should stream all products as a JSON array")
+    void shouldStreamAllProductsAsJsonArray() {
+        when(productService.findAll()).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/products")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].name").isEqualTo("X-Salada");
+    }
+
+    @Test
+    @DisplayName("Should stream one product per line when NDJSON is requested")
+    void shouldStreamNdjson() {
+        when(productService.findByCategory(CategoryEnum.LANCHE)).thenReturn(Flux.just(first, second));
+
+        webTestClient.get().uri("/api/products/category/LANCHE")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(ProductResponseDTO.class).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should return the product with its ETag, or 404 when it does not exist")
+    void shouldFindById() {
+        when(productService.findById("1")).thenReturn(Mono.just(first));
+        when(productService.findById("9")).thenReturn(Mono.empty());
+
+        webTestClient.get().uri("/api/products/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody().jsonPath("$.name").isEqualTo("X-Burger");
+        webTestClient.get().uri("/api/products/1")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified();
+        webTestClient.get().uri("/api/products/9")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should map validation errors signalled by the stream to 400")
+    void shouldMapValidationErrors() {
+        when(productService.findByCategoryAndPriceRange(CategoryEnum.LANCHE, 3000L, 1000L))
+                .thenReturn(Flux.error(new ProductValidationException("Preço mínimo não pode ser maior que o preço máximo")));
+
+        webTestClient.get().uri("/api/products/category/LANCHE/price-range?minPrice=3000&maxPrice=1000")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("VALIDATION_ERROR")
+                .jsonPath("$.message").isEqualTo("Preço mínimo não pode ser maior que o preço máximo");
+    }
+
+    @Test
+    @DisplayName("Should keep WebFlux status errors instead of turning them into 500")
+    void shouldKeepStatusErrors() {
+        webTestClient.post().uri("/api/products")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.METHOD_NOT_ALLOWED)
+                .expectBody().jsonPath("$.code").isEqualTo("METHOD_NOT_ALLOWED");
+        webTestClient.get().uri("/api/products/search")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("BAD_REQUEST");
+    }
+
+    private static ProductResponseDTO product(String id, String name) {
+        ProductResponseDTO product = new ProductResponseDTO();
+        product.setId(id);
+        product.setName(name);
+        product.setCategory(CategoryEnum.LANCHE);
+        product.setVersion(3L);
+        return product;
+    }
+}
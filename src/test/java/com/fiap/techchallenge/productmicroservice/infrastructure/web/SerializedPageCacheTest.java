@@ -0,0 +1,103 @@
+package com.fiap.techchallenge.productmicroservice.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductPageResponseDTO;
+import com.fiap.techchallenge.productmicroservice.application.dto.ProductResponseDTO;
+import com.fiap.techchallenge.productmicroservice.domain.entities.CategoryEnum;
+import com.fiap.techchallenge.productmicroservice.infrastructure.cache.CatalogVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SerializedPageCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogVersion catalogVersion;
+    private SerializedPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogVersion = mock(CatalogVersion.class);
+        when(catalogVersion.etag()).thenReturn("\"a-1\"");
+        cache = new SerializedPageCache(catalogVersion, ProductController.pageWriter(new ObjectMapper()), 1_000_000,
+                true, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serialize a page once per catalog version")
+    void shouldSerializePageOncePerVersion() {
+        SerializedPage first = cache.get("\"a-1\"", CategoryEnum.LANCHE, null, 10, loader("X-Burger", "abc"));
+        SerializedPage second = cache.get("\"a-1\"", CategoryEnum.LANCHE, null, 10, loader("X-Burger", "abc"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"name\":\"X-Burger\"");
+        assertThat(first.nextCursor()).isEqualTo("abc");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", SerializedPageCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop every page read under an older catalog version")
+    void shouldDropPagesOfOlderVersions() {
+        cache.get("\"a-1\"", CategoryEnum.LANCHE, null, 10, loader("X-Burger", null));
+        cache.get("\"a-1\"", null, null, 10, loader("X-Burger", null));
+        when(catalogVersion.etag()).thenReturn("\"a-2\"");
+
+        SerializedPage updated = cache.get("\"a-2\"", CategoryEnum.LANCHE, null, 10, loader("X-Salada", null));
+
+        assertThat(new String(updated.json(), StandardCharsets.UTF_8)).contains("X-Salada");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should answer a request that read an older version without dropping the newer pages")
+    void shouldNotMoveVersionBack() {
+        when(catalogVersion.etag()).thenReturn("\"b\"");
+        SerializedPage current = cache.get("\"b\"", null, null, 10, loader("X-Salada", null));
+
+        SerializedPage stale = cache.get("\"a-1\"", null, null, 10, loader("X-Burger", null));
+
+        assertThat(new String(stale.json(), StandardCharsets.UTF_8)).contains("X-Burger");
+        assertThat(cache.get("\"b\"", null, null, 10, loader("X-Salada", null))).isSameAs(current);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a gzipped copy of the same body")
+    void shouldKeepGzippedCopy() throws IOException {
+        SerializedPage page = cache.get("\"a-1\"", null, "cursor", 10, loader("X-Burger", null));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(page.json());
+        }
+        assertThat(cache.isGzip()).isTrue();
+    }
+
+    private Supplier<ProductPageResponseDTO> loader(String name, String nextCursor) {
+        return () -> {
+            loads.incrementAndGet();
+            ProductResponseDTO product = new ProductResponseDTO();
+            product.setId("1");
+            product.setName(name);
+            return new ProductPageResponseDTO(List.of(product), nextCursor);
+        };
+    }
+}